@@ -0,0 +1,44 @@
+package com.example.TaskManagement.benchmark;
+
+import com.example.TaskManagement.TaskManagementApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Starts the application against its own in-memory H2 database in MySQL mode,
+ * with SQL logging and Hibernate statistics off.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String databaseName, Map<String, Object> overrides) {
+        return start(databaseName, overrides, WebApplicationType.NONE);
+    }
+
+    /**
+     * With {@link WebApplicationType#SERVLET} Tomcat listens on a random port, see
+     * {@code local.server.port}.
+     */
+    static ConfigurableApplicationContext start(String databaseName, Map<String, Object> overrides,
+                                                WebApplicationType webApplicationType) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:" + databaseName + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.properties.hibernate.generate_statistics", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("server.port", "0");
+        properties.putAll(overrides);
+
+        return new SpringApplicationBuilder(TaskManagementApplication.class)
+                .web(webApplicationType)
+                .properties(properties)
+                .run();
+    }
+}
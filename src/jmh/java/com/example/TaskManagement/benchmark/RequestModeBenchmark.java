@@ -0,0 +1,116 @@
+package com.example.TaskManagement.benchmark;
+
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP load against the running application with Tomcat on platform threads versus
+ * virtual threads, behind the same Hikari pool and admission guard. SampleTime
+ * reports p99 latency; the {@code ok}/{@code rejected} counters show how many
+ * requests the admission guard shed with 503.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(256)
+@Fork(1)
+public class RequestModeBenchmark {
+
+    private static final int TASKS = 500;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private String baseUrl;
+    private final List<UUID> taskIds = new ArrayList<>();
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Outcomes {
+        public long ok;
+        public long rejected;
+
+        void record(int status) {
+            if (status == 503) {
+                rejected++;
+            } else {
+                ok++;
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void startServer() {
+        context = BenchmarkApplication.start("request-mode-" + threads,
+                Map.of("spring.threads.virtual.enabled", String.valueOf("virtual".equals(threads))),
+                WebApplicationType.SERVLET);
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        UserService userService = context.getBean(UserService.class);
+        TaskService taskService = context.getBean(TaskService.class);
+        UUID userId = userService.createUser(
+                new CreateUserRequestDto("Load User", "load@example.com", Role.DEVELOPER)).getId();
+        for (int i = 0; i < TASKS; i++) {
+            taskIds.add(taskService.createTask(new CreateTaskRequestDto("Load task " + i, "Seeded", userId, userId,
+                    Priority.values()[i % Priority.values().length], LocalDate.now().plusDays(i % 30),
+                    List.of("load", "tag-" + i % 10))).getId());
+        }
+
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        clientExecutor.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int getTask(Outcomes outcomes) throws IOException, InterruptedException {
+        UUID id = taskIds.get(ThreadLocalRandom.current().nextInt(taskIds.size()));
+        return send("/api/tasks/" + id, outcomes);
+    }
+
+    @Benchmark
+    public int searchPage(Outcomes outcomes) throws IOException, InterruptedException {
+        return send("/api/tasks/search?statuses=OPEN&anyTags=tag-3,tag-4&limit=20", outcomes);
+    }
+
+    private int send(String path, Outcomes outcomes) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        outcomes.record(status);
+        return status;
+    }
+}
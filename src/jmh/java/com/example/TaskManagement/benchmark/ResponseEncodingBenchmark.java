@@ -0,0 +1,150 @@
+package com.example.TaskManagement.benchmark;
+
+import com.example.TaskManagement.converter.TaskConverter;
+import com.example.TaskManagement.dto.CursorPageResponseDto;
+import com.example.TaskManagement.dto.TaskResponseDto;
+import com.example.TaskManagement.dto.TaskSummaryDto;
+import com.example.TaskManagement.dto.TaskVersionResponseDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.model.User;
+import com.example.TaskManagement.pagination.KeysetPage;
+import com.example.TaskManagement.web.BinaryEncodingConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.cbor.CBORWriteFeature;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding a full page of each list payload as JSON and as the binary
+ * encodings of {@code BinaryEncodingConfiguration}. {@code cbor-stringref} is CBOR with
+ * {@code spring.jackson.cbor.write.stringref=true}. Payload sizes are logged at the
+ * start of each trial.
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseEncodingBenchmark {
+
+    private static final int USERS = 10;
+
+    @Param({"json", "cbor", "cbor-stringref", "smile"})
+    private String format;
+
+    @Param({"tasks", "summaries", "history"})
+    private String payload;
+
+    private ObjectMapper mapper;
+    private Object body;
+    private JavaType type;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        mapper = switch (format) {
+            case "json" -> JsonMapper.builder().build();
+            case "cbor" -> CBORMapper.builder().build();
+            case "cbor-stringref" -> CBORMapper.builder().enable(CBORWriteFeature.STRINGREF).build();
+            case "smile" -> new BinaryEncodingConfiguration().smileMapper();
+            default -> throw new IllegalArgumentException(format);
+        };
+
+        List<Task> tasks = tasks(KeysetPage.DEFAULT_LIMIT);
+        switch (payload) {
+            case "tasks" -> {
+                body = new CursorPageResponseDto<>(tasks.stream().map(TaskConverter::toTaskRespone).toList(),
+                        KeysetPage.DEFAULT_LIMIT, "next-page-cursor");
+                type = mapper.getTypeFactory().constructParametricType(CursorPageResponseDto.class,
+                        TaskResponseDto.class);
+            }
+            case "summaries" -> {
+                body = new CursorPageResponseDto<>(tasks.stream().map(TaskConverter::toTaskSummary).toList(),
+                        KeysetPage.DEFAULT_LIMIT, "next-page-cursor");
+                type = mapper.getTypeFactory().constructParametricType(CursorPageResponseDto.class,
+                        TaskSummaryDto.class);
+            }
+            case "history" -> {
+                body = history(tasks.getFirst(), KeysetPage.DEFAULT_LIMIT);
+                type = mapper.getTypeFactory().constructCollectionType(List.class, TaskVersionResponseDto.class);
+            }
+            default -> throw new IllegalArgumentException(payload);
+        }
+
+        encoded = mapper.writeValueAsBytes(body);
+        log.info("{} as {}: {} bytes", payload, format, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return mapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return mapper.readValue(encoded, type);
+    }
+
+    private static List<Task> tasks(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(user("user-" + i));
+        }
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setId(UUID.randomUUID());
+            task.setVersion(1 + i % 5);
+            task.setTitle("Benchmark task " + i);
+            task.setDescription("Listed by service clients; the description is a sentence or two long " + i);
+            task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            task.setPriority(Priority.values()[i % Priority.values().length]);
+            task.setCreatedBy(users.get(i % USERS));
+            task.setAssignedTo(users.get((i + 3) % USERS));
+            task.setDueDate(LocalDate.now().plusDays(i % 30));
+            task.setCreatedAt(LocalDateTime.now().minusHours(i));
+            task.setUpdatedAt(LocalDateTime.now());
+            task.getTags().addAll(List.of("backend", "tag-" + i % 7, "sprint-" + i % 3));
+            task.setCommentCount(i % 4);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static List<TaskVersionResponseDto> history(Task task, int versions) {
+        List<TaskVersionResponseDto> history = new ArrayList<>();
+        for (int version = 1; version <= versions; version++) {
+            history.add(new TaskVersionResponseDto(UUID.randomUUID(), version, task.getTitle(),
+                    task.getDescription(), TaskStatus.values()[version % TaskStatus.values().length],
+                    task.getPriority(), task.getCreatedBy().getId(), task.getAssignedTo().getId(),
+                    task.getDueDate(), task.getTags(), task.getCreatedAt().plusMinutes(version),
+                    "Status changed"));
+        }
+        return history;
+    }
+
+    private static User user(String name) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setName(name);
+        user.setEmail(name + "@example.com");
+        user.setRole(Role.DEVELOPER);
+        user.setActive(true);
+        return user;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.TaskManagement.benchmark;
+
+import com.example.TaskManagement.converter.TaskConverter;
+import com.example.TaskManagement.dto.TaskResponseDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building a full task response as the tag count grows. Comments only
+ * contribute their stored count, however many the task has.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskConverterBenchmark {
+
+    @Param({"0", "5", "50"})
+    private int tags;
+
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        User creator = user("creator");
+        User assignee = user("assignee");
+
+        task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle("Benchmark task");
+        task.setDescription("Converted on every read");
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setPriority(Priority.HIGH);
+        task.setCreatedBy(creator);
+        task.setAssignedTo(assignee);
+        task.setDueDate(LocalDate.now().plusDays(7));
+        task.setCreatedAt(LocalDateTime.now());
+        task.setUpdatedAt(LocalDateTime.now());
+        for (int i = 0; i < tags; i++) {
+            task.getTags().add("tag-" + i);
+        }
+        task.setCommentCount(100);
+    }
+
+    @Benchmark
+    public TaskResponseDto toTaskResponse() {
+        return TaskConverter.toTaskRespone(task);
+    }
+
+    private static User user(String name) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setName(name);
+        user.setEmail(name + "@example.com");
+        user.setRole(Role.DEVELOPER);
+        user.setActive(true);
+        return user;
+    }
+}
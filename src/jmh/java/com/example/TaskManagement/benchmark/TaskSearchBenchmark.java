@@ -0,0 +1,149 @@
+package com.example.TaskManagement.benchmark;
+
+import com.example.TaskManagement.dto.TaskSearchCriteriaDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TagMatch;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.pagination.KeysetPage;
+import com.example.TaskManagement.pagination.TaskSort;
+import com.example.TaskManagement.projection.TaskFields;
+import com.example.TaskManagement.projection.TaskRow;
+import com.example.TaskManagement.service.TaskReader;
+import com.example.TaskManagement.service.TaskSearchService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First and deep keyset pages of the main search queries over a seeded tasks table.
+ * The tag index is disabled so tag searches measure the SQL path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class TaskSearchBenchmark {
+
+    private static final int USERS = 50;
+    private static final int PAGE = 50;
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskSearchService taskSearchService;
+    private UUID assigneeId;
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        context = BenchmarkApplication.start("search-benchmark-" + rows,
+                Map.of("task.tag-index.enabled", "false"));
+        taskSearchService = context.getBean(TaskSearchService.class);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+
+        jdbc.execute("CREATE TABLE bench_users (n INT PRIMARY KEY, id UUID)");
+        jdbc.update("INSERT INTO users (id, name, email, role, active, created_at, updated_at) " +
+                "SELECT RANDOM_UUID(), 'User ' || r.n, 'user' || r.n || '@example.com', 'DEVELOPER', TRUE, " +
+                "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM " + range(USERS) + " r");
+        jdbc.update("INSERT INTO bench_users SELECT ROW_NUMBER() OVER (ORDER BY id) - 1, id FROM users");
+
+        jdbc.update("INSERT INTO tasks (id, version, title, description, status, priority, created_by, assigned_to, " +
+                "due_date, created_at, updated_at, comment_count) " +
+                "SELECT RANDOM_UUID(), 1, 'Task ' || r.n, 'Seeded', " +
+                "CASEWHEN(MOD(r.n, 4) = 0, 'OPEN', CASEWHEN(MOD(r.n, 4) = 1, 'IN_PROGRESS', CASEWHEN(MOD(r.n, 4) = 2, 'COMPLETED', 'CANCELLED'))), " +
+                "CASEWHEN(MOD(r.n, 5) = 0, 'CRITICAL', CASEWHEN(MOD(r.n, 5) = 1, 'HIGH', CASEWHEN(MOD(r.n, 5) = 2, 'LOW', 'MEDIUM'))), " +
+                "c.id, CASEWHEN(MOD(r.n, 3) = 0, NULL, a.id), " +
+                "CASEWHEN(MOD(r.n, 5) = 0, NULL, DATEADD('DAY', MOD(r.n, 120) - 60, CURRENT_DATE)), " +
+                "DATEADD('SECOND', -r.n, CURRENT_TIMESTAMP), DATEADD('SECOND', -r.n, CURRENT_TIMESTAMP), 0 " +
+                "FROM " + range(rows) + " r " +
+                "JOIN bench_users c ON c.n = MOD(r.n, " + USERS + ") " +
+                "JOIN bench_users a ON a.n = MOD(r.n * 7, " + USERS + ")");
+        jdbc.update("INSERT INTO task_tags (task_id, tag) " +
+                "SELECT id, 'tag-' || MOD(CAST(SUBSTRING(title, 6) AS INT), 20) FROM tasks");
+        jdbc.update("INSERT INTO task_tags (task_id, tag) " +
+                "SELECT id, 'area-' || MOD(CAST(SUBSTRING(title, 6) AS INT), 7) FROM tasks");
+
+        assigneeId = jdbc.queryForObject("SELECT id FROM bench_users WHERE n = 1", UUID.class);
+
+        String cursor = null;
+        for (int i = 0; i < 20; i++) {
+            cursor = taskSearchService.getAllTasksByStatus(TaskStatus.OPEN, TaskReader.entities(), cursor, PAGE)
+                    .getNextCursor();
+        }
+        deepCursor = cursor;
+    }
+
+    /**
+     * Rows numbered 1..count. H2's SYSTEM_RANGE names its column "X", which
+     * DATABASE_TO_LOWER hides from unquoted SQL.
+     */
+    private static String range(int count) {
+        return "(SELECT \"X\" AS n FROM SYSTEM_RANGE(1, " + count + "))";
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public KeysetPage<Task> byStatusFirstPage() {
+        return taskSearchService.getAllTasksByStatus(TaskStatus.OPEN, TaskReader.entities(), null, PAGE);
+    }
+
+    /**
+     * The same page read as the board's summary projection.
+     */
+    @Benchmark
+    public KeysetPage<TaskRow> byStatusFirstPageSummary() {
+        return taskSearchService.getAllTasksByStatus(TaskStatus.OPEN, TaskReader.rows(TaskFields.SUMMARY), null, PAGE);
+    }
+
+    @Benchmark
+    public KeysetPage<Task> byStatusPage21() {
+        return taskSearchService.getAllTasksByStatus(TaskStatus.OPEN, TaskReader.entities(), deepCursor, PAGE);
+    }
+
+    @Benchmark
+    public KeysetPage<Task> assignedTo() {
+        return taskSearchService.getAllTasksAssignedTo(assigneeId, TaskReader.entities(), null, PAGE);
+    }
+
+    @Benchmark
+    public KeysetPage<Task> overdue() {
+        return taskSearchService.getAllOverdueTasks(TaskReader.entities(), null, PAGE);
+    }
+
+    @Benchmark
+    public KeysetPage<Task> sortedByPriority() {
+        return taskSearchService.getAllTasksSortedByPriority(TaskReader.entities(), null, PAGE);
+    }
+
+    @Benchmark
+    public KeysetPage<Task> allTags() {
+        return taskSearchService.getTasksWithTags(List.of("tag-3", "area-3"), TagMatch.ALL,
+                TaskReader.entities(), null, PAGE);
+    }
+
+    @Benchmark
+    public KeysetPage<Task> combinedCriteria() {
+        TaskSearchCriteriaDto criteria = new TaskSearchCriteriaDto();
+        criteria.setStatuses(List.of(TaskStatus.OPEN, TaskStatus.IN_PROGRESS));
+        criteria.setPriorities(List.of(Priority.HIGH, Priority.CRITICAL));
+        criteria.setAnyTags(List.of("tag-1", "tag-2"));
+        criteria.setDueFrom(LocalDate.now().minusDays(30));
+        criteria.setDueTo(LocalDate.now().plusDays(30));
+        criteria.setSort(TaskSort.DUE_DATE_ASC);
+        return taskSearchService.search(criteria, TaskReader.entities(), null, PAGE);
+    }
+}
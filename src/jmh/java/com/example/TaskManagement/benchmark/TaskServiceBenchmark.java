@@ -0,0 +1,72 @@
+package com.example.TaskManagement.benchmark;
+
+import com.example.TaskManagement.dto.*;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end mutation cost through {@link TaskService}: validation, the task write,
+ * its version and activity event, counters and the tag index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private UUID userId;
+    private UUID taskId;
+    private TaskStatus nextStatus = TaskStatus.CANCELLED;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkApplication.start("service-benchmark", Map.of());
+        taskService = context.getBean(TaskService.class);
+
+        UserService userService = context.getBean(UserService.class);
+        userId = userService.createUser(
+                new CreateUserRequestDto("Bench User", "bench@example.com", Role.DEVELOPER)).getId();
+        taskId = taskService.createTask(newTask()).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskResponseDto createTask() {
+        return taskService.createTask(newTask());
+    }
+
+    /**
+     * Alternates OPEN and CANCELLED, the one valid transition cycle.
+     */
+    @Benchmark
+    public TaskResponseDto updateTaskStatus() {
+        TaskResponseDto response = taskService.updateTaskStatus(
+                taskId, new UpdateTaskStatusRequestDto(nextStatus), userId, null);
+        nextStatus = nextStatus == TaskStatus.CANCELLED ? TaskStatus.OPEN : TaskStatus.CANCELLED;
+        return response;
+    }
+
+    private CreateTaskRequestDto newTask() {
+        return new CreateTaskRequestDto("Benchmark task", "Created by the benchmark", userId, userId,
+                Priority.MEDIUM, LocalDate.now().plusDays(14), List.of("benchmark", "jmh"));
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.TaskManagement.activity;
+
+import com.example.TaskManagement.pagination.UuidOrder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Archived activity months on local disk: one directory per month, holding
+ * gzip-compressed NDJSON files bucketed by task id so reading one task's history only
+ * decompresses a sixteenth of the month.
+ *
+ * <p>Each export writes new files under a temporary name and renames them when
+ * complete, so a crash mid-export leaves nothing readable behind and a month exported
+ * twice is deduplicated by event id on read.
+ */
+@Slf4j
+@Component
+public class ActivityArchive {
+
+    private static final int BUCKETS = 16;
+    private static final String SUFFIX = ".ndjson.gz";
+
+    private final Path root;
+    private final ObjectMapper objectMapper;
+
+    public ActivityArchive(ActivityRetentionProperties properties, ObjectMapper objectMapper) {
+        this.root = properties.getArchivePath();
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes {@code events} as a new export of {@code month} and returns how many were written.
+     */
+    public long write(YearMonth month, Stream<ArchivedActivityEvent> events) {
+        Path dir = root.resolve(month.toString());
+        String export = Long.toString(System.currentTimeMillis());
+        Map<Integer, BucketWriter> writers = new HashMap<>();
+        long written = 0;
+        try {
+            Iterator<ArchivedActivityEvent> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                ArchivedActivityEvent event = iterator.next();
+                int bucket = bucketOf(event.taskId());
+                BucketWriter writer = writers.get(bucket);
+                if (writer == null) {
+                    Files.createDirectories(dir);
+                    writer = new BucketWriter(dir.resolve("bucket-" + bucket + "-" + export + SUFFIX));
+                    writers.put(bucket, writer);
+                }
+                writer.write(objectMapper.writeValueAsString(event));
+                written++;
+            }
+            for (BucketWriter writer : writers.values()) {
+                writer.commit();
+            }
+            return written;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot archive activity for " + month, ex);
+        } finally {
+            writers.values().forEach(BucketWriter::discard);
+        }
+    }
+
+    /**
+     * Archived months, newest first.
+     */
+    public List<YearMonth> months() {
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> dirs = Files.list(root)) {
+            return dirs.filter(Files::isDirectory)
+                    .map(dir -> dir.getFileName().toString())
+                    .filter(name -> name.matches("\\d{4}-\\d{2}"))
+                    .map(YearMonth::parse)
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot list activity archive " + root, ex);
+        }
+    }
+
+    /**
+     * Events of one task in an archived month, in feed order: newest first, ties by
+     * descending id as the database orders it.
+     */
+    public List<ArchivedActivityEvent> read(YearMonth month, UUID taskId) {
+        Path dir = root.resolve(month.toString());
+        String prefix = "bucket-" + bucketOf(taskId) + "-";
+        Map<UUID, ArchivedActivityEvent> events = new HashMap<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().startsWith(prefix)
+                    && f.getFileName().toString().endsWith(SUFFIX)).toList()) {
+                readFile(file, taskId, events);
+            }
+        } catch (NoSuchFileException ex) {
+            return List.of();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot read activity archive " + dir, ex);
+        }
+        return events.values().stream()
+                .sorted(Comparator.comparing(ArchivedActivityEvent::timestamp)
+                        .thenComparing(ArchivedActivityEvent::id, UuidOrder.AS_STORED)
+                        .reversed())
+                .toList();
+    }
+
+    private void readFile(Path file, UUID taskId, Map<UUID, ArchivedActivityEvent> events) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    ArchivedActivityEvent event = objectMapper.readValue(line, ArchivedActivityEvent.class);
+                    if (taskId.equals(event.taskId())) {
+                        events.putIfAbsent(event.id(), event);
+                    }
+                } catch (JacksonException ex) {
+                    log.warn("Skipping unreadable archived activity in {}: {}", file, ex.getOriginalMessage());
+                }
+            }
+        }
+    }
+
+    private static int bucketOf(UUID taskId) {
+        return Math.floorMod(taskId.hashCode(), BUCKETS);
+    }
+
+    private static final class BucketWriter {
+
+        private final Path target;
+        private final Path temp;
+        private final FileOutputStream file;
+        private final GZIPOutputStream gzip;
+        private final Writer writer;
+        private boolean committed;
+
+        BucketWriter(Path target) throws IOException {
+            this.target = target;
+            this.temp = target.resolveSibling(target.getFileName() + ".tmp");
+            this.file = new FileOutputStream(temp.toFile());
+            this.gzip = new GZIPOutputStream(file, 64 * 1024);
+            this.writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8));
+        }
+
+        void write(String line) throws IOException {
+            writer.write(line);
+            writer.write('\n');
+        }
+
+        /**
+         * Synced to disk before the rename, since the rows are dropped from the database next.
+         */
+        void commit() throws IOException {
+            writer.flush();
+            gzip.finish();
+            file.getFD().sync();
+            writer.close();
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+        }
+
+        void discard() {
+            if (committed) {
+                return;
+            }
+            try {
+                writer.close();
+                Files.deleteIfExists(temp);
+            } catch (IOException ex) {
+                log.warn("Cannot remove partial archive file {}", temp, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.TaskManagement.activity;
+
+import com.example.TaskManagement.repository.ActivityEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.stream.Stream;
+
+/**
+ * Keeps {@code activity_events} bounded: moves every month older than
+ * {@code task.activity.retention} into the {@link ActivityArchive} before removing it
+ * from the database, and once the table has been partitioned by
+ * {@link ActivityPartitioning}, creates month partitions ahead of time. Runs on
+ * whichever instance holds the {@link MaintenanceLease}.
+ */
+@Slf4j
+@Component
+public class ActivityArchiver {
+
+    static final String LEASE = "activity-maintenance";
+
+    private final ActivityEventRepository activityEventRepository;
+    private final ActivityPartitions partitions;
+    private final ActivityArchive archive;
+    private final MaintenanceLease lease;
+    private final ActivityRetentionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archivedCounter;
+
+    public ActivityArchiver(ActivityEventRepository activityEventRepository,
+                            ActivityPartitions partitions,
+                            ActivityArchive archive,
+                            MaintenanceLease lease,
+                            ActivityRetentionProperties properties,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry) {
+        this.activityEventRepository = activityEventRepository;
+        this.partitions = partitions;
+        this.archive = archive;
+        this.lease = lease;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.archivedCounter = Counter.builder("task.activity.archived")
+                .description("Activity events moved to the archive")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "PT1M", fixedDelayString = "${task.activity.maintenance-interval:6h}")
+    public void maintain() {
+        if (!lease.tryAcquire(LEASE, properties.getMaintenanceLease())) {
+            log.debug("Activity event maintenance is running on another instance");
+            return;
+        }
+        try {
+            if (isPartitioned()) {
+                partitions.extendThrough(YearMonth.now().plusMonths(properties.getPartitionsAhead()));
+            }
+            archiveExpired();
+        } catch (RuntimeException ex) {
+            log.error("Activity event maintenance failed", ex);
+        } finally {
+            lease.release(LEASE);
+        }
+    }
+
+    /**
+     * Archives every month that ended before the retention cutoff, oldest first.
+     */
+    public void archiveExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        LocalDateTime oldest = activityEventRepository.findOldestTimestamp();
+        if (oldest == null) {
+            return;
+        }
+        for (YearMonth month = YearMonth.from(oldest); !endOf(month).isAfter(cutoff); month = month.plusMonths(1)) {
+            archive(month);
+        }
+    }
+
+    /**
+     * The rows are only removed once the archive files are synced and renamed into place.
+     */
+    private void archive(YearMonth month) {
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = endOf(month);
+        Long written = transactionTemplate.execute(status -> {
+            try (Stream<ArchivedActivityEvent> events = activityEventRepository.streamArchivable(from, to)) {
+                return archive.write(month, events);
+            }
+        });
+
+        boolean dropped = isPartitioned() && partitions.drop(month);
+        if (!dropped) {
+            transactionTemplate.executeWithoutResult(status ->
+                    activityEventRepository.deleteByTimestampRange(from, to));
+        }
+        long count = written != null ? written : 0;
+        archivedCounter.increment(count);
+        log.info("Archived {} activity events for {}", count, month);
+    }
+
+    private boolean isPartitioned() {
+        return partitions.isSupported() && !partitions.months().isEmpty();
+    }
+
+    private static LocalDateTime endOf(YearMonth month) {
+        return month.plusMonths(1).atDay(1).atStartOfDay();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.TaskManagement.activity;
+
+import com.example.TaskManagement.repository.ActivityEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * One-off conversion of {@code activity_events} into month partitions on MySQL. Run
+ * once with {@code --task.activity.partition-on-startup=true}, ideally off-peak, as it
+ * rebuilds the table. It holds the activity maintenance lease meanwhile, so no
+ * instance archives or adds partitions halfway through, and does nothing once the
+ * table is partitioned. After that the scheduled maintenance keeps partitions ahead
+ * and drops expired months.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "task.activity.partition-on-startup", havingValue = "true")
+public class ActivityPartitioning implements ApplicationRunner {
+
+    private final ActivityPartitions partitions;
+    private final ActivityEventRepository activityEventRepository;
+    private final MaintenanceLease lease;
+    private final ActivityRetentionProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!partitions.isSupported()) {
+            log.warn("activity_events can only be partitioned on MySQL; leaving it as a single table");
+            return;
+        }
+        if (!partitions.months().isEmpty()) {
+            log.info("activity_events is already partitioned");
+            return;
+        }
+        if (!lease.tryAcquire(ActivityArchiver.LEASE, properties.getMaintenanceLease())) {
+            throw new IllegalStateException("Activity maintenance is running on another instance; retry the partitioning later");
+        }
+        try {
+            LocalDateTime oldest = activityEventRepository.findOldestTimestamp();
+            partitions.partition(oldest != null ? YearMonth.from(oldest) : YearMonth.now(),
+                    YearMonth.now().plusMonths(properties.getPartitionsAhead()));
+        } finally {
+            lease.release(ActivityArchiver.LEASE);
+        }
+    }
+}
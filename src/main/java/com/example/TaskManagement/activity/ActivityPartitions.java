@@ -0,0 +1,117 @@
+package com.example.TaskManagement.activity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Monthly RANGE COLUMNS partitions of {@code activity_events} on MySQL. Each month
+ * {@code pYYYYMM} holds rows before the first of the next month, and {@code pfuture}
+ * catches anything beyond the months created so far.
+ *
+ * <p>MySQL requires the partitioning column in every unique key and allows no foreign
+ * keys on partitioned tables, so converting the table widens the primary key to
+ * {@code (id, timestamp)} and drops the {@code performed_by} foreign key.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityPartitions {
+
+    private static final String TABLE = "activity_events";
+    private static final String FUTURE = "pfuture";
+    private static final DateTimeFormatter NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean supported;
+
+    public boolean isSupported() {
+        if (supported == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            supported = "MySQL".equalsIgnoreCase(product);
+        }
+        return supported;
+    }
+
+    /**
+     * Month partitions currently present, oldest first.
+     */
+    public List<YearMonth> months() {
+        return jdbcTemplate.queryForList(
+                        "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION", String.class, TABLE).stream()
+                .filter(name -> !FUTURE.equals(name))
+                .map(name -> YearMonth.parse(name, NAME))
+                .toList();
+    }
+
+    /**
+     * One-off conversion of the plain table, with a partition for every month from
+     * {@code from} through {@code through}. Rebuilds the table, so it takes a while on
+     * a large existing one; only {@link ActivityPartitioning} calls it.
+     */
+    public void partition(YearMonth from, YearMonth through) {
+        List<String> foreignKeys = jdbcTemplate.queryForList(
+                "SELECT CONSTRAINT_NAME FROM information_schema.TABLE_CONSTRAINTS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND CONSTRAINT_TYPE = 'FOREIGN KEY'",
+                String.class, TABLE);
+        for (String foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP FOREIGN KEY `" + foreignKey + "`");
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PRIMARY KEY, ADD PRIMARY KEY (id, `timestamp`)");
+
+        StringJoiner partitions = new StringJoiner(", ", "(", ")");
+        for (YearMonth month = from; !month.isAfter(through); month = month.plusMonths(1)) {
+            partitions.add(definition(month));
+        }
+        partitions.add("PARTITION " + FUTURE + " VALUES LESS THAN (MAXVALUE)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " PARTITION BY RANGE COLUMNS(`timestamp`) " + partitions);
+        log.info("Partitioned {} by month from {} through {}", TABLE, from, through);
+    }
+
+    /**
+     * Splits months up to {@code through} off the catch-all partition. Cheap as long as
+     * it runs before rows for those months arrive.
+     */
+    public void extendThrough(YearMonth through) {
+        List<YearMonth> existing = months();
+        YearMonth next = existing.isEmpty() ? YearMonth.now() : existing.getLast().plusMonths(1);
+        if (next.isAfter(through)) {
+            return;
+        }
+        StringJoiner partitions = new StringJoiner(", ", "(", ")");
+        for (YearMonth month = next; !month.isAfter(through); month = month.plusMonths(1)) {
+            partitions.add(definition(month));
+        }
+        partitions.add("PARTITION " + FUTURE + " VALUES LESS THAN (MAXVALUE)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + FUTURE + " INTO " + partitions);
+        log.info("Added {} partitions from {} through {}", TABLE, next, through);
+    }
+
+    /**
+     * Drops a month's partition, discarding its rows in constant time. Returns
+     * {@code false} when there is no such partition, e.g. for late rows of a month
+     * already dropped, which sit in the oldest remaining partition instead.
+     */
+    public boolean drop(YearMonth month) {
+        if (!months().contains(month)) {
+            return false;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + month.format(NAME));
+        return true;
+    }
+
+    private static String definition(YearMonth month) {
+        return "PARTITION " + month.format(NAME) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + " 00:00:00')";
+    }
+}
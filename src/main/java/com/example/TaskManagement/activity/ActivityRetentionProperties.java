@@ -0,0 +1,45 @@
+package com.example.TaskManagement.activity;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "task.activity")
+public class ActivityRetentionProperties {
+
+    /**
+     * Range-partition activity_events by month once on startup. MySQL only; other
+     * databases keep a single table and archival deletes rows instead of dropping partitions.
+     */
+    private boolean partitionOnStartup = false;
+
+    /**
+     * Months created ahead of the current one, so inserts never land in the catch-all
+     * partition.
+     */
+    private int partitionsAhead = 3;
+
+    /**
+     * A month is archived once all of it is older than this.
+     */
+    private Duration retention = Duration.ofDays(180);
+
+    /**
+     * Directory holding archived months as gzip-compressed NDJSON.
+     */
+    private Path archivePath = Path.of("data/activity-archive");
+
+    /**
+     * How often partitions are created ahead and expired months archived.
+     */
+    private Duration maintenanceInterval = Duration.ofHours(6);
+
+    /**
+     * Longest a maintenance run may take; an instance that dies mid-run blocks the
+     * others for at most this long.
+     */
+    private Duration maintenanceLease = Duration.ofHours(1);
+}
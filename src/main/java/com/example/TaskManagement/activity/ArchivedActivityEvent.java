@@ -0,0 +1,21 @@
+package com.example.TaskManagement.activity;
+
+import com.example.TaskManagement.enums.ActivityType;
+import com.example.TaskManagement.model.ActivityEvent;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One activity event as stored in the archive. The performer is kept as an id so
+ * exporting never initializes user proxies.
+ */
+public record ArchivedActivityEvent(UUID id, UUID taskId, ActivityType activityType, UUID performedBy,
+                                    LocalDateTime timestamp, String details) {
+
+    public static ArchivedActivityEvent of(ActivityEvent event) {
+        return new ArchivedActivityEvent(event.getId(), event.getTaskId(), event.getActivityType(),
+                event.getPerformedBy() != null ? event.getPerformedBy().getId() : null,
+                event.getTimestamp(), event.getDetails());
+    }
+}
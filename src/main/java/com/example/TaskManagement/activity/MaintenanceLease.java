@@ -0,0 +1,39 @@
+package com.example.TaskManagement.activity;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Row-based leases in {@code maintenance_leases}, so a scheduled job runs on one
+ * instance at a time. A lease is taken with a single conditional UPDATE that only
+ * succeeds when the row is free, expired or already held by this instance, and
+ * expiry is judged by the database clock, so instances never compare their own.
+ * A holder that dies without releasing blocks the job until the lease expires.
+ */
+@Component
+@RequiredArgsConstructor
+public class MaintenanceLease {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String holder = UUID.randomUUID().toString();
+
+    /**
+     * Takes or renews {@code name} for {@code duration}. Returns {@code false} while
+     * another instance holds it.
+     */
+    public boolean tryAcquire(String name, Duration duration) {
+        return jdbcTemplate.update(
+                "UPDATE maintenance_leases SET holder = ?, expires_at = TIMESTAMPADD(SECOND, ?, LOCALTIMESTAMP) " +
+                "WHERE name = ? AND (holder IS NULL OR holder = ? OR expires_at < LOCALTIMESTAMP)",
+                holder, duration.toSeconds(), name, holder) == 1;
+    }
+
+    public void release(String name) {
+        jdbcTemplate.update("UPDATE maintenance_leases SET holder = NULL, expires_at = NULL WHERE name = ? AND holder = ?",
+                name, holder);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.TaskManagement.audit;
+
+import com.example.TaskManagement.enums.ActivityType;
+import com.example.TaskManagement.model.ActivityEvent;
+import com.example.TaskManagement.model.TaskVersion;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Journaled form of one audit row. Either {@link #taskVersion} is set, or the activity
+ * event fields are; the performer is kept as an id so the entry carries no lazy proxies.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEntry {
+
+    private TaskVersion taskVersion;
+
+    private UUID taskId;
+    private ActivityType activityType;
+    private UUID performedBy;
+    private LocalDateTime timestamp;
+    private String details;
+
+    public static AuditEntry of(TaskVersion version) {
+        return new AuditEntry(version, null, null, null, null, null);
+    }
+
+    public static AuditEntry of(ActivityEvent event) {
+        return new AuditEntry(null, event.getTaskId(), event.getActivityType(),
+                event.getPerformedBy() != null ? event.getPerformedBy().getId() : null,
+                event.getTimestamp(), event.getDetails());
+    }
+
+    @JsonIgnore
+    public boolean isTaskVersionEntry() {
+        return taskVersion != null;
+    }
+
+    @JsonIgnore
+    public LocalDateTime getRecordedAt() {
+        return isTaskVersionEntry() ? taskVersion.getVersionedAt() : timestamp;
+    }
+}
@@ -0,0 +1,294 @@
+package com.example.TaskManagement.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Append-only newline-delimited JSON log of audit entries that have been accepted
+ * but may not have reached the database yet, split into numbered segment files.
+ * <p>
+ * Entries are appended in batches, one per transaction, and a batch whose transaction
+ * rolls back is cancelled by an abort record in the same segment. Each segment counts
+ * the entries it holds that are neither written nor aborted; once that reaches zero
+ * and appends have moved on to a newer segment, the file is deleted. Segments left by
+ * a previous run are not appended to and are only read and deleted through
+ * {@link #readRecovered()} and {@link #deleteRecovered()}.
+ * <p>
+ * Guarded by a {@link ReentrantLock} rather than {@code synchronized} so request
+ * threads blocked on disk I/O do not pin their carrier when running on virtual threads.
+ */
+@Slf4j
+public class AuditJournal implements AutoCloseable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".ndjson";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final boolean fsync;
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final List<Path> recovered;
+    /** Entries per live segment that are neither written nor aborted. */
+    private final Map<Long, Integer> outstanding = new HashMap<>();
+    private long current;
+    private FileChannel channel;
+    private long currentSize;
+
+    public AuditJournal(Path directory, long segmentBytes, boolean fsync, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+        this.objectMapper = objectMapper;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                this.recovered = files.filter(AuditJournal::isSegment)
+                        .sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)))
+                        .toList();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot open audit journal " + directory, ex);
+        }
+        this.current = recovered.isEmpty() ? 0 : sequenceOf(recovered.getLast());
+        openNextSegment();
+    }
+
+    /**
+     * Appends one batch and returns the segment it was written to, which the caller
+     * passes back to {@link #release} or {@link #abort}.
+     */
+    public long append(UUID batch, List<AuditEntry> entries) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        for (AuditEntry entry : entries) {
+            buffer.writeBytes(objectMapper.writeValueAsBytes(new Line(batch, false, entry)));
+            buffer.write('\n');
+        }
+        byte[] bytes = buffer.toByteArray();
+
+        lock.lock();
+        try {
+            if (currentSize > 0 && currentSize + bytes.length > segmentBytes) {
+                rotate();
+            }
+            try {
+                write(channel, bytes);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Cannot append to audit journal " + directory, ex);
+            }
+            currentSize += bytes.length;
+            outstanding.merge(current, entries.size(), Integer::sum);
+            return current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cancels a batch whose transaction rolled back, so a replay skips it, and releases its entries.
+     */
+    public void abort(UUID batch, long segment, int count) {
+        byte[] bytes = objectMapper.writeValueAsBytes(new Line(batch, true, null));
+        byte[] line = new byte[bytes.length + 1];
+        System.arraycopy(bytes, 0, line, 0, bytes.length);
+        line[bytes.length] = '\n';
+
+        lock.lock();
+        try {
+            try {
+                if (segment == current) {
+                    write(channel, line);
+                    currentSize += line.length;
+                } else {
+                    try (FileChannel sealed = FileChannel.open(segmentPath(segment),
+                            StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                        write(sealed, line);
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Cannot append to audit journal " + directory, ex);
+            }
+            releaseLocked(segment, count);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks entries of a segment as written to the database.
+     */
+    public void release(long segment, int count) {
+        lock.lock();
+        try {
+            releaseLocked(segment, count);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads every complete entry left by a previous run, in append order, without the
+     * aborted batches. A torn last line left by a crash mid-append is skipped.
+     */
+    public List<AuditEntry> readRecovered() {
+        List<Line> lines = new ArrayList<>();
+        Set<UUID> aborted = new HashSet<>();
+        for (Path segment : recovered) {
+            try {
+                for (String text : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+                    if (text.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        Line line = objectMapper.readValue(text, Line.class);
+                        if (line.aborted()) {
+                            aborted.add(line.batch());
+                        } else {
+                            lines.add(line);
+                        }
+                    } catch (JacksonException ex) {
+                        log.warn("Skipping unreadable audit journal line in {}: {}",
+                                segment.getFileName(), ex.getOriginalMessage());
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Cannot read audit journal segment " + segment, ex);
+            }
+        }
+        return lines.stream()
+                .filter(line -> !aborted.contains(line.batch()))
+                .map(Line::entry)
+                .toList();
+    }
+
+    public void deleteRecovered() {
+        for (Path segment : recovered) {
+            delete(segment);
+        }
+    }
+
+    /**
+     * Segment files currently on disk, for tests and diagnostics.
+     */
+    public List<Path> segments() {
+        lock.lock();
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(AuditJournal::isSegment)
+                    .sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)))
+                    .toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot list audit journal " + directory, ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                log.warn("Failed to close audit journal {}", directory, ex);
+            }
+            if (outstanding.getOrDefault(current, 0) == 0) {
+                delete(segmentPath(current));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseLocked(long segment, int count) {
+        int left = outstanding.merge(segment, -count, Integer::sum);
+        if (left <= 0) {
+            outstanding.remove(segment);
+            if (segment != current) {
+                delete(segmentPath(segment));
+            }
+        }
+    }
+
+    private void rotate() {
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot close audit journal segment " + current, ex);
+        }
+        if (!outstanding.containsKey(current)) {
+            delete(segmentPath(current));
+        }
+        openNextSegment();
+    }
+
+    private void openNextSegment() {
+        current++;
+        try {
+            channel = FileChannel.open(segmentPath(current),
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot open audit journal segment " + current, ex);
+        }
+        currentSize = 0;
+    }
+
+    private void write(FileChannel target, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+        if (fsync) {
+            target.force(false);
+        }
+    }
+
+    private void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException ex) {
+            log.warn("Failed to delete audit journal segment {}", segment, ex);
+        }
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(SEGMENT_PREFIX + "%010d".formatted(sequence) + SEGMENT_SUFFIX);
+    }
+
+    private static boolean isSegment(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * One journal line: an entry of a batch, or the abort record that cancels the batch.
+     */
+    record Line(UUID batch, boolean aborted, AuditEntry entry) {
+    }
+}
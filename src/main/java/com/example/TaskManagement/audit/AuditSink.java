@@ -0,0 +1,18 @@
+package com.example.TaskManagement.audit;
+
+import com.example.TaskManagement.model.ActivityEvent;
+import com.example.TaskManagement.model.TaskVersion;
+
+import java.util.List;
+
+/**
+ * Destination for the audit trail produced by task mutations.
+ */
+public interface AuditSink {
+
+    void recordTaskVersion(TaskVersion version);
+
+    void recordActivityEvent(ActivityEvent event);
+
+    void recordAll(List<TaskVersion> versions, List<ActivityEvent> events);
+}
@@ -0,0 +1,39 @@
+package com.example.TaskManagement.audit;
+
+import com.example.TaskManagement.model.ActivityEvent;
+import com.example.TaskManagement.model.TaskVersion;
+import com.example.TaskManagement.repository.ActivityEventRepository;
+import com.example.TaskManagement.repository.TaskVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Default sink: audit rows are written in the caller's transaction.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "task.audit.write-behind.enabled", havingValue = "false", matchIfMissing = true)
+public class SynchronousAuditSink implements AuditSink {
+
+    private final TaskVersionRepository taskVersionRepository;
+    private final ActivityEventRepository activityEventRepository;
+
+    @Override
+    public void recordTaskVersion(TaskVersion version) {
+        taskVersionRepository.save(version);
+    }
+
+    @Override
+    public void recordActivityEvent(ActivityEvent event) {
+        activityEventRepository.save(event);
+    }
+
+    @Override
+    public void recordAll(List<TaskVersion> versions, List<ActivityEvent> events) {
+        taskVersionRepository.saveAll(versions);
+        activityEventRepository.saveAll(events);
+    }
+}
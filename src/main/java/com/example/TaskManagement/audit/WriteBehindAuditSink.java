@@ -0,0 +1,293 @@
+package com.example.TaskManagement.audit;
+
+import com.example.TaskManagement.model.ActivityEvent;
+import com.example.TaskManagement.model.TaskVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind sink: entries are appended to a local journal just before the caller's
+ * transaction commits and, once it has, handed to a bounded queue that a single
+ * background thread drains into the database in batches. The journal is replayed on
+ * startup, and its segments are deleted as soon as everything they hold has been
+ * written or rolled back.
+ * <p>
+ * Task history and activity reads are eventually consistent in this mode: the newest
+ * entries become visible once the writer catches up, typically within one poll interval.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "task.audit.write-behind.enabled", havingValue = "true")
+public class WriteBehindAuditSink implements AuditSink, SmartLifecycle {
+
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+
+    private final WriteBehindProperties properties;
+    private final AuditEntryWriter writer;
+    private final AuditJournal journal;
+    private final BlockingQueue<Queued> queue;
+
+    private volatile LocalDateTime oldestInFlight;
+
+    private final Counter writtenCounter;
+    private final Counter failureCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public WriteBehindAuditSink(WriteBehindProperties properties,
+                                AuditEntryWriter writer,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.writer = writer;
+        this.journal = new AuditJournal(properties.getJournalDirectory(),
+                properties.getSegmentSize().toBytes(), properties.isFsync(), objectMapper);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        Gauge.builder("task.audit.queue.depth", queue, BlockingQueue::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("task.audit.lag", this, WriteBehindAuditSink::lagSeconds)
+                .description("Age of the oldest audit entry not yet written")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("task.audit.written")
+                .description("Audit entries written by the background writer")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("task.audit.write.failures")
+                .description("Failed audit batch writes (retried)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordTaskVersion(TaskVersion version) {
+        if (version.getVersionedAt() == null) {
+            version.setVersionedAt(now());
+        }
+        submitAfterCommit(List.of(AuditEntry.of(version)));
+    }
+
+    @Override
+    public void recordActivityEvent(ActivityEvent event) {
+        if (event.getTimestamp() == null) {
+            event.setTimestamp(now());
+        }
+        submitAfterCommit(List.of(AuditEntry.of(event)));
+    }
+
+    @Override
+    public void recordAll(List<TaskVersion> versions, List<ActivityEvent> events) {
+        List<AuditEntry> entries = new ArrayList<>(versions.size() + events.size());
+        for (TaskVersion version : versions) {
+            if (version.getVersionedAt() == null) {
+                version.setVersionedAt(now());
+            }
+            entries.add(AuditEntry.of(version));
+        }
+        for (ActivityEvent event : events) {
+            if (event.getTimestamp() == null) {
+                event.setTimestamp(now());
+            }
+            entries.add(AuditEntry.of(event));
+        }
+        submitAfterCommit(entries);
+    }
+
+    /**
+     * Journals the entries before the caller's transaction commits, so a crash right
+     * after the commit cannot lose them, and queues them for writing once it has
+     * committed. A rollback appends an abort record instead, which replay honours.
+     * Entries of a transaction whose outcome is unknown stay journaled and are
+     * reconciled by the idempotent replay on the next startup.
+     */
+    private void submitAfterCommit(List<AuditEntry> entries) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(journal(entries), entries);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private Journaled journaled;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                journaled = journal(entries);
+            }
+
+            @Override
+            public void afterCommit() {
+                enqueue(journaled, entries);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (journaled != null && status == STATUS_ROLLED_BACK) {
+                    journal.abort(journaled.batch(), journaled.segment(), entries.size());
+                }
+            }
+        });
+    }
+
+    private Journaled journal(List<AuditEntry> entries) {
+        UUID batch = UUID.randomUUID();
+        return new Journaled(batch, journal.append(batch, entries));
+    }
+
+    private void enqueue(Journaled journaled, List<AuditEntry> entries) {
+        try {
+            for (AuditEntry entry : entries) {
+                queue.put(new Queued(journaled.segment(), entry));
+            }
+        } catch (InterruptedException ex) {
+            // Already journaled, so the entries are written on the next startup at the latest.
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void start() {
+        replayJournal();
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("audit-write-behind")
+                .daemon(true)
+                .start(this::drainLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            try {
+                writerThread.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        journal.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Start before and stop after the web server so that no request can record
+     * an entry while the journal is being replayed or after the writer has exited.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void replayJournal() {
+        List<AuditEntry> entries = journal.readRecovered();
+        int replayed = 0;
+        for (int from = 0; from < entries.size(); from += properties.getBatchSize()) {
+            List<AuditEntry> batch = entries.subList(from, Math.min(from + properties.getBatchSize(), entries.size()));
+            replayed += writer.replay(batch);
+        }
+        journal.deleteRecovered();
+        if (entries.isEmpty()) {
+            return;
+        }
+        log.info("Replayed audit journal: {} entries read, {} written", entries.size(), replayed);
+    }
+
+    private void drainLoop() {
+        List<Queued> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                Queued first = queue.poll(properties.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+
+                oldestInFlight = first.entry().getRecordedAt();
+                writeWithRetry(batch.stream().map(Queued::entry).toList());
+                oldestInFlight = null;
+
+                release(batch);
+                batch.clear();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Lets the journal delete segments whose entries have all been written.
+     */
+    private void release(List<Queued> batch) {
+        Map<Long, Integer> written = new HashMap<>();
+        for (Queued queued : batch) {
+            written.merge(queued.segment(), 1, Integer::sum);
+        }
+        written.forEach(journal::release);
+    }
+
+    private void writeWithRetry(List<AuditEntry> batch) throws InterruptedException {
+        while (true) {
+            try {
+                writer.write(batch);
+                writtenCounter.increment(batch.size());
+                return;
+            } catch (RuntimeException ex) {
+                failureCounter.increment();
+                log.warn("Audit batch of {} entries failed, retrying", batch.size(), ex);
+                if (!running) {
+                    // Shutting down: leave the entries in the journal for the next startup.
+                    throw new InterruptedException("Audit writer stopped with a failing batch");
+                }
+                Thread.sleep(RETRY_BACKOFF);
+            }
+        }
+    }
+
+    private double lagSeconds() {
+        LocalDateTime oldest = oldestInFlight;
+        if (oldest == null) {
+            Queued head = queue.peek();
+            oldest = head != null ? head.entry().getRecordedAt() : null;
+        }
+        return oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+
+    /**
+     * Microsecond precision matches the timestamp columns, so a replayed entry
+     * compares equal to the row it may already have produced.
+     */
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private record Journaled(UUID batch, long segment) {
+    }
+
+    private record Queued(long segment, AuditEntry entry) {
+    }
+}
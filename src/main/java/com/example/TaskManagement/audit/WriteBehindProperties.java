@@ -0,0 +1,49 @@
+package com.example.TaskManagement.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "task.audit.write-behind")
+public class WriteBehindProperties {
+
+    /**
+     * Write task versions and activity events asynchronously instead of in the request transaction.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of entries waiting to be written; producers block when it is full.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of entries written per database transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * How long the writer waits for new entries before checking whether it has been stopped.
+     */
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    /**
+     * Directory of the append-only journal segments that make queued entries survive a crash.
+     */
+    private Path journalDirectory = Path.of("data", "audit-journal");
+
+    /**
+     * Size after which appends move on to a new journal segment; a segment is deleted
+     * once all of its entries have been written.
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(16);
+
+    /**
+     * Force every journal append to disk before the request returns.
+     */
+    private boolean fsync = true;
+}
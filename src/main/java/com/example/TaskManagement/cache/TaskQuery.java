@@ -0,0 +1,130 @@
+package com.example.TaskManagement.cache;
+
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TagMatch;
+import com.example.TaskManagement.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * A cacheable task listing of {@code TaskSearchService}: its name and parameters key
+ * the cache, and {@code placement} mirrors its filter and sort in memory. Placement
+ * maps a task to null when the listing leaves it out, and otherwise to the values it
+ * is sorted by, so a change that moves no task into, out of or within the listing
+ * does not invalidate it.
+ */
+public record TaskQuery(String name, List<Object> params, Function<TaskSnapshot, Object> placement) {
+
+    private static final String OVERDUE = "overdue";
+
+    public static TaskQuery byStatus(TaskStatus status) {
+        return new TaskQuery("by-status", List.of(status), task -> placedIf(task.status() == status));
+    }
+
+    public static TaskQuery byPriority(Priority priority) {
+        return new TaskQuery("by-priority", List.of(priority), task -> placedIf(task.priority() == priority));
+    }
+
+    public static TaskQuery assignedTo(UUID userId) {
+        return new TaskQuery("assigned-to", List.of(userId),
+                task -> placedIf(userId.equals(task.assignedTo())));
+    }
+
+    public static TaskQuery unassigned() {
+        return new TaskQuery("unassigned", List.of(), task -> placedIf(task.assignedTo() == null));
+    }
+
+    public static TaskQuery createdBy(UUID userId) {
+        return new TaskQuery("created-by", List.of(userId), task -> placedIf(userId.equals(task.createdBy())));
+    }
+
+    /**
+     * Keyed by today's date as well, since tasks become overdue without being changed.
+     */
+    public static TaskQuery overdue(LocalDate today) {
+        return new TaskQuery(OVERDUE, List.of(today), task -> placedIf(
+                isOpen(task) && task.dueDate() != null && task.dueDate().isBefore(today),
+                task.dueDate(), task.priority()));
+    }
+
+    public static TaskQuery createdBetween(LocalDate from, LocalDate to) {
+        return new TaskQuery("by-date-range", List.of(from, to), task -> placedIf(
+                task.createdAt() != null
+                        && !task.createdAt().isBefore(from.atStartOfDay())
+                        && task.createdAt().isBefore(to.plusDays(1).atStartOfDay())));
+    }
+
+    public static TaskQuery withTags(List<String> tags, TagMatch match) {
+        List<String> distinctTags = tags.stream().distinct().sorted().toList();
+        return new TaskQuery("by-tags", List.of(distinctTags, match), task -> placedIf(match == TagMatch.ALL
+                ? task.tags().containsAll(distinctTags)
+                : distinctTags.stream().anyMatch(task.tags()::contains)));
+    }
+
+    public static TaskQuery highPriorityFor(UUID userId) {
+        return new TaskQuery("high-priority", List.of(userId), task -> placedIf(
+                task.priority() == Priority.HIGH && userId.equals(task.assignedTo())));
+    }
+
+    public static TaskQuery openFor(UUID userId) {
+        return new TaskQuery("open", List.of(userId), task -> placedIf(
+                task.status() == TaskStatus.OPEN && userId.equals(task.assignedTo())));
+    }
+
+    public static TaskQuery inProgressFor(UUID userId) {
+        return new TaskQuery("in-progress", List.of(userId), task -> placedIf(
+                task.status() == TaskStatus.IN_PROGRESS && userId.equals(task.assignedTo())));
+    }
+
+    public static TaskQuery urgentOpen() {
+        return new TaskQuery("urgent-open", List.of(), task -> placedIf(
+                task.status() == TaskStatus.OPEN
+                        && (task.priority() == Priority.HIGH || task.priority() == Priority.CRITICAL),
+                task.dueDate(), task.priority()));
+    }
+
+    public static TaskQuery sortedByPriority() {
+        return new TaskQuery("sorted-by-priority", List.of(), task -> placedIf(true, task.priority()));
+    }
+
+    public static TaskQuery sortedByDueDate() {
+        return new TaskQuery("sorted-by-due-date", List.of(), task -> placedIf(true, task.dueDate(), task.priority()));
+    }
+
+    public static TaskQuery sortedByCreatedDate() {
+        return new TaskQuery("sorted-by-created-date", List.of(), task -> placedIf(true));
+    }
+
+    public static TaskQuery sortedByStatus() {
+        return new TaskQuery("sorted-by-status", List.of(), task -> placedIf(true, task.status(), task.priority()));
+    }
+
+    /**
+     * Whether a task going from {@code before} to {@code after} can change this
+     * listing's membership or order; {@code before} is null for a new task.
+     */
+    boolean isMovedBy(TaskSnapshot before, TaskSnapshot after) {
+        Object from = before == null ? null : placement.apply(before);
+        return !Objects.equals(from, placement.apply(after));
+    }
+
+    boolean isOverdue() {
+        return OVERDUE.equals(name);
+    }
+
+    private static boolean isOpen(TaskSnapshot task) {
+        return task.status() != TaskStatus.COMPLETED && task.status() != TaskStatus.CANCELLED;
+    }
+
+    /**
+     * Creation time and id are left out of every placement: neither ever changes.
+     */
+    private static Object placedIf(boolean included, Object... sortValues) {
+        return included ? Arrays.asList(sortValues) : null;
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.TaskManagement.cache;
+
+import com.example.TaskManagement.converter.TaskConverter;
+import com.example.TaskManagement.datasource.ReadYourWrites;
+import com.example.TaskManagement.dto.CursorPageResponseDto;
+import com.example.TaskManagement.dto.TaskResponseDto;
+import com.example.TaskManagement.dto.UserSummaryDto;
+import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.pagination.KeysetPage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Converted pages of the hot {@code TaskSearchService} listings, keyed by
+ * {@link TaskQuery}, cursor and limit, bounded by the number of tasks they hold and
+ * expiring after a TTL. Hit/miss counts are published as the {@code cache.gets}
+ * metric with {@code cache=task-queries}, and evicted pages as
+ * {@code task.query-cache.invalidations}.
+ *
+ * <p>Committed task changes evict the pages showing the task and the pages of every
+ * listing the change moves it into, out of or within. A page loaded while a change
+ * commits is returned but not kept, and misses read from the primary so an evicted
+ * page is never refilled from a lagging replica.
+ */
+@Component
+public class TaskQueryCache {
+
+    private final TaskQueryCacheProperties properties;
+    private final Cache<Key, Entry> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter invalidated;
+
+    private record Key(String query, List<Object> params, String cursor, int limit) {
+    }
+
+    private record Entry(TaskQuery query, CursorPageResponseDto<TaskResponseDto> page,
+                         Set<UUID> taskIds, Set<UUID> userIds) {
+
+        static Entry of(TaskQuery query, CursorPageResponseDto<TaskResponseDto> page) {
+            Set<UUID> taskIds = new HashSet<>();
+            Set<UUID> userIds = new HashSet<>();
+            for (TaskResponseDto task : page.getItems()) {
+                taskIds.add(task.getId());
+                addUser(userIds, task.getCreatedBy());
+                addUser(userIds, task.getAssignedTo());
+            }
+            return new Entry(query, page, taskIds, userIds);
+        }
+
+        private static void addUser(Set<UUID> userIds, UserSummaryDto user) {
+            if (user != null) {
+                userIds.add(user.getId());
+            }
+        }
+    }
+
+    public TaskQueryCache(TaskQueryCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumTasks())
+                .<Key, Entry>weigher((key, entry) -> entry.page().getItems().size() + 1)
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "task-queries");
+        Gauge.builder("task.query-cache.hit-ratio", cache, c -> c.stats().hitRate())
+                .register(meterRegistry);
+        this.invalidated = Counter.builder("task.query-cache.invalidations")
+                .description("Cached task listing pages evicted by committed changes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The cached page of {@code query}, or the page {@code loader} reads, converted and
+     * cached.
+     */
+    public CursorPageResponseDto<TaskResponseDto> page(TaskQuery query, String cursor, int limit,
+                                                       Supplier<KeysetPage<Task>> loader) {
+        if (!properties.isEnabled()) {
+            return TaskConverter.toTaskPageResponse(loader.get());
+        }
+        Key key = new Key(query.name(), query.params(), cursor, KeysetPage.clampLimit(limit));
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.page();
+        }
+
+        long seen = invalidations.get();
+        CursorPageResponseDto<TaskResponseDto> page = loadFromPrimary(loader);
+        if (invalidations.get() == seen) {
+            Entry entry = Entry.of(query, page);
+            cache.put(key, entry);
+            if (invalidations.get() != seen) {
+                // A change committed while the entry was being put.
+                cache.asMap().remove(key, entry);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Once the current transaction commits, evicts the pages that {@code task} was
+     * on or that its change from {@code before} (null for a new task) affects.
+     */
+    public void invalidateAfterCommit(TaskSnapshot before, Task task) {
+        afterCommit(() -> {
+            TaskSnapshot after = TaskSnapshot.of(task);
+            evict(entry -> entry.taskIds().contains(after.id()) || entry.query().isMovedBy(before, after));
+        });
+    }
+
+    /**
+     * For changes that show on a task's pages without moving it, such as its comment count.
+     */
+    public void invalidateTaskAfterCommit(UUID taskId) {
+        afterCommit(() -> evict(entry -> entry.taskIds().contains(taskId)));
+    }
+
+    /**
+     * For user changes, which show on the pages of tasks the user created or is assigned.
+     */
+    public void invalidateUserAfterCommit(UUID userId) {
+        afterCommit(() -> evict(entry -> entry.userIds().contains(userId)));
+    }
+
+    /**
+     * For tasks the overdue tracker has just moved into the overdue listing. The date in
+     * the key does not cover them: a page read after midnight but before the tracker's
+     * tick is keyed by the new day yet still lacks the tasks due yesterday.
+     */
+    public void invalidateOverdue() {
+        afterCommit(() -> evict(entry -> entry.query().isOverdue()));
+    }
+
+    /**
+     * For bulk changes such as imports, which may show on any page.
+     */
+    public void invalidateAllAfterCommit() {
+        afterCommit(() -> evict(entry -> true));
+    }
+
+    private CursorPageResponseDto<TaskResponseDto> loadFromPrimary(Supplier<KeysetPage<Task>> loader) {
+        boolean pinned = ReadYourWrites.isPinnedToPrimary();
+        ReadYourWrites.pinToPrimary();
+        try {
+            return TaskConverter.toTaskPageResponse(loader.get());
+        } finally {
+            if (!pinned) {
+                ReadYourWrites.clear();
+            }
+        }
+    }
+
+    private void afterCommit(Runnable invalidation) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidation.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidation.run();
+            }
+        });
+    }
+
+    private void evict(Predicate<Entry> stale) {
+        invalidations.incrementAndGet();
+        int evicted = 0;
+        for (Map.Entry<Key, Entry> cached : cache.asMap().entrySet()) {
+            if (stale.test(cached.getValue()) && cache.asMap().remove(cached.getKey(), cached.getValue())) {
+                evicted++;
+            }
+        }
+        invalidated.increment(evicted);
+    }
+}
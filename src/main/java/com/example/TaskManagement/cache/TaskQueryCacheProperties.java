@@ -0,0 +1,25 @@
+package com.example.TaskManagement.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "task.query-cache")
+public class TaskQueryCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Total number of tasks held across all cached pages; least recently used pages
+     * are evicted beyond it.
+     */
+    private long maximumTasks = 50_000;
+
+    /**
+     * How long a cached page is trusted. Bounds staleness for changes made by other
+     * instances, which do not invalidate this instance's cache.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+}
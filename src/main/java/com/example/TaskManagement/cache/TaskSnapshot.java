@@ -0,0 +1,25 @@
+package com.example.TaskManagement.cache;
+
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.model.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The fields of a task that decide which cached {@link TaskQuery} results it belongs
+ * to, and where.
+ */
+public record TaskSnapshot(UUID id, TaskStatus status, Priority priority, UUID createdBy, UUID assignedTo,
+                           LocalDate dueDate, LocalDateTime createdAt, List<String> tags) {
+
+    public static TaskSnapshot of(Task task) {
+        return new TaskSnapshot(task.getId(), task.getStatus(), task.getPriority(),
+                task.getCreatedBy().getId(),
+                task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
+                task.getDueDate(), task.getCreatedAt(), List.copyOf(task.getTags()));
+    }
+}
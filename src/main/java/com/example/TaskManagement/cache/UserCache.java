@@ -0,0 +1,104 @@
+package com.example.TaskManagement.cache;
+
+import com.example.TaskManagement.dto.UserSummaryDto;
+import com.example.TaskManagement.exception.ResourceNotFoundException;
+import com.example.TaskManagement.model.User;
+import com.example.TaskManagement.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded, TTL-expiring cache of user snapshots in front of the performer, assignee and
+ * author lookups that every task mutation makes. Hit/miss counts are published as the
+ * {@code cache.gets} metric with {@code cache=users}.
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, UserSnapshot> cache;
+
+    public UserCache(UserRepository userRepository, UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    /**
+     * Unknown ids are not cached, so a user created later is found on the next lookup.
+     */
+    public Optional<UserSnapshot> find(UUID id) {
+        return Optional.ofNullable(cache.get(id, key -> userRepository.findById(key)
+                .map(UserSnapshot::of)
+                .orElse(null)));
+    }
+
+    /**
+     * Snapshots for many users at once: the ones not cached are loaded with a single
+     * IN query. Unknown ids are left out of the result.
+     */
+    public Map<UUID, UserSnapshot> findAll(Collection<UUID> ids) {
+        return cache.getAll(ids, missing -> userRepository.findAllById(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(User::getId, UserSnapshot::of)));
+    }
+
+    public UserSnapshot require(UUID id) {
+        return find(id).orElseThrow(() -> new ResourceNotFoundException("User not found with id:" + id));
+    }
+
+    /**
+     * Validates that the user exists and returns an uninitialized proxy for use as a
+     * foreign key, so no SELECT on {@code users} is issued.
+     */
+    public User reference(UUID id) {
+        require(id);
+        return userRepository.getReferenceById(id);
+    }
+
+    /**
+     * Summary for a task or comment user: read from the entity when it is already
+     * loaded, otherwise from the cache instead of initializing the proxy.
+     */
+    public UserSummaryDto summaryOf(User user) {
+        if (user == null) {
+            return null;
+        }
+        if (Hibernate.isInitialized(user)) {
+            return new UserSummaryDto(user.getId(), user.getName(), user.getEmail(), user.getRole());
+        }
+        return require(user.getId()).toSummary();
+    }
+
+    /**
+     * Evicts now and again once the surrounding transaction commits, so a concurrent
+     * reader cannot re-cache the pre-update row in between.
+     */
+    public void invalidate(UUID id) {
+        cache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+}
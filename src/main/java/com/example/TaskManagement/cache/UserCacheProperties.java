@@ -0,0 +1,22 @@
+package com.example.TaskManagement.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "task.user-cache")
+public class UserCacheProperties {
+
+    /**
+     * Maximum number of users kept in memory.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * How long a cached user is trusted. Bounds staleness for changes made by other instances,
+     * which do not invalidate this instance's cache.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+}
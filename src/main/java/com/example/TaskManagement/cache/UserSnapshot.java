@@ -0,0 +1,23 @@
+package com.example.TaskManagement.cache;
+
+import com.example.TaskManagement.dto.UserSummaryDto;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.model.User;
+
+import java.util.UUID;
+
+/**
+ * Immutable copy of the user fields needed on the task mutation path,
+ * safe to share between requests unlike a managed {@link User}.
+ */
+public record UserSnapshot(UUID id, String name, String email, Role role, boolean active) {
+
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(user.getId(), user.getName(), user.getEmail(), user.getRole(),
+                Boolean.TRUE.equals(user.getActive()));
+    }
+
+    public UserSummaryDto toSummary() {
+        return new UserSummaryDto(id, name, email, role);
+    }
+}
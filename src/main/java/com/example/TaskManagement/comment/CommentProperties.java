@@ -0,0 +1,15 @@
+package com.example.TaskManagement.comment;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "task.comments")
+public class CommentProperties {
+
+    /**
+     * Newest comments embedded in GET /api/tasks/{id}; the rest are paged through
+     * GET /api/tasks/{id}/comments. 0 embeds none.
+     */
+    private int latestInTask = 3;
+}
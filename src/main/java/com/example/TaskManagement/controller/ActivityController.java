@@ -0,0 +1,29 @@
+package com.example.TaskManagement.controller;
+
+import com.example.TaskManagement.dto.ActivityEventResponseDto;
+import com.example.TaskManagement.dto.ActivityFeedCriteriaDto;
+import com.example.TaskManagement.dto.CursorPageResponseDto;
+import com.example.TaskManagement.service.ActivityFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/activity")
+@RequiredArgsConstructor
+public class ActivityController {
+
+    private final ActivityFeedService activityFeedService;
+
+    /**
+     * GET /api/activity?types=STATUS_CHANGED,ASSIGNEE_CHANGED&performedBy={userId}&taskId={taskId}
+     * Activity across all tasks, newest first, a page at a time
+     */
+    @GetMapping
+    public ResponseEntity<CursorPageResponseDto<ActivityEventResponseDto>> getActivity(
+            @ModelAttribute ActivityFeedCriteriaDto criteria,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(activityFeedService.getActivity(criteria, cursor, limit));
+    }
+}
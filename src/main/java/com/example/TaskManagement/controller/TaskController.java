@@ -1,24 +1,45 @@
 package com.example.TaskManagement.controller;
 
 
+import com.example.TaskManagement.cache.TaskQuery;
+import com.example.TaskManagement.cache.TaskQueryCache;
 import com.example.TaskManagement.converter.TaskConverter;
 import com.example.TaskManagement.dto.*;
+import com.example.TaskManagement.enums.ImportFormat;
 import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TagMatch;
 import com.example.TaskManagement.enums.TaskStatus;
 import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.pagination.KeysetPage;
+import com.example.TaskManagement.projection.TaskFields;
+import com.example.TaskManagement.projection.TaskRow;
+import com.example.TaskManagement.service.ActivityFeedService;
+import com.example.TaskManagement.service.CommentService;
+import com.example.TaskManagement.service.TaskCounterChecker;
+import com.example.TaskManagement.service.TaskExportService;
+import com.example.TaskManagement.service.TaskImportService;
+import com.example.TaskManagement.service.TaskReader;
 import com.example.TaskManagement.service.TaskSearchService;
 import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.web.EntityTags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @RestController
@@ -28,6 +49,12 @@ public class TaskController {
 
     private final TaskService taskService;
     private final TaskSearchService taskSearchService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskCounterChecker taskCounterChecker;
+    private final ActivityFeedService activityFeedService;
+    private final CommentService commentService;
+    private final TaskQueryCache taskQueryCache;
 
     @PostMapping
     public ResponseEntity<TaskResponseDto> createTask(@Valid @RequestBody CreateTaskRequestDto request) {
@@ -35,45 +62,83 @@ public class TaskController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    /**
+     * GET /api/tasks/{id}
+     * Tagged with ETag: "{version}.{commentCount}", as the body carries the latest comments.
+     * A matching If-None-Match gets 304 after a primary-key lookup, without loading the task
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponseDto> getTaskById(@PathVariable UUID id) {
+    public ResponseEntity<TaskResponseDto> getTaskById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> tag = taskService.findTaskValidator(id)
+                    .map(row -> EntityTags.of(row.getVersion(), row.getCommentCount()));
+            if (tag.isPresent() && EntityTags.matchesAny(ifNoneMatch, tag.get())) {
+                return notModified(tag.get());
+            }
+        }
         TaskResponseDto response = taskService.getTaskById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(response.getVersion(), response.getCommentCount()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(response);
     }
 
+    /**
+     * PATCH /api/tasks/{id}/status?performedBy={userId}
+     * The single-task PATCH endpoints honour If-Match: "{version}" and answer 412 when the
+     * task has moved on, or 409 when another change commits first
+     */
     @PatchMapping("/{id}/status")
     public ResponseEntity<TaskResponseDto> updateTaskStatus(
             @PathVariable UUID id,
             @Valid @RequestBody UpdateTaskStatusRequestDto request,
-            @RequestParam UUID performedBy) {
-        TaskResponseDto response = taskService.updateTaskStatus(id, request, performedBy);
-        return ResponseEntity.ok(response);
+            @RequestParam UUID performedBy,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponseDto response = taskService.updateTaskStatus(id, request, performedBy, EntityTags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(response.getVersion())).body(response);
     }
 
     @PatchMapping("/{id}/assignee")
     public ResponseEntity<TaskResponseDto> assignTask(
             @PathVariable UUID id,
             @Valid @RequestBody UpdateTaskAssigneeRequestDto request,
-            @RequestParam UUID performedBy) {
-        TaskResponseDto response = taskService.assignTask(id, request, performedBy);
-        return ResponseEntity.ok(response);
+            @RequestParam UUID performedBy,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponseDto response = taskService.assignTask(id, request, performedBy, EntityTags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(response.getVersion())).body(response);
     }
 
     @PatchMapping("/{id}/priority")
     public ResponseEntity<TaskResponseDto> updateTaskPriority(
             @PathVariable UUID id,
             @Valid @RequestBody UpdateTaskPriorityRequestDto request,
-            @RequestParam UUID performedBy) {
-        TaskResponseDto response = taskService.updateTaskPriority(id, request, performedBy);
-        return ResponseEntity.ok(response);
+            @RequestParam UUID performedBy,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponseDto response = taskService.updateTaskPriority(id, request, performedBy, EntityTags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(response.getVersion())).body(response);
     }
 
     @PatchMapping("/{id}/due-date")
     public ResponseEntity<TaskResponseDto> updateTaskDueDate(
             @PathVariable UUID id,
             @Valid @RequestBody UpdateTaskDueDateRequestDto request,
+            @RequestParam UUID performedBy,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponseDto response = taskService.updateTaskDueDate(id, request, performedBy, EntityTags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(response.getVersion())).body(response);
+    }
+
+    /**
+     * PATCH /api/tasks/bulk?performedBy={userId}
+     * Apply status, assignee and priority changes to many tasks in one transaction
+     */
+    @PatchMapping("/bulk")
+    public ResponseEntity<BulkTaskUpdateResponseDto> bulkUpdateTasks(
+            @Valid @RequestBody BulkTaskUpdateRequestDto request,
             @RequestParam UUID performedBy) {
-        TaskResponseDto response = taskService.updateTaskDueDate(id, request, performedBy);
+        BulkTaskUpdateResponseDto response = taskService.bulkUpdateTasks(request, performedBy);
         return ResponseEntity.ok(response);
     }
 
@@ -85,64 +150,142 @@ public class TaskController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    /**
+     * GET /api/tasks/{id}/comments?cursor={nextCursor}&limit=50
+     * The task's comments, newest first, a page at a time
+     */
+    @GetMapping("/{id}/comments")
+    public ResponseEntity<CursorPageResponseDto<CommentResponseDto>> getComments(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(commentService.getComments(id, cursor, limit));
+    }
+
+    /**
+     * GET /api/tasks/{id}/history
+     * Tagged with the newest version in the history, with the same If-None-Match handling
+     */
     @GetMapping("/{id}/history")
-    public ResponseEntity<List<TaskVersionResponseDto>> getTaskHistory(@PathVariable UUID id) {
+    public ResponseEntity<List<TaskVersionResponseDto>> getTaskHistory(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<Integer> version = taskService.findLatestHistoryVersion(id);
+            if (version.isPresent() && EntityTags.matchesAny(ifNoneMatch, version.get())) {
+                return notModified(EntityTags.of(version.get()));
+            }
+        }
         List<TaskVersionResponseDto> response = taskService.getTaskHistory(id);
-        return ResponseEntity.ok(response);
+        if (response.isEmpty()) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(response.getFirst().getVersion()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(response);
+    }
+
+    /**
+     * GET /api/tasks/{id}/activity?types=COMMENT_ADDED&performedBy={userId}
+     * The task's activity, newest first, a page at a time; continues into archived months
+     */
+    @GetMapping("/{id}/activity")
+    public ResponseEntity<CursorPageResponseDto<ActivityEventResponseDto>> getTaskActivity(
+            @PathVariable UUID id,
+            @ModelAttribute ActivityFeedCriteriaDto criteria,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(activityFeedService.getTaskActivity(id, criteria, cursor, limit));
+    }
+
+    /**
+     * GET /api/tasks/search?statuses=OPEN,IN_PROGRESS&priorities=HIGH&tags=backend&dueTo=2024-12-31&sort=DUE_DATE_ASC
+     * Search tasks by any combination of criteria, returning summaries a page at a time.
+     * Like every listing below it also takes view=full|summary or fields=title,status,...
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponseDto<?>> searchTasks(
+            @ModelAttribute TaskSearchCriteriaDto criteria,
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(null, view, TaskFields.SUMMARY, cursor, limit,
+                reader -> taskSearchService.search(criteria, reader, cursor, limit));
+    }
+
+    /**
+     * GET /api/tasks/search/text?q=login+timeout&statuses=OPEN,IN_PROGRESS&priorities=HIGH
+     * Tasks whose title, description or comments contain every word, best match first
+     */
+    @GetMapping("/search/text")
+    public ResponseEntity<CursorPageResponseDto<?>> searchTaskText(
+            @RequestParam String q,
+            @RequestParam(required = false) List<TaskStatus> statuses,
+            @RequestParam(required = false) List<Priority> priorities,
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(null, view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.searchText(q, statuses, priorities, reader, cursor, limit));
     }
 
     @GetMapping("/search/by-status/{status}")
-    public ResponseEntity<List<TaskResponseDto>> getTasksByStatus(@PathVariable TaskStatus status) {
-        List<Task> tasks = taskSearchService.getAllTasksByStatus(status);
-        List<TaskResponseDto> dtos = tasks.stream()
-                .map(TaskConverter::toTaskRespone)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<CursorPageResponseDto<?>> getTasksByStatus(
+            @PathVariable TaskStatus status,
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(TaskQuery.byStatus(status), view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.getAllTasksByStatus(status, reader, cursor, limit));
     }
 
     @GetMapping("/search/by-priority/{priority}")
-    public ResponseEntity<List<TaskResponseDto>> getTasksByPriority(@PathVariable Priority priority) {
-        List<Task> tasks = taskSearchService.getAllTasksByPriority(priority);
-        List<TaskResponseDto> dtos = tasks.stream()
-                .map(TaskConverter::toTaskRespone)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<CursorPageResponseDto<?>> getTasksByPriority(
+            @PathVariable Priority priority,
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(TaskQuery.byPriority(priority), view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.getAllTasksByPriority(priority, reader, cursor, limit));
     }
 
     @GetMapping("/search/overdue")
-    public ResponseEntity<List<TaskResponseDto>> getOverdueTasks() {
-        List<Task> tasks = taskSearchService.getAllOverdueTasks();
-        List<TaskResponseDto> dtos = tasks.stream()
-                .map(TaskConverter::toTaskRespone)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<CursorPageResponseDto<?>> getOverdueTasks(
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(TaskQuery.overdue(LocalDate.now()), view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.getAllOverdueTasks(reader, cursor, limit));
     }
 
     @GetMapping("/search/assigned-to/{userId}")
-    public ResponseEntity<List<TaskResponseDto>> getTasksAssignedTo(@PathVariable UUID userId) {
-        List<Task> tasks = taskSearchService.getAllTasksAssignedTo(userId);
-        List<TaskResponseDto> dtos = tasks.stream()
-                .map(TaskConverter::toTaskRespone)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<CursorPageResponseDto<?>> getTasksAssignedTo(
+            @PathVariable UUID userId,
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(TaskQuery.assignedTo(userId), view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.getAllTasksAssignedTo(userId, reader, cursor, limit));
     }
 
     @GetMapping("/search/created-by/{userId}")
-    public ResponseEntity<List<TaskResponseDto>> getTasksCreatedBy(@PathVariable UUID userId) {
-        List<Task> tasks = taskSearchService.getAllTasksCreatedBy(userId);
-        List<TaskResponseDto> dtos = tasks.stream()
-                .map(TaskConverter::toTaskRespone)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<CursorPageResponseDto<?>> getTasksCreatedBy(
+            @PathVariable UUID userId,
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(TaskQuery.createdBy(userId), view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.getAllTasksCreatedBy(userId, reader, cursor, limit));
     }
 
     @GetMapping("/search/unassigned")
-    public ResponseEntity<List<TaskResponseDto>> getUnassignedTasks() {
-        List<Task> tasks = taskSearchService.getAllUnassignedTasks();
-        List<TaskResponseDto> dtos = tasks.stream()
-                .map(TaskConverter::toTaskRespone)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<CursorPageResponseDto<?>> getUnassignedTasks(
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(TaskQuery.unassigned(), view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.getAllUnassignedTasks(reader, cursor, limit));
     }
 
     /**
@@ -150,12 +293,13 @@ public class TaskController {
      * Get all HIGH priority tasks assigned to a user
      */
     @GetMapping("/search/high-priority")
-    public ResponseEntity<List<TaskResponseDto>> getHighPriorityTasks(@RequestParam UUID userId) {
-        List<Task> tasks = taskSearchService.getHighPriorityTasksFor(userId);
-        List<TaskResponseDto> dtos = tasks.stream()
-                .map(TaskConverter::toTaskRespone)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<CursorPageResponseDto<?>> getHighPriorityTasks(
+            @RequestParam UUID userId,
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(TaskQuery.highPriorityFor(userId), view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.getHighPriorityTasksFor(userId, reader, cursor, limit));
     }
 
     /**
@@ -163,12 +307,13 @@ public class TaskController {
      * Get all OPEN tasks assigned to a user
      */
     @GetMapping("/search/open")
-    public ResponseEntity<List<TaskResponseDto>> getOpenTasks(@RequestParam UUID userId) {
-        List<Task> tasks = taskSearchService.getOpenTasksFor(userId);
-        List<TaskResponseDto> dtos = tasks.stream()
-                .map(TaskConverter::toTaskRespone)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<CursorPageResponseDto<?>> getOpenTasks(
+            @RequestParam UUID userId,
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(TaskQuery.openFor(userId), view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.getOpenTasksFor(userId, reader, cursor, limit));
     }
 
     /**
@@ -176,12 +321,13 @@ public class TaskController {
      * Get all IN_PROGRESS tasks assigned to a user
      */
     @GetMapping("/search/in-progress")
-    public ResponseEntity<List<TaskResponseDto>> getInProgressTasks(@RequestParam UUID userId) {
-        List<Task> tasks = taskSearchService.getInProgressTasksFor(userId);
-        List<TaskResponseDto> dtos = tasks.stream()
-                .map(TaskConverter::toTaskRespone)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<CursorPageResponseDto<?>> getInProgressTasks(
+            @RequestParam UUID userId,
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(TaskQuery.inProgressFor(userId), view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.getInProgressTasksFor(userId, reader, cursor, limit));
     }
 
     /**
@@ -189,12 +335,12 @@ public class TaskController {
      * Get all URGENT (CRITICAL or HIGH) OPEN tasks
      */
     @GetMapping("/search/urgent-open")
-    public ResponseEntity<List<TaskResponseDto>> getUrgentOpenTasks() {
-        List<Task> tasks = taskSearchService.getUrgentOpenTasks();
-        List<TaskResponseDto> dtos = tasks.stream()
-                .map(TaskConverter::toTaskRespone)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<CursorPageResponseDto<?>> getUrgentOpenTasks(
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(TaskQuery.urgentOpen(), view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.getUrgentOpenTasks(reader, cursor, limit));
     }
 
     /**
@@ -202,31 +348,33 @@ public class TaskController {
      * Get tasks created between two dates
      */
     @GetMapping("/search/by-date-range")
-    public ResponseEntity<List<TaskResponseDto>> getTasksByDateRange(
+    public ResponseEntity<CursorPageResponseDto<?>> getTasksByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
-        List<Task> tasks = taskSearchService.getTasksCreatedBetween(from, to);
-        List<TaskResponseDto> dtos = tasks.stream()
-                .map(TaskConverter::toTaskRespone)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(TaskQuery.createdBetween(from, to), view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.getTasksCreatedBetween(from, to, reader, cursor, limit));
     }
 
     /**
-     * GET /api/tasks/search/by-tags?tags=urgent,backend
-     * Get tasks that have ALL specified tags (AND condition)
+     * GET /api/tasks/search/by-tags?tags=urgent,backend&match=ALL
+     * Get tasks that have ALL (default) or ANY of the specified tags
      */
     @GetMapping("/search/by-tags")
-    public ResponseEntity<List<TaskResponseDto>> getTasksByTags(@RequestParam String tags) {
+    public ResponseEntity<CursorPageResponseDto<?>> getTasksByTags(
+            @RequestParam String tags,
+            @RequestParam(defaultValue = "ALL") TagMatch match,
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
         List<String> tagList = Arrays.stream(tags.split(","))
                 .map(String::trim)
                 .collect(Collectors.toList());
         
-        List<Task> tasks = taskSearchService.getTasksWithAllTags(tagList);
-        List<TaskResponseDto> dtos = tasks.stream()
-                .map(TaskConverter::toTaskRespone)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+        return listing(TaskQuery.withTags(tagList, match), view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.getTasksWithTags(tagList, match, reader, cursor, limit));
     }
 
     /**
@@ -234,12 +382,12 @@ public class TaskController {
      * Get all tasks sorted by priority (highest first)
      */
     @GetMapping("/sorted/by-priority")
-    public ResponseEntity<List<TaskResponseDto>> getTasksSortedByPriority() {
-        List<Task> tasks = taskSearchService.getAllTasksSortedByPriority();
-        List<TaskResponseDto> dtos = tasks.stream()
-                .map(TaskConverter::toTaskRespone)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<CursorPageResponseDto<?>> getTasksSortedByPriority(
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(TaskQuery.sortedByPriority(), view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.getAllTasksSortedByPriority(reader, cursor, limit));
     }
 
     /**
@@ -247,12 +395,12 @@ public class TaskController {
      * Get all tasks sorted by due date (earliest first)
      */
     @GetMapping("/sorted/by-due-date")
-    public ResponseEntity<List<TaskResponseDto>> getTasksSortedByDueDate() {
-        List<Task> tasks = taskSearchService.getAllTasksSortedByDueDate();
-        List<TaskResponseDto> dtos = tasks.stream()
-                .map(TaskConverter::toTaskRespone)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<CursorPageResponseDto<?>> getTasksSortedByDueDate(
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(TaskQuery.sortedByDueDate(), view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.getAllTasksSortedByDueDate(reader, cursor, limit));
     }
 
     /**
@@ -260,12 +408,12 @@ public class TaskController {
      * Get all tasks sorted by creation date (newest first)
      */
     @GetMapping("/sorted/by-created-date")
-    public ResponseEntity<List<TaskResponseDto>> getTasksSortedByCreatedDate() {
-        List<Task> tasks = taskSearchService.getAllTasksSortedByCreatedDate();
-        List<TaskResponseDto> dtos = tasks.stream()
-                .map(TaskConverter::toTaskRespone)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<CursorPageResponseDto<?>> getTasksSortedByCreatedDate(
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(TaskQuery.sortedByCreatedDate(), view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.getAllTasksSortedByCreatedDate(reader, cursor, limit));
     }
 
     /**
@@ -273,12 +421,63 @@ public class TaskController {
      * Get all tasks sorted by status
      */
     @GetMapping("/sorted/by-status")
-    public ResponseEntity<List<TaskResponseDto>> getTasksSortedByStatus() {
-        List<Task> tasks = taskSearchService.getAllTasksSortedByStatus();
-        List<TaskResponseDto> dtos = tasks.stream()
-                .map(TaskConverter::toTaskRespone)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<CursorPageResponseDto<?>> getTasksSortedByStatus(
+            @ModelAttribute TaskViewRequestDto view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return listing(TaskQuery.sortedByStatus(), view, TaskFields.FULL, cursor, limit,
+                reader -> taskSearchService.getAllTasksSortedByStatus(reader, cursor, limit));
+    }
+
+    /**
+     * GET /api/tasks/export/by-created-date
+     * Stream all tasks as newline-delimited JSON (newest first)
+     */
+    @GetMapping(value = "/export/by-created-date", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasksByCreatedDate() {
+        StreamingResponseBody body = taskExportService::exportTasksByCreatedDate;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * GET /api/tasks/export/by-status/{status}
+     * Stream all tasks with the given status as newline-delimited JSON (newest first)
+     */
+    @GetMapping(value = "/export/by-status/{status}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasksByStatus(@PathVariable TaskStatus status) {
+        StreamingResponseBody body = out -> taskExportService.exportTasksByStatus(status, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * POST /api/tasks/import
+     * Import tasks from newline-delimited JSON, read as the body arrives. Progress is
+     * streamed back as newline-delimited JSON, one line per chunk
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+                 produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importTasksFromNdjson(InputStream body) {
+        return importTasks(body, ImportFormat.NDJSON);
+    }
+
+    /**
+     * POST /api/tasks/import
+     * Import tasks from CSV with a header row, tags separated by ';'
+     */
+    @PostMapping(value = "/import", consumes = "text/csv", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importTasksFromCsv(InputStream body) {
+        return importTasks(body, ImportFormat.CSV);
+    }
+
+    private ResponseEntity<StreamingResponseBody> importTasks(InputStream body, ImportFormat format) {
+        StreamingResponseBody progress = out -> taskImportService.importTasks(body, format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(progress);
     }
 
     @GetMapping("/count/by-status/{status}")
@@ -307,4 +506,38 @@ public class TaskController {
         return ResponseEntity.ok(count);
     }
 
+    /**
+     * GET /api/tasks/count/drift
+     * List counters that disagree with a recount of the tasks table
+     */
+    @GetMapping("/count/drift")
+    public ResponseEntity<List<CounterDriftDto>> getCounterDrift() {
+        List<CounterDriftDto> drift = taskCounterChecker.findDrift();
+        return ResponseEntity.ok(drift);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String tag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    /**
+     * Full pages of the cached listings ({@code query} not null) go through the query cache;
+     * summaries and sparse fieldsets are read as projections of just their columns.
+     */
+    @SuppressWarnings("unchecked")
+    private ResponseEntity<CursorPageResponseDto<?>> listing(TaskQuery query, TaskViewRequestDto view,
+                                                             TaskFields defaults, String cursor, int limit,
+                                                             Function<TaskReader<?>, KeysetPage<?>> read) {
+        TaskFields fields = TaskFields.of(view.getView(), view.getFields(), defaults);
+        if (fields.isFull()) {
+            Supplier<KeysetPage<Task>> entities = () -> (KeysetPage<Task>) read.apply(TaskReader.entities());
+            return ResponseEntity.ok(query != null
+                    ? taskQueryCache.page(query, cursor, limit, entities)
+                    : TaskConverter.toTaskPageResponse(entities.get()));
+        }
+        KeysetPage<TaskRow> rows = (KeysetPage<TaskRow>) read.apply(TaskReader.rows(fields));
+        return ResponseEntity.ok(fields.view() == TaskFields.View.SUMMARY
+                ? TaskConverter.toTaskSummaryPageResponse(rows)
+                : TaskConverter.toTaskFieldsPageResponse(rows, fields));
+    }
 }
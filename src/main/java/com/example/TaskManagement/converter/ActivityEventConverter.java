@@ -0,0 +1,27 @@
+package com.example.TaskManagement.converter;
+
+import com.example.TaskManagement.dto.ActivityEventResponseDto;
+import com.example.TaskManagement.dto.UserSummaryDto;
+import com.example.TaskManagement.model.ActivityEvent;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+public class ActivityEventConverter {
+
+    /**
+     * The performer is resolved by id, so a page of events never initializes their
+     * lazy {@code performedBy} proxies one at a time. System events have none.
+     */
+    public static ActivityEventResponseDto toActivityEventResponse(ActivityEvent event,
+                                                                   Function<UUID, UserSummaryDto> performer) {
+        return new ActivityEventResponseDto(
+                event.getId(),
+                event.getTaskId(),
+                event.getActivityType(),
+                event.getPerformedBy() != null ? performer.apply(event.getPerformedBy().getId()) : null,
+                event.getTimestamp(),
+                event.getDetails()
+        );
+    }
+}
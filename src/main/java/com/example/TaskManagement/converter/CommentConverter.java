@@ -1,14 +1,22 @@
 package com.example.TaskManagement.converter;
 
 import com.example.TaskManagement.dto.CommentResponseDto;
+import com.example.TaskManagement.dto.UserSummaryDto;
 import com.example.TaskManagement.model.Comment;
+import com.example.TaskManagement.model.User;
+
+import java.util.function.Function;
 
 public class CommentConverter {
 
     public static CommentResponseDto toCommentResponse(Comment comment){
+        return toCommentResponse(comment, UserConverter::toUserSummary);
+    }
+
+    public static CommentResponseDto toCommentResponse(Comment comment, Function<User, UserSummaryDto> userSummary){
         return new CommentResponseDto(
                 comment.getId(),
-                UserConverter.toUserSummary(comment.getAuthor()),
+                userSummary.apply(comment.getAuthor()),
                 comment.getText(),
                 comment.getTimestamp()
         );
@@ -1,10 +1,26 @@
 package com.example.TaskManagement.converter;
 
 
+import com.example.TaskManagement.dto.CommentResponseDto;
+import com.example.TaskManagement.dto.CursorPageResponseDto;
 import com.example.TaskManagement.dto.TaskResponseDto;
 import com.example.TaskManagement.dto.TaskSummaryDto;
+import com.example.TaskManagement.dto.UserSummaryDto;
 import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.model.User;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.pagination.KeysetPage;
+import com.example.TaskManagement.projection.TaskField;
+import com.example.TaskManagement.projection.TaskFields;
+import com.example.TaskManagement.projection.TaskRow;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.example.TaskManagement.converter.UserConverter.toUserSummary;
@@ -12,6 +28,23 @@ import static com.example.TaskManagement.converter.UserConverter.toUserSummary;
 public class TaskConverter {
 
     public static TaskResponseDto toTaskRespone(Task task){
+        return toTaskRespone(task, UserConverter::toUserSummary);
+    }
+
+    /**
+     * Lets callers resolve the creator and assignee without initializing lazy user
+     * proxies, e.g. from the user cache on the mutation path.
+     */
+    public static TaskResponseDto toTaskRespone(Task task, Function<User, UserSummaryDto> userSummary){
+        return toTaskRespone(task, userSummary, null);
+    }
+
+    /**
+     * Comments are never read from {@code task.getComments()}: the count is stored on the
+     * task and callers that want the newest few load just those.
+     */
+    public static TaskResponseDto toTaskRespone(Task task, Function<User, UserSummaryDto> userSummary,
+                                                List<CommentResponseDto> latestComments){
         return new TaskResponseDto(
                 task.getId() ,
                 task.getVersion(),
@@ -19,15 +52,14 @@ public class TaskConverter {
                 task.getDescription(),
                 task.getStatus(),
                 task.getPriority(),
-                toUserSummary(task.getCreatedBy()),
-                task.getAssignedTo() != null ? toUserSummary(task.getAssignedTo()) : null,
+                userSummary.apply(task.getCreatedBy()),
+                task.getAssignedTo() != null ? userSummary.apply(task.getAssignedTo()) : null,
                 task.getDueDate(),
-                task.getTags(),
+                new ArrayList<>(task.getTags()),
                 task.getCreatedAt(),
                 task.getUpdatedAt(),
-                task.getComments().stream()
-                        .map(CommentConverter::toCommentResponse)
-                        .collect(Collectors.toList())
+                task.getCommentCount(),
+                latestComments
         );
     }
 
@@ -37,10 +69,84 @@ public class TaskConverter {
                 task.getTitle(),
                 task.getStatus(),
                 task.getPriority(),
-                toUserSummary(task.getAssignedTo()),
+                task.getAssignedTo() != null ? toUserSummary(task.getAssignedTo()) : null,
                 task.getDueDate()
 
         );
     }
 
+    public static CursorPageResponseDto<TaskResponseDto> toTaskPageResponse(KeysetPage<Task> page){
+        return new CursorPageResponseDto<>(
+                page.getItems().stream()
+                        .map(TaskConverter::toTaskRespone)
+                        .collect(Collectors.toList()),
+                page.getLimit(),
+                page.getNextCursor()
+        );
+    }
+
+    public static TaskSummaryDto toTaskSummary(TaskRow row){
+        return new TaskSummaryDto(
+                row.getId(),
+                (String) row.get("title"),
+                row.getStatus(),
+                row.getPriority(),
+                toRowUserSummary(row, "assignedTo"),
+                (LocalDate) row.get("dueDate")
+        );
+    }
+
+    /**
+     * Just the requested fields, in {@link TaskField} order and named as in
+     * {@link TaskResponseDto}.
+     */
+    public static Map<String, Object> toTaskFields(TaskRow row, TaskFields fields){
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (TaskField field : fields.fields()) {
+            String attribute = field.getAttribute();
+            if (field.isUser()) {
+                values.put(attribute, toRowUserSummary(row, attribute));
+            } else if (field == TaskField.TAGS) {
+                values.put(attribute, row.getTags());
+            } else {
+                values.put(attribute, row.get(attribute));
+            }
+        }
+        return values;
+    }
+
+    private static UserSummaryDto toRowUserSummary(TaskRow row, String user){
+        UUID id = (UUID) row.get(user + ".id");
+        if (id == null) {
+            return null;
+        }
+        return new UserSummaryDto(
+                id,
+                (String) row.get(user + ".name"),
+                (String) row.get(user + ".email"),
+                (Role) row.get(user + ".role")
+        );
+    }
+
+    public static CursorPageResponseDto<TaskSummaryDto> toTaskSummaryPageResponse(KeysetPage<TaskRow> page){
+        return new CursorPageResponseDto<>(
+                page.getItems().stream()
+                        .map(TaskConverter::toTaskSummary)
+                        .collect(Collectors.toList()),
+                page.getLimit(),
+                page.getNextCursor()
+        );
+    }
+
+    public static CursorPageResponseDto<Map<String, Object>> toTaskFieldsPageResponse(KeysetPage<TaskRow> page,
+                                                                                    TaskFields fields){
+        return new CursorPageResponseDto<>(
+                page.getItems().stream()
+                        .map(row -> toTaskFields(row, fields))
+                        .collect(Collectors.toList()),
+                page.getLimit(),
+                page.getNextCursor()
+        );
+    }
+
 }
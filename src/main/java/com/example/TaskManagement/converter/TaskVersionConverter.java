@@ -3,6 +3,8 @@ package com.example.TaskManagement.converter;
 import com.example.TaskManagement.dto.TaskVersionResponseDto;
 import com.example.TaskManagement.model.TaskVersion;
 
+import java.util.ArrayList;
+
 
 public class TaskVersionConverter {
     
@@ -17,7 +19,7 @@ public class TaskVersionConverter {
                 version.getCreatedBy(),
                 version.getAssignedTo(),
                 version.getDueDate(),
-                version.getTags(),
+                new ArrayList<>(version.getTags()),
                 version.getVersionedAt(),
                 version.getChangeSummary()
         );
@@ -0,0 +1,26 @@
+package com.example.TaskManagement.datasource;
+
+/**
+ * Whether reads on the current thread must see the primary, because the client
+ * behind the request has written recently. Set per request by
+ * {@code ReadYourWritesFilter}; threads it never ran on read from replicas.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+}
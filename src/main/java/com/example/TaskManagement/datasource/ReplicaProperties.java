@@ -0,0 +1,46 @@
+package com.example.TaskManagement.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "task.datasource")
+public class ReplicaProperties {
+
+    /**
+     * Read replicas of {@code spring.datasource}. Read-only transactions are spread
+     * across them; with none configured everything uses the primary.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * How long a client's reads stay on the primary after it writes, so it sees its
+     * own changes despite replication lag. Should exceed the usual lag.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Data
+    public static class Replica {
+
+        private String url;
+
+        /**
+         * Defaults to {@code spring.datasource.username}.
+         */
+        private String username;
+
+        /**
+         * Defaults to {@code spring.datasource.password}.
+         */
+        private String password;
+
+        /**
+         * Connections kept open to this replica.
+         */
+        private int maximumPoolSize = 20;
+    }
+}
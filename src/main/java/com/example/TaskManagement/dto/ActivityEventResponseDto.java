@@ -0,0 +1,21 @@
+package com.example.TaskManagement.dto;
+
+import com.example.TaskManagement.enums.ActivityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityEventResponseDto {
+    private UUID id;
+    private UUID taskId;
+    private ActivityType activityType;
+    private UserSummaryDto performedBy;
+    private LocalDateTime timestamp;
+    private String details;
+}
@@ -0,0 +1,21 @@
+package com.example.TaskManagement.dto;
+
+import com.example.TaskManagement.enums.ActivityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Optional filters of an activity feed; absent ones do not restrict the result.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityFeedCriteriaDto {
+    private UUID taskId;
+    private List<ActivityType> types;
+    private UUID performedBy;
+}
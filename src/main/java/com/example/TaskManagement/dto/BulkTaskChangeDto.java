@@ -0,0 +1,29 @@
+package com.example.TaskManagement.dto;
+
+import com.example.TaskManagement.enums.BulkChangeType;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskChangeDto {
+    @NotNull(message = "Task ID is required")
+    private UUID taskId;
+
+    @NotNull(message = "Change type is required")
+    private BulkChangeType type;
+
+    private TaskStatus status;
+    private UUID assignedTo;
+    private Priority priority;
+
+    /** Version the caller last saw; the change is rejected if the task has moved on. */
+    private Integer expectedVersion;
+}
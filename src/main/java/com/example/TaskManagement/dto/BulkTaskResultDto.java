@@ -0,0 +1,17 @@
+package com.example.TaskManagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResultDto {
+    private UUID taskId;
+    private boolean success;
+    private Integer version;
+    private String error;
+}
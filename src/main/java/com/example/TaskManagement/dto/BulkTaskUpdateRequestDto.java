@@ -0,0 +1,17 @@
+package com.example.TaskManagement.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskUpdateRequestDto {
+    @NotEmpty(message = "At least one change is required")
+    private List<@Valid BulkTaskChangeDto> changes;
+}
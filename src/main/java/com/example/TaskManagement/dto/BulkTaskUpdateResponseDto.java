@@ -0,0 +1,16 @@
+package com.example.TaskManagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskUpdateResponseDto {
+    private int succeeded;
+    private int failed;
+    private List<BulkTaskResultDto> results;
+}
@@ -0,0 +1,14 @@
+package com.example.TaskManagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CounterDriftDto {
+    private String counterKey;
+    private long counted;
+    private long actual;
+}
@@ -0,0 +1,13 @@
+package com.example.TaskManagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportErrorDto {
+    private long row;
+    private String error;
+}
@@ -0,0 +1,25 @@
+package com.example.TaskManagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Running totals of an import, written after every chunk. {@code errors} holds the
+ * rows rejected since the previous line; the last line has {@code done} set, and a
+ * {@code message} when the import stopped early.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportProgressDto {
+    private long processed;
+    private long imported;
+    private long failed;
+    private long elapsedMs;
+    private boolean done;
+    private String message;
+    private List<TaskImportErrorDto> errors;
+}
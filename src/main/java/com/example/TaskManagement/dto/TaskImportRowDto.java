@@ -0,0 +1,28 @@
+package com.example.TaskManagement.dto;
+
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One task of an import. Users are given by id or email; status defaults to OPEN and
+ * priority to MEDIUM.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportRowDto {
+    private String title;
+    private String description;
+    private String createdBy;
+    private String assignedTo;
+    private TaskStatus status;
+    private Priority priority;
+    private LocalDate dueDate;
+    private List<String> tags;
+}
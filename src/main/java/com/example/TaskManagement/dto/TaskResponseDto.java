@@ -27,5 +27,9 @@ public class TaskResponseDto {
     private List<String> tags;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
-    private List<CommentResponseDto> comments;
-}
\ No newline at end of file
+    private int commentCount;
+    /**
+     * Newest comments first; only filled by GET /api/tasks/{id}.
+     */
+    private List<CommentResponseDto> latestComments;
+}
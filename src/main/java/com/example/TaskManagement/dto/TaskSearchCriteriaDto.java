@@ -0,0 +1,57 @@
+package com.example.TaskManagement.dto;
+
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.pagination.TaskSort;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Filters for {@code GET /api/tasks/search}. Every field is optional and the
+ * ones present are combined with AND; list fields match any of their values.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchCriteriaDto {
+
+    private List<TaskStatus> statuses;
+    private List<Priority> priorities;
+    private UUID assignedTo;
+    private Boolean unassigned;
+    private UUID createdBy;
+
+    /** Task must carry every one of these tags. */
+    private List<String> tags;
+
+    /** Task must carry at least one of these tags. */
+    private List<String> anyTags;
+
+    private Boolean overdue;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate updatedFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate updatedTo;
+
+    private TaskSort sort;
+}
@@ -0,0 +1,20 @@
+package com.example.TaskManagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Shape of a task listing's items: {@code view=summary} for {@link TaskSummaryDto}s,
+ * {@code view=full} for whole tasks, or {@code fields=id,title,status} for just those
+ * fields. At most one of the two may be given.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskViewRequestDto {
+    private String view;
+    private List<String> fields;
+}
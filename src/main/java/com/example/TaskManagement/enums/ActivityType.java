@@ -7,5 +7,6 @@ public enum ActivityType {
     PRIORITY_CHANGED,
     ASSIGNEE_CHANGED,
     COMMENT_ADDED,
-    DUE_DATE_CHANGED
+    DUE_DATE_CHANGED,
+    OVERDUE
 }
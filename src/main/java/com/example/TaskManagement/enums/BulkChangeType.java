@@ -0,0 +1,7 @@
+package com.example.TaskManagement.enums;
+
+public enum BulkChangeType {
+    STATUS,
+    ASSIGNEE,
+    PRIORITY
+}
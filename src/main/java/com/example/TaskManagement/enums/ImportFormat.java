@@ -0,0 +1,6 @@
+package com.example.TaskManagement.enums;
+
+public enum ImportFormat {
+    NDJSON,
+    CSV
+}
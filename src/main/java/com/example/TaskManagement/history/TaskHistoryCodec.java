@@ -0,0 +1,165 @@
+package com.example.TaskManagement.history;
+
+import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.model.TaskVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Stores task history as field-level deltas with a full snapshot every
+ * {@code task.history.snapshot-interval} versions.
+ *
+ * <p>A delta row carries the fields that changed since the previous version, named by
+ * the bit mask in {@link TaskVersion#getDeltaFields()}; the title, description and tag
+ * list of an unchanged task are not copied again. Status, priority and the creator are
+ * fixed-width and always stored. Rows with no mask are full snapshots, which includes
+ * every row written before this encoding existed.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskHistoryCodec {
+
+    static final int TITLE = 1;
+    static final int DESCRIPTION = 1 << 1;
+    static final int ASSIGNEE = 1 << 2;
+    static final int DUE_DATE = 1 << 3;
+    static final int TAGS = 1 << 4;
+
+    private final TaskHistoryProperties properties;
+
+    /**
+     * The row recording {@code task} as {@code version}. {@code previous} is the task's
+     * state at {@code version - 1}, or {@code null} when there is none.
+     */
+    public TaskVersion encode(TaskState previous, Task task, int version, String changeSummary) {
+        TaskVersion row = new TaskVersion();
+        row.setTaskId(task.getId());
+        row.setVersion(version);
+        row.setChangeSummary(changeSummary);
+        TaskState current = TaskState.of(task);
+        if (previous == null || isSnapshotVersion(version)) {
+            writeSnapshot(row, current);
+        } else {
+            writeDelta(row, previous, current);
+        }
+        return row;
+    }
+
+    /**
+     * Full versions for rows given oldest first. The results are new, detached objects,
+     * so decoding managed rows never dirties them.
+     *
+     * <p>A delta row can only be applied to the version directly before it. Full rows
+     * may follow a gap, but a delta with no snapshot before it or with its predecessor
+     * missing means the history is damaged, and is rejected rather than decoded into
+     * versions that never existed.
+     *
+     * @throws IllegalStateException when the rows are out of order or a delta row cannot be applied
+     */
+    public List<TaskVersion> decode(List<TaskVersion> oldestFirst) {
+        List<TaskVersion> decoded = new ArrayList<>(oldestFirst.size());
+        TaskState state = null;
+        Integer previousVersion = null;
+        for (TaskVersion row : oldestFirst) {
+            int version = row.getVersion();
+            if (previousVersion != null && version <= previousVersion) {
+                throw new IllegalStateException("History of task " + row.getTaskId()
+                        + " has version " + version + " after version " + previousVersion);
+            }
+            if (row.getDeltaFields() == null) {
+                state = TaskState.of(row);
+            } else if (state == null) {
+                throw new IllegalStateException("History of task " + row.getTaskId()
+                        + " has delta version " + version + " with no snapshot before it");
+            } else if (version != previousVersion + 1) {
+                throw new IllegalStateException("History of task " + row.getTaskId()
+                        + " is missing version " + (version - 1) + " that delta version " + version + " applies to");
+            } else {
+                state = apply(state, row);
+            }
+            previousVersion = version;
+
+            TaskVersion full = new TaskVersion();
+            full.setId(row.getId());
+            full.setTaskId(row.getTaskId());
+            full.setVersion(version);
+            full.setVersionedAt(row.getVersionedAt());
+            full.setChangeSummary(row.getChangeSummary());
+            writeSnapshot(full, state);
+            decoded.add(full);
+        }
+        return decoded;
+    }
+
+    boolean isSnapshotVersion(int version) {
+        return (version - 1) % properties.getSnapshotInterval() == 0;
+    }
+
+    void writeSnapshot(TaskVersion row, TaskState state) {
+        writeFixed(row, state);
+        row.setTitle(state.title());
+        row.setDescription(state.description());
+        row.setAssignedTo(state.assignedTo());
+        row.setDueDate(state.dueDate());
+        row.getTags().clear();
+        row.getTags().addAll(state.tags());
+        row.setDeltaFields(null);
+    }
+
+    void writeDelta(TaskVersion row, TaskState previous, TaskState current) {
+        writeFixed(row, current);
+        int fields = 0;
+        boolean titleChanged = !Objects.equals(previous.title(), current.title());
+        boolean descriptionChanged = !Objects.equals(previous.description(), current.description());
+        boolean assigneeChanged = !Objects.equals(previous.assignedTo(), current.assignedTo());
+        boolean dueDateChanged = !Objects.equals(previous.dueDate(), current.dueDate());
+        boolean tagsChanged = !previous.tags().equals(current.tags());
+        if (titleChanged) {
+            fields |= TITLE;
+        }
+        if (descriptionChanged) {
+            fields |= DESCRIPTION;
+        }
+        if (assigneeChanged) {
+            fields |= ASSIGNEE;
+        }
+        if (dueDateChanged) {
+            fields |= DUE_DATE;
+        }
+        if (tagsChanged) {
+            fields |= TAGS;
+        }
+        row.setTitle(titleChanged ? current.title() : null);
+        row.setDescription(descriptionChanged ? current.description() : null);
+        row.setAssignedTo(assigneeChanged ? current.assignedTo() : null);
+        row.setDueDate(dueDateChanged ? current.dueDate() : null);
+        row.getTags().clear();
+        if (tagsChanged) {
+            row.getTags().addAll(current.tags());
+        }
+        row.setDeltaFields(fields);
+    }
+
+    private void writeFixed(TaskVersion row, TaskState state) {
+        row.setStatus(state.status());
+        row.setPriority(state.priority());
+        row.setCreatedBy(state.createdBy());
+    }
+
+    private TaskState apply(TaskState previous, TaskVersion delta) {
+        int fields = delta.getDeltaFields();
+        return new TaskState(
+                (fields & TITLE) != 0 ? delta.getTitle() : previous.title(),
+                (fields & DESCRIPTION) != 0 ? delta.getDescription() : previous.description(),
+                delta.getStatus(),
+                delta.getPriority(),
+                delta.getCreatedBy(),
+                (fields & ASSIGNEE) != 0 ? delta.getAssignedTo() : previous.assignedTo(),
+                (fields & DUE_DATE) != 0 ? delta.getDueDate() : previous.dueDate(),
+                (fields & TAGS) != 0 ? List.copyOf(delta.getTags()) : previous.tags());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.TaskManagement.history;
+
+import com.example.TaskManagement.model.TaskVersion;
+import com.example.TaskManagement.repository.TaskVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One-off conversion of history written before delta encoding: full rows that fall
+ * between snapshot positions are rewritten as deltas, one task per transaction. Run
+ * once with {@code --task.history.migrate-on-startup=true}; it is safe to interrupt
+ * and rerun, and the application keeps serving requests meanwhile.
+ *
+ * <p>A row is only converted when the version before it exists, so gaps left by lost
+ * audit entries stay full snapshots. The columns delta rows leave empty are made
+ * nullable by the V4 migration.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "task.history.migrate-on-startup", havingValue = "true")
+public class TaskHistoryMigration implements ApplicationRunner {
+
+    private final TaskVersionRepository taskVersionRepository;
+    private final TaskHistoryCodec codec;
+    private final TaskHistoryProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrate();
+    }
+
+    public void migrate() {
+        long started = System.nanoTime();
+        int tasks = 0;
+        int converted = 0;
+        Limit batch = Limit.of(properties.getMigrationBatchSize());
+        int interval = properties.getSnapshotInterval();
+        List<UUID> taskIds = taskVersionRepository.findTaskIdsWithFullRowsBetweenSnapshots(interval, batch);
+        while (!taskIds.isEmpty()) {
+            for (UUID taskId : taskIds) {
+                Integer rows = transactionTemplate.execute(status -> convert(taskId));
+                converted += rows != null ? rows : 0;
+                tasks++;
+            }
+            taskIds = taskVersionRepository.findTaskIdsWithFullRowsBetweenSnapshots(interval, taskIds.getLast(), batch);
+        }
+        log.info("Task history migration converted {} rows across {} tasks in {} ms",
+                converted, tasks, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private int convert(UUID taskId) {
+        List<TaskVersion> rows = taskVersionRepository.findByTaskIdOrderByVersionAsc(taskId);
+        List<TaskVersion> decoded = codec.decode(rows);
+        int converted = 0;
+        for (int i = 1; i < rows.size(); i++) {
+            TaskVersion row = rows.get(i);
+            boolean follows = rows.get(i - 1).getVersion() == row.getVersion() - 1;
+            if (row.getDeltaFields() == null && follows && !codec.isSnapshotVersion(row.getVersion())) {
+                codec.writeDelta(row, TaskState.of(decoded.get(i - 1)), TaskState.of(decoded.get(i)));
+                converted++;
+            }
+        }
+        return converted;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.TaskManagement.history;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "task.history")
+public class TaskHistoryProperties {
+
+    /**
+     * Store every Nth version (1, N+1, 2N+1, ...) in full and the ones in between as
+     * deltas. Only affects new rows; reads do not depend on it.
+     */
+    private int snapshotInterval = 20;
+
+    /**
+     * Convert full history rows written before delta encoding once on startup.
+     */
+    private boolean migrateOnStartup = false;
+
+    /**
+     * Task ids the migration reads per query. Each task is still converted in its own
+     * transaction.
+     */
+    private int migrationBatchSize = 100;
+}
@@ -0,0 +1,30 @@
+package com.example.TaskManagement.history;
+
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.model.TaskVersion;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The versioned fields of a task at one point in its history.
+ */
+public record TaskState(String title, String description, TaskStatus status, Priority priority,
+                        UUID createdBy, UUID assignedTo, LocalDate dueDate, List<String> tags) {
+
+    public static TaskState of(Task task) {
+        return new TaskState(task.getTitle(), task.getDescription(), task.getStatus(), task.getPriority(),
+                task.getCreatedBy().getId(),
+                task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
+                task.getDueDate(), List.copyOf(task.getTags()));
+    }
+
+    static TaskState of(TaskVersion snapshot) {
+        return new TaskState(snapshot.getTitle(), snapshot.getDescription(), snapshot.getStatus(),
+                snapshot.getPriority(), snapshot.getCreatedBy(), snapshot.getAssignedTo(),
+                snapshot.getDueDate(), List.copyOf(snapshot.getTags()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.TaskManagement.importer;
+
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A validated import row with its users resolved and the ids of the rows it becomes:
+ * the task, its initial version and its {@code TASK_CREATED} event.
+ */
+public record ImportedTask(long row,
+                           UUID id,
+                           UUID versionId,
+                           UUID eventId,
+                           String title,
+                           String description,
+                           TaskStatus status,
+                           Priority priority,
+                           UUID createdBy,
+                           UUID assignedTo,
+                           LocalDate dueDate,
+                           List<String> tags,
+                           LocalDateTime createdAt) {
+}
@@ -0,0 +1,20 @@
+package com.example.TaskManagement.importer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "task.import")
+public class TaskImportProperties {
+
+    /**
+     * Rows written per JDBC batch and transaction, and between progress lines.
+     */
+    private int chunkSize = 2000;
+
+    /**
+     * Stop an import once this many rows have been rejected; the rows imported until
+     * then are kept.
+     */
+    private int maxErrors = 1000;
+}
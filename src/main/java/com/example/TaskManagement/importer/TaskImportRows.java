@@ -0,0 +1,198 @@
+package com.example.TaskManagement.importer;
+
+import com.example.TaskManagement.dto.TaskImportRowDto;
+import com.example.TaskManagement.enums.ImportFormat;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TaskStatus;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.csv.CsvMapper;
+import tools.jackson.dataformat.csv.CsvSchema;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads import rows one at a time as the input arrives. A row that cannot be parsed
+ * comes back with an {@code error} instead of a task, and reading carries on with the
+ * next one.
+ *
+ * <p>NDJSON rows are {@link TaskImportRowDto} objects, numbered by line; blank lines
+ * are skipped. CSV needs a header naming the same fields, rows are numbered from the
+ * first record after it, and {@code tags} are separated by {@code ;}.
+ */
+public abstract class TaskImportRows implements Iterator<TaskImportRows.Row>, Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    public record Row(long number, TaskImportRowDto task, String error) {
+    }
+
+    private Row next;
+
+    public static TaskImportRows open(InputStream in, ImportFormat format, ObjectMapper objectMapper) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+        return switch (format) {
+            case NDJSON -> new Ndjson(reader, objectMapper);
+            case CSV -> new Csv(reader);
+        };
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = read();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Row next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Row row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * The next row, or {@code null} at the end of the input.
+     */
+    protected abstract Row read();
+
+    private static final class Ndjson extends TaskImportRows {
+
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+        private long lineNumber;
+
+        Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected Row read() {
+            try {
+                String line;
+                do {
+                    line = reader.readLine();
+                    lineNumber++;
+                } while (line != null && line.isBlank());
+                if (line == null) {
+                    return null;
+                }
+                try {
+                    return new Row(lineNumber, objectMapper.readValue(line, TaskImportRowDto.class), null);
+                } catch (JacksonException ex) {
+                    return new Row(lineNumber, null, ex.getOriginalMessage());
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static final class Csv extends TaskImportRows {
+
+        private final MappingIterator<Map<String, String>> records;
+        private long recordNumber;
+
+        Csv(Reader reader) {
+            this.records = CSV_MAPPER.readerForMapOf(String.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(reader);
+        }
+
+        @Override
+        protected Row read() {
+            Map<String, String> record;
+            try {
+                if (!records.hasNextValue()) {
+                    return null;
+                }
+                recordNumber++;
+                record = records.nextValue();
+            } catch (JacksonException ex) {
+                return new Row(recordNumber, null, ex.getOriginalMessage());
+            }
+            try {
+                return new Row(recordNumber, toTask(record), null);
+            } catch (IllegalArgumentException ex) {
+                return new Row(recordNumber, null, ex.getMessage());
+            }
+        }
+
+        @Override
+        public void close() {
+            records.close();
+        }
+
+        private static TaskImportRowDto toTask(Map<String, String> record) {
+            TaskImportRowDto task = new TaskImportRowDto();
+            task.setTitle(value(record, "title"));
+            task.setDescription(value(record, "description"));
+            task.setCreatedBy(value(record, "createdBy"));
+            task.setAssignedTo(value(record, "assignedTo"));
+
+            String status = value(record, "status");
+            if (status != null) {
+                task.setStatus(parseEnum(TaskStatus.class, status, "status"));
+            }
+            String priority = value(record, "priority");
+            if (priority != null) {
+                task.setPriority(parseEnum(Priority.class, priority, "priority"));
+            }
+            String dueDate = value(record, "dueDate");
+            if (dueDate != null) {
+                try {
+                    task.setDueDate(LocalDate.parse(dueDate));
+                } catch (DateTimeParseException ex) {
+                    throw new IllegalArgumentException("Invalid dueDate: " + dueDate);
+                }
+            }
+            String tags = value(record, "tags");
+            if (tags != null) {
+                task.setTags(Arrays.stream(tags.split(";"))
+                        .map(String::trim)
+                        .filter(tag -> !tag.isEmpty())
+                        .toList());
+            }
+            return task;
+        }
+
+        private static String value(Map<String, String> record, String column) {
+            String value = record.get(column);
+            return value == null || value.isBlank() ? null : value.trim();
+        }
+
+        private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String column) {
+            try {
+                return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Invalid " + column + ": " + value);
+            }
+        }
+    }
+}
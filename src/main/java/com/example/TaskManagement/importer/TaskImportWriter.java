@@ -0,0 +1,137 @@
+package com.example.TaskManagement.importer;
+
+import com.example.TaskManagement.enums.ActivityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Inserts imported tasks with one JDBC batch per table, bypassing the persistence
+ * context. Rows are written as Hibernate would write them for {@code createTask}:
+ * version 1, no comments, a full-snapshot initial version and a {@code TASK_CREATED}
+ * event by the creator.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskImportWriter {
+
+    static final String CHANGE_SUMMARY = "Task Imported";
+
+    private static final String INSERT_TASK = """
+            INSERT INTO tasks (id, version, title, description, status, priority, created_by, assigned_to,
+                               due_date, comment_count, created_at, updated_at)
+            VALUES (?, 1, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)
+            """;
+
+    private static final String INSERT_TASK_TAG = "INSERT INTO task_tags (task_id, tag) VALUES (?, ?)";
+
+    private static final String INSERT_VERSION = """
+            INSERT INTO task_versions (id, task_id, version, title, description, status, priority, created_by,
+                                       assigned_to, due_date, change_summary, versioned_at, delta_fields)
+            VALUES (?, ?, 1, ?, ?, ?, ?, ?, ?, ?, ?, ?, NULL)
+            """;
+
+    private static final String INSERT_VERSION_TAG = "INSERT INTO task_version_tags (version_id, tag) VALUES (?, ?)";
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO activity_events (id, task_id, activity_type, performed_by, timestamp, details)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private record TagRow(UUID ownerId, String tag) {
+    }
+
+    /**
+     * Must run in a transaction, so a chunk is written completely or not at all.
+     */
+    public void insert(List<ImportedTask> tasks) {
+        int batchSize = tasks.size();
+        List<TagRow> taskTags = new ArrayList<>();
+        List<TagRow> versionTags = new ArrayList<>();
+        for (ImportedTask task : tasks) {
+            for (String tag : task.tags()) {
+                taskTags.add(new TagRow(task.id(), tag));
+                versionTags.add(new TagRow(task.versionId(), tag));
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_TASK, tasks, batchSize, (ps, task) -> {
+            ps.setBytes(1, bytes(task.id()));
+            ps.setString(2, task.title());
+            ps.setString(3, task.description());
+            ps.setString(4, task.status().name());
+            ps.setString(5, task.priority().name());
+            ps.setBytes(6, bytes(task.createdBy()));
+            setUser(ps, 7, task.assignedTo());
+            setDate(ps, 8, task);
+            ps.setObject(9, task.createdAt());
+            ps.setObject(10, task.createdAt());
+        });
+        jdbcTemplate.batchUpdate(INSERT_TASK_TAG, taskTags, batchSize, TaskImportWriter::setTag);
+
+        jdbcTemplate.batchUpdate(INSERT_VERSION, tasks, batchSize, (ps, task) -> {
+            ps.setBytes(1, bytes(task.versionId()));
+            ps.setBytes(2, bytes(task.id()));
+            ps.setString(3, task.title());
+            ps.setString(4, task.description());
+            ps.setString(5, task.status().name());
+            ps.setString(6, task.priority().name());
+            ps.setBytes(7, bytes(task.createdBy()));
+            setUser(ps, 8, task.assignedTo());
+            setDate(ps, 9, task);
+            ps.setString(10, CHANGE_SUMMARY);
+            ps.setObject(11, task.createdAt());
+        });
+        jdbcTemplate.batchUpdate(INSERT_VERSION_TAG, versionTags, batchSize, TaskImportWriter::setTag);
+
+        jdbcTemplate.batchUpdate(INSERT_EVENT, tasks, batchSize, (ps, task) -> {
+            ps.setBytes(1, bytes(task.eventId()));
+            ps.setBytes(2, bytes(task.id()));
+            ps.setString(3, ActivityType.TASK_CREATED.name());
+            ps.setBytes(4, bytes(task.createdBy()));
+            ps.setObject(5, task.createdAt());
+            ps.setString(6, CHANGE_SUMMARY);
+        });
+    }
+
+    private static void setTag(PreparedStatement ps, TagRow row) throws SQLException {
+        ps.setBytes(1, bytes(row.ownerId()));
+        ps.setString(2, row.tag());
+    }
+
+    private static void setUser(PreparedStatement ps, int index, UUID userId) throws SQLException {
+        if (userId != null) {
+            ps.setBytes(index, bytes(userId));
+        } else {
+            ps.setNull(index, Types.BINARY);
+        }
+    }
+
+    private static void setDate(PreparedStatement ps, int index, ImportedTask task) throws SQLException {
+        if (task.dueDate() != null) {
+            ps.setObject(index, task.dueDate());
+        } else {
+            ps.setNull(index, Types.DATE);
+        }
+    }
+
+    /**
+     * The binary(16) form Hibernate stores UUIDs in: most significant bits first.
+     */
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
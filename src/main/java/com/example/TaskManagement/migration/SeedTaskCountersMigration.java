@@ -0,0 +1,77 @@
+package com.example.TaskManagement.migration;
+
+import com.example.TaskManagement.enums.TaskStatus;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static com.example.TaskManagement.service.TaskCounterDeltas.assigneeKey;
+import static com.example.TaskManagement.service.TaskCounterDeltas.openDueKey;
+import static com.example.TaskManagement.service.TaskCounterDeltas.statusKey;
+
+/**
+ * V2.1: fills {@code task_counters}, created by V2, from the tasks already in the
+ * database. Runs under Flyway's lock before the application takes any writes, so no
+ * task change can land between the count and the insert. Written in Java because the
+ * assignee keys hold the UUID as text, which MySQL and H2 format differently from
+ * {@code binary(16)}. Picked up by Flyway as a bean.
+ */
+@Component
+public class SeedTaskCountersMigration implements JavaMigration {
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("2.1");
+    }
+
+    @Override
+    public String getDescription() {
+        return "seed task counters";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        Map<String, Long> counts = new TreeMap<>();
+        jdbc.query("SELECT status, COUNT(*) FROM tasks GROUP BY status", row -> {
+            counts.put(statusKey(TaskStatus.valueOf(row.getString(1))), row.getLong(2));
+        });
+        jdbc.query("SELECT assigned_to, COUNT(*) FROM tasks WHERE assigned_to IS NOT NULL GROUP BY assigned_to", row -> {
+            counts.put(assigneeKey(uuid(row.getBytes(1))), row.getLong(2));
+        });
+        jdbc.query("SELECT due_date, COUNT(*) FROM tasks WHERE due_date IS NOT NULL " +
+                   "AND status NOT IN ('COMPLETED', 'CANCELLED') GROUP BY due_date", row -> {
+            counts.put(openDueKey(row.getObject(1, Date.class).toLocalDate()), row.getLong(2));
+        });
+
+        List<Object[]> rows = new ArrayList<>();
+        counts.forEach((key, count) -> rows.add(new Object[]{key, count}));
+        jdbc.batchUpdate("INSERT INTO task_counters (counter_key, task_count) VALUES (?, ?)", rows);
+    }
+
+    private static UUID uuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
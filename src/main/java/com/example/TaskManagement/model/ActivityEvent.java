@@ -10,7 +10,11 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "activity_events")
+@Table(name = "activity_events", indexes = {
+        @Index(name = "idx_activity_events_task_time", columnList = "task_id, timestamp, id"),
+        @Index(name = "idx_activity_events_performer_time", columnList = "performed_by, timestamp, id"),
+        @Index(name = "idx_activity_events_time", columnList = "timestamp, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,8 +31,13 @@ public class ActivityEvent {
     @Column(nullable = false)
     private ActivityType activityType;
 
+    /**
+     * No foreign key: MySQL does not allow them on the partitioned table. Users are
+     * only ever deactivated, never deleted. Null for events the system records on
+     * its own, such as {@code OVERDUE}.
+     */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "performed_by", nullable = false)
+    @JoinColumn(name = "performed_by", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User performedBy;
 
     @Column(nullable = false)
@@ -39,7 +48,9 @@ public class ActivityEvent {
 
     @PrePersist
     protected void onCreate() {
-        timestamp = LocalDateTime.now();
+        if (timestamp == null) {
+            timestamp = LocalDateTime.now();
+        }
     }
 
 }
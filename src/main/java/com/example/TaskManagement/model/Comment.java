@@ -9,7 +9,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_task_time", columnList = "task_id, timestamp, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -6,8 +6,10 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDate;
@@ -22,12 +24,17 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
-public class Task {
+public class Task implements Persistable<UUID> {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    /**
+     * Optimistic lock: every update is issued as
+     * {@code UPDATE tasks ... WHERE id = ? AND version = ?} and bumps it by one.
+     */
+    @Version
     @Column(nullable = false)
     private Integer version = 1;
 
@@ -56,6 +63,7 @@ public class Task {
     private LocalDate dueDate;
 
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "task_tags", joinColumns = @JoinColumn(name = "task_id"))
     @Column(name = "tag")
     private List<String> tags = new ArrayList<>();
@@ -68,7 +76,32 @@ public class Task {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Maintained by {@code TaskRepository.incrementCommentCount} so task reads never
+     * count comments. Left out of entity UPDATEs, which would otherwise write back a
+     * stale count over a comment added since the task was loaded.
+     */
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
+
+    /**
+     * When the task was first seen past its due date, stamped by
+     * {@code OverdueTracker} so each transition is recorded once. Like
+     * {@link #commentCount} it is only ever written by dedicated queries.
+     */
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime overdueSince;
+
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<Comment> comments = new ArrayList<>();
 
+    /**
+     * New until persisted. The version starts at 1 rather than null, so Spring Data
+     * cannot use it to tell new tasks apart.
+     */
+    @Override
+    public boolean isNew() {
+        return id == null;
+    }
 }
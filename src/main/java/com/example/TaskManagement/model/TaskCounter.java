@@ -0,0 +1,26 @@
+package com.example.TaskManagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running task count for one dimension value, e.g. {@code status:OPEN},
+ * {@code assignee:<userId>} or {@code open-due:2024-06-30}. Maintained in the
+ * same transaction as the task change that moves it.
+ */
+@Entity
+@Table(name = "task_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCounter {
+
+    @Id
+    @Column(name = "counter_key", length = 64)
+    private String counterKey;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -14,7 +15,8 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "task_versions")
+@Table(name = "task_versions",
+        indexes = @Index(name = "idx_task_versions_task_version", columnList = "task_id, version"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,10 +32,9 @@ public class TaskVersion {
     @Column(nullable = false)
     private Integer version;
 
-    @Column(nullable = false)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
+    @Column(columnDefinition = "TEXT")
     private String description;
 
     @Enumerated(EnumType.STRING)
@@ -52,6 +53,7 @@ public class TaskVersion {
     private LocalDate dueDate;
 
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "task_version_tags", joinColumns = @JoinColumn(name = "version_id"))
     @Column(name = "tag")
     private List<String> tags = new ArrayList<>();
@@ -62,8 +64,17 @@ public class TaskVersion {
     @Column(columnDefinition = "TEXT")
     private String changeSummary;
 
+    /**
+     * Null when this row is a full snapshot. Otherwise the row is a delta against the
+     * previous version and this is the bit mask of the fields it carries; the others
+     * are left empty. See {@link com.example.TaskManagement.history.TaskHistoryCodec}.
+     */
+    private Integer deltaFields;
+
     @PrePersist
     protected void onCreate() {
-        versionedAt = LocalDateTime.now();
+        if (versionedAt == null) {
+            versionedAt = LocalDateTime.now();
+        }
     }
 }
@@ -0,0 +1,33 @@
+package com.example.TaskManagement.overdue;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "task.overdue")
+public class OverdueProperties {
+
+    /**
+     * Track open tasks by due date in memory, record OVERDUE events and resolve the
+     * overdue listing from it instead of the database.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How often due dates are checked against the current day.
+     */
+    private Duration tickInterval = Duration.ofMinutes(1);
+
+    /**
+     * How often the tracker is rebuilt from the database, picking up due dates and
+     * statuses changed by other instances.
+     */
+    private Duration reloadInterval = Duration.ofMinutes(10);
+
+    /**
+     * Tasks stamped and given an OVERDUE event per transaction.
+     */
+    private int batchSize = 500;
+}
@@ -0,0 +1,385 @@
+package com.example.TaskManagement.overdue;
+
+import com.example.TaskManagement.audit.AuditSink;
+import com.example.TaskManagement.cache.TaskQueryCache;
+import com.example.TaskManagement.enums.ActivityType;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.model.ActivityEvent;
+import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.pagination.TaskCursor;
+import com.example.TaskManagement.pagination.UuidOrder;
+import com.example.TaskManagement.repository.OpenDueRow;
+import com.example.TaskManagement.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Open tasks with a due date, held in one bucket per due day. Every
+ * {@code task.overdue.tick-interval} the buckets for days before today are drained:
+ * their tasks are stamped with {@code overdue_since}, get an {@code OVERDUE} activity
+ * event, and move to the overdue set that backs the overdue listing, whose cached
+ * pages are evicted.
+ *
+ * <p>Built in the background once the application is ready; until then {@link #find}
+ * returns {@code null} and callers fall back to SQL. Changes made here are applied
+ * when their transaction commits, and changes made by other instances are picked up
+ * by a rebuild every {@code task.overdue.reload-interval}, or sooner through
+ * {@link #refresh} when a reader finds a listed task no longer overdue.
+ * Stamping is conditional in the database, so each task gets one event however many
+ * instances notice it.
+ */
+@Slf4j
+@Component
+public class OverdueTracker {
+
+    /**
+     * The order of {@code TaskSort.DUE_DATE_ASC} as the database applies it: priority
+     * compares by its enum column's declared (alphabetical) values, and ids as the
+     * bytes of their binary(16) column.
+     */
+    private static final Comparator<TrackedTask> DUE_DATE_ORDER = Comparator
+            .comparing(TrackedTask::dueDate)
+            .thenComparing(task -> task.priority().name(), Comparator.reverseOrder())
+            .thenComparing(TrackedTask::taskId, UuidOrder.AS_STORED);
+
+    private final TaskRepository taskRepository;
+    private final AuditSink auditSink;
+    private final TaskQueryCache taskQueryCache;
+    private final TransactionTemplate transactionTemplate;
+    private final OverdueProperties properties;
+    private final Counter recordedCounter;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Change> changedDuringBuild = new ArrayList<>();
+    private Schedule schedule;
+    private boolean building;
+
+    /**
+     * {@code recorded} is whether the database already has the task stamped overdue.
+     */
+    private record TrackedTask(UUID taskId, LocalDate dueDate, Priority priority, boolean recorded) {
+    }
+
+    /**
+     * The state of a task after a committed change; {@code tracked} is null once it
+     * is closed or has no due date.
+     */
+    private record Change(UUID taskId, TrackedTask tracked) {
+    }
+
+    public OverdueTracker(TaskRepository taskRepository,
+                          AuditSink auditSink,
+                          TaskQueryCache taskQueryCache,
+                          TransactionTemplate transactionTemplate,
+                          OverdueProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.auditSink = auditSink;
+        this.taskQueryCache = taskQueryCache;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.recordedCounter = Counter.builder("task.overdue.recorded")
+                .description("Tasks stamped overdue and given an OVERDUE event")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInBackground() {
+        if (properties.isEnabled()) {
+            Thread.ofVirtual().name("overdue-tracker-load").start(this::reload);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${task.overdue.reload-interval:10m}",
+               fixedDelayString = "${task.overdue.reload-interval:10m}")
+    public void reload() {
+        if (!properties.isEnabled() || !startBuilding()) {
+            return;
+        }
+        long started = System.nanoTime();
+        Schedule loaded = new Schedule();
+        LocalDate today = LocalDate.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<OpenDueRow> rows = taskRepository.streamOpenDueRows()) {
+                    rows.forEach(row -> loaded.put(new TrackedTask(row.getTaskId(), row.getDueDate(),
+                            row.getPriority(), row.getOverdueSince() != null), today));
+                }
+            });
+        } catch (RuntimeException ex) {
+            log.error("Loading the overdue tracker failed; overdue listings will use the database", ex);
+            finishBuilding(null);
+            return;
+        }
+        finishBuilding(loaded);
+        log.info("Overdue tracker loaded {} open tasks with due dates in {} ms",
+                loaded.size(), (System.nanoTime() - started) / 1_000_000);
+        tick();
+    }
+
+    /**
+     * Records every task whose due date has passed since the last tick.
+     */
+    @Scheduled(fixedDelayString = "${task.overdue.tick-interval:1m}")
+    public void tick() {
+        tick(LocalDate.now());
+    }
+
+    void tick(LocalDate today) {
+        List<TrackedTask> due;
+        lock.writeLock().lock();
+        try {
+            if (schedule == null) {
+                return;
+            }
+            due = schedule.drainBefore(today);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!due.isEmpty()) {
+            // Cached overdue pages read before the drain lack these tasks.
+            taskQueryCache.invalidateOverdue();
+        }
+
+        for (int from = 0; from < due.size(); from += properties.getBatchSize()) {
+            List<TrackedTask> batch = due.subList(from, Math.min(from + properties.getBatchSize(), due.size()));
+            try {
+                Integer recorded = transactionTemplate.execute(status -> record(batch, today));
+                recordedCounter.increment(recorded != null ? recorded : 0);
+            } catch (RuntimeException ex) {
+                // Unstamped tasks are found again by the next reload.
+                log.warn("Recording {} overdue tasks failed", batch.size(), ex);
+            }
+        }
+    }
+
+    /**
+     * Tracks the task as it is now once the current transaction commits, so a
+     * rolled-back change never reaches the tracker.
+     */
+    public void trackAfterCommit(Task task) {
+        trackAfterCommit(task.getId(), task.getStatus(), task.getPriority(), task.getDueDate(),
+                task.getOverdueSince() != null);
+    }
+
+    /**
+     * For new tasks inserted without an entity, such as imported ones.
+     */
+    public void trackAfterCommit(UUID taskId, TaskStatus status, Priority priority, LocalDate dueDate) {
+        trackAfterCommit(taskId, status, priority, dueDate, false);
+    }
+
+    private void trackAfterCommit(UUID taskId, TaskStatus status, Priority priority, LocalDate dueDate,
+                                  boolean recorded) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        boolean open = status != TaskStatus.COMPLETED && status != TaskStatus.CANCELLED;
+        TrackedTask tracked = open && dueDate != null
+                ? new TrackedTask(taskId, dueDate, priority, recorded)
+                : null;
+        Change change = new Change(taskId, tracked);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    /**
+     * Reads the tasks again and tracks them as they are now. For ids a reader found
+     * closed or rescheduled, usually by another instance, so they stop being listed
+     * before the next reload.
+     */
+    public void refresh(Collection<UUID> taskIds) {
+        if (!properties.isEnabled() || taskIds.isEmpty()) {
+            return;
+        }
+        Map<UUID, OpenDueRow> rows = new HashMap<>();
+        taskRepository.findOpenDueRowsByIdIn(taskIds).forEach(row -> rows.put(row.getTaskId(), row));
+        for (UUID taskId : taskIds) {
+            OpenDueRow row = rows.get(taskId);
+            apply(new Change(taskId, row == null ? null : new TrackedTask(taskId, row.getDueDate(),
+                    row.getPriority(), row.getOverdueSince() != null)));
+        }
+    }
+
+    /**
+     * Up to {@code limit} overdue task ids in {@code DUE_DATE_ASC} order, starting
+     * after {@code after} when given. Returns {@code null} while the tracker is
+     * disabled or still loading.
+     */
+    public List<UUID> find(TaskCursor after, int limit) {
+        lock.readLock().lock();
+        try {
+            if (schedule == null) {
+                return null;
+            }
+            NavigableSet<TrackedTask> overdue = schedule.overdue;
+            if (after != null) {
+                List<Object> values = after.getValues();
+                if (values.getFirst() == null) {
+                    return null;
+                }
+                TrackedTask position = new TrackedTask((UUID) values.get(2), (LocalDate) values.get(0),
+                        (Priority) values.get(1), true);
+                overdue = overdue.tailSet(position, false);
+            }
+            List<UUID> ids = new ArrayList<>(limit);
+            for (TrackedTask task : overdue) {
+                if (ids.size() == limit) {
+                    break;
+                }
+                ids.add(task.taskId());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int record(List<TrackedTask> batch, LocalDate today) {
+        Map<UUID, TrackedTask> byId = new HashMap<>();
+        batch.forEach(task -> byId.put(task.taskId(), task));
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        if (taskRepository.markOverdue(byId.keySet(), today, now) == 0) {
+            return 0;
+        }
+        List<ActivityEvent> events = new ArrayList<>();
+        for (UUID taskId : taskRepository.findIdsByOverdueSince(byId.keySet(), now)) {
+            ActivityEvent event = new ActivityEvent();
+            event.setTaskId(taskId);
+            event.setActivityType(ActivityType.OVERDUE);
+            event.setTimestamp(now);
+            event.setDetails("Due date " + byId.get(taskId).dueDate() + " passed");
+            events.add(event);
+        }
+        auditSink.recordAll(List.of(), events);
+        return events.size();
+    }
+
+    private boolean startBuilding() {
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                return false;
+            }
+            building = true;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Swaps in the freshly loaded schedule, replaying changes that committed while it
+     * was read. A failed load keeps the previous schedule.
+     */
+    private void finishBuilding(Schedule loaded) {
+        lock.writeLock().lock();
+        try {
+            if (loaded != null) {
+                LocalDate today = LocalDate.now();
+                changedDuringBuild.forEach(change -> loaded.apply(change, today));
+                schedule = loaded;
+            }
+            changedDuringBuild.clear();
+            building = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            if (schedule != null) {
+                schedule.apply(change, LocalDate.now());
+            }
+            if (building) {
+                changedDuringBuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tasks not yet recorded overdue wait in the bucket of their due date; a bucket
+     * is only touched again when a tick drains it or one of its tasks changes.
+     */
+    private static final class Schedule {
+
+        private final TreeMap<LocalDate, Set<UUID>> upcoming = new TreeMap<>();
+        private final NavigableSet<TrackedTask> overdue = new TreeSet<>(DUE_DATE_ORDER);
+        private final Map<UUID, TrackedTask> tracked = new HashMap<>();
+
+        void apply(Change change, LocalDate today) {
+            remove(change.taskId());
+            if (change.tracked() != null) {
+                put(change.tracked(), today);
+            }
+        }
+
+        void put(TrackedTask task, LocalDate today) {
+            tracked.put(task.taskId(), task);
+            if (task.recorded() && task.dueDate().isBefore(today)) {
+                overdue.add(task);
+            } else {
+                upcoming.computeIfAbsent(task.dueDate(), day -> new HashSet<>()).add(task.taskId());
+            }
+        }
+
+        void remove(UUID taskId) {
+            TrackedTask task = tracked.remove(taskId);
+            if (task == null || overdue.remove(task)) {
+                return;
+            }
+            Set<UUID> bucket = upcoming.get(task.dueDate());
+            if (bucket != null && bucket.remove(taskId) && bucket.isEmpty()) {
+                upcoming.remove(task.dueDate());
+            }
+        }
+
+        List<TrackedTask> drainBefore(LocalDate today) {
+            List<TrackedTask> due = new ArrayList<>();
+            Map<LocalDate, Set<UUID>> passed = upcoming.headMap(today, false);
+            for (Set<UUID> bucket : passed.values()) {
+                for (UUID taskId : bucket) {
+                    TrackedTask task = tracked.get(taskId);
+                    due.add(task);
+                    overdue.add(task);
+                }
+            }
+            passed.clear();
+            return due;
+        }
+
+        int size() {
+            return tracked.size();
+        }
+    }
+}
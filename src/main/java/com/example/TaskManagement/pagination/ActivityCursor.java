@@ -0,0 +1,65 @@
+package com.example.TaskManagement.pagination;
+
+import com.example.TaskManagement.exception.InvalidCursorException;
+import com.example.TaskManagement.model.ActivityEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last event of an activity feed page. Feeds are ordered by
+ * {@code (timestamp, id)} descending, so the id breaks ties between events recorded
+ * in the same instant. Serialized as an opaque URL-safe token like {@link TaskCursor}.
+ */
+public record ActivityCursor(LocalDateTime timestamp, UUID id) {
+
+    private static final String PREFIX = "ACTIVITY";
+    private static final String SEPARATOR = "|";
+
+    public static ActivityCursor of(ActivityEvent last) {
+        return new ActivityCursor(last.getTimestamp(), last.getId());
+    }
+
+    /**
+     * Returns {@code null} for a missing token, meaning "start from the newest event".
+     */
+    public static ActivityCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        String[] parts = raw.split("\\" + SEPARATOR, -1);
+        if (parts.length != 3 || !parts[0].equals(PREFIX)) {
+            throw new InvalidCursorException("Cursor does not belong to this listing");
+        }
+        try {
+            return new ActivityCursor(LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = PREFIX + SEPARATOR + timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Whether an event at {@code (eventTimestamp, eventId)} comes after this position
+     * in feed order, comparing ids the way the database does.
+     */
+    public boolean isBefore(LocalDateTime eventTimestamp, UUID eventId) {
+        int byTime = eventTimestamp.compareTo(timestamp);
+        return byTime < 0 || (byTime == 0 && UuidOrder.compare(eventId, id) < 0);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.TaskManagement.pagination;
+
+import com.example.TaskManagement.exception.InvalidCursorException;
+import com.example.TaskManagement.model.Comment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last comment of a page. Threads are ordered by
+ * {@code (timestamp, id)} descending, like {@link ActivityCursor}.
+ */
+public record CommentCursor(LocalDateTime timestamp, UUID id) {
+
+    private static final String PREFIX = "COMMENT";
+    private static final String SEPARATOR = "|";
+
+    public static CommentCursor of(Comment last) {
+        return new CommentCursor(last.getTimestamp(), last.getId());
+    }
+
+    /**
+     * Returns {@code null} for a missing token, meaning "start from the newest comment".
+     */
+    public static CommentCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        String[] parts = raw.split("\\" + SEPARATOR, -1);
+        if (parts.length != 3 || !parts[0].equals(PREFIX)) {
+            throw new InvalidCursorException("Cursor does not belong to this listing");
+        }
+        try {
+            return new CommentCursor(LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = PREFIX + SEPARATOR + timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.TaskManagement.pagination;
+
+import com.example.TaskManagement.exception.InvalidCursorException;
+import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.projection.TaskRow;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Position of the last row of a page under a given {@link TaskSort}.
+ * Serialized as an opaque URL-safe token so clients never depend on its layout.
+ */
+public final class TaskCursor {
+
+    private static final String SEPARATOR = "|";
+    private static final String NULL_VALUE = "~";
+
+    private final TaskSort sort;
+    private final List<Object> values;
+
+    private TaskCursor(TaskSort sort, List<Object> values) {
+        this.sort = sort;
+        this.values = Collections.unmodifiableList(values);
+    }
+
+    public static TaskCursor of(TaskSort sort, Task last) {
+        List<Object> values = new ArrayList<>();
+        for (TaskSort.SortKey key : sort.getKeys()) {
+            values.add(key.extractor().apply(last));
+        }
+        return new TaskCursor(sort, values);
+    }
+
+    /**
+     * For projected pages, whose rows always include the sort key columns.
+     */
+    public static TaskCursor of(TaskSort sort, TaskRow last) {
+        List<Object> values = new ArrayList<>();
+        for (TaskSort.SortKey key : sort.getKeys()) {
+            values.add(last.get(key.attribute()));
+        }
+        return new TaskCursor(sort, values);
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     * Returns {@code null} for a missing token, meaning "start from the first row".
+     */
+    public static TaskCursor decode(String token, TaskSort expectedSort) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        String[] parts = raw.split("\\" + SEPARATOR, -1);
+        List<TaskSort.SortKey> keys = expectedSort.getKeys();
+        if (parts.length != keys.size() + 1 || !parts[0].equals(expectedSort.name())) {
+            throw new InvalidCursorException("Cursor does not belong to this listing");
+        }
+
+        List<Object> values = new ArrayList<>();
+        try {
+            for (int i = 0; i < keys.size(); i++) {
+                String part = parts[i + 1];
+                values.add(NULL_VALUE.equals(part) ? null : keys.get(i).parser().apply(part));
+            }
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        return new TaskCursor(expectedSort, values);
+    }
+
+    public String encode() {
+        StringBuilder raw = new StringBuilder(sort.name());
+        for (Object value : values) {
+            raw.append(SEPARATOR).append(value == null ? NULL_VALUE : value.toString());
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public TaskSort getSort() {
+        return sort;
+    }
+
+    /**
+     * Key values in the same order as {@link TaskSort#getKeys()}.
+     */
+    public List<Object> getValues() {
+        return values;
+    }
+}
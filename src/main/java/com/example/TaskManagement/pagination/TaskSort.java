@@ -0,0 +1,81 @@
+package com.example.TaskManagement.pagination;
+
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.model.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Orderings supported by keyset pagination. Every ordering is made total by
+ * appending {@code id ASC} as the final tiebreaker, so a cursor always points
+ * at exactly one row.
+ */
+public enum TaskSort {
+
+    CREATED_AT_DESC(
+            SortKey.desc("createdAt", false, Task::getCreatedAt, LocalDateTime::parse)),
+
+    UPDATED_AT_DESC(
+            SortKey.desc("updatedAt", false, Task::getUpdatedAt, LocalDateTime::parse)),
+
+    PRIORITY_DESC(
+            SortKey.desc("priority", false, Task::getPriority, Priority::valueOf),
+            SortKey.desc("createdAt", false, Task::getCreatedAt, LocalDateTime::parse)),
+
+    DUE_DATE_ASC(
+            SortKey.asc("dueDate", true, Task::getDueDate, LocalDate::parse),
+            SortKey.desc("priority", false, Task::getPriority, Priority::valueOf)),
+
+    STATUS_ASC(
+            SortKey.asc("status", false, Task::getStatus, TaskStatus::valueOf),
+            SortKey.desc("priority", false, Task::getPriority, Priority::valueOf)),
+
+    STATUS_AND_PRIORITY(
+            SortKey.asc("status", false, Task::getStatus, TaskStatus::valueOf),
+            SortKey.desc("priority", false, Task::getPriority, Priority::valueOf),
+            SortKey.asc("dueDate", true, Task::getDueDate, LocalDate::parse));
+
+    private final List<SortKey> keys;
+
+    TaskSort(SortKey... keys) {
+        List<SortKey> all = new ArrayList<>(List.of(keys));
+        all.add(SortKey.asc("id", false, Task::getId, UUID::fromString));
+        this.keys = Collections.unmodifiableList(all);
+    }
+
+    /**
+     * Sort keys in order, including the trailing {@code id} tiebreaker.
+     */
+    public List<SortKey> getKeys() {
+        return keys;
+    }
+
+    /**
+     * A single column of an ordering. Nulls are treated as the lowest value
+     * (first when ascending, last when descending), which is also MySQL's
+     * default so no null-ordering emulation is needed in the generated SQL.
+     */
+    public record SortKey(String attribute,
+                          boolean descending,
+                          boolean nullable,
+                          Function<Task, Object> extractor,
+                          Function<String, Object> parser) {
+
+        static SortKey asc(String attribute, boolean nullable,
+                           Function<Task, Object> extractor, Function<String, Object> parser) {
+            return new SortKey(attribute, false, nullable, extractor, parser);
+        }
+
+        static SortKey desc(String attribute, boolean nullable,
+                            Function<Task, Object> extractor, Function<String, Object> parser) {
+            return new SortKey(attribute, true, nullable, extractor, parser);
+        }
+    }
+}
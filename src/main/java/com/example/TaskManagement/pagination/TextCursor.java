@@ -0,0 +1,51 @@
+package com.example.TaskManagement.pagination;
+
+import com.example.TaskManagement.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last hit of a text search page. Hits are ordered by score
+ * descending, then task id, so a page continues after the last hit even if the
+ * index has changed since. Scores shift as tasks are indexed, so a later page may
+ * miss or repeat a task whose score moved across the position.
+ */
+public record TextCursor(float score, UUID taskId) {
+
+    private static final String PREFIX = "TEXT";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Returns {@code null} for a missing token, meaning "start from the best match".
+     */
+    public static TextCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        String[] parts = raw.split("\\" + SEPARATOR, -1);
+        if (parts.length != 3 || !parts[0].equals(PREFIX)) {
+            throw new InvalidCursorException("Cursor does not belong to this listing");
+        }
+        try {
+            return new TextCursor(Float.parseFloat(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = PREFIX + SEPARATOR + score + SEPARATOR + taskId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.TaskManagement.pagination;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * The order the database gives ids stored as binary(16): their bytes compared as
+ * unsigned values. {@link UUID#compareTo} compares the halves as signed longs and
+ * disagrees whenever the top bit of either half differs, so in-memory structures that
+ * must agree with a keyset cursor compare ids through this instead.
+ */
+public final class UuidOrder {
+
+    public static final Comparator<UUID> AS_STORED = UuidOrder::compare;
+
+    private UuidOrder() {
+    }
+
+    public static int compare(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.TaskManagement.projection;
+
+import com.example.TaskManagement.exception.RuleViolationException;
+
+/**
+ * Fields a task listing can be asked for with {@code fields=}, named as in
+ * {@code TaskResponseDto}. Each is also the {@code Task} attribute it is read from.
+ */
+public enum TaskField {
+    ID("id"),
+    VERSION("version"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    PRIORITY("priority"),
+    CREATED_BY("createdBy"),
+    ASSIGNED_TO("assignedTo"),
+    DUE_DATE("dueDate"),
+    TAGS("tags"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    COMMENT_COUNT("commentCount");
+
+    private final String attribute;
+
+    TaskField(String attribute) {
+        this.attribute = attribute;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * A user, read through a join as its id, name, email and role.
+     */
+    public boolean isUser() {
+        return this == CREATED_BY || this == ASSIGNED_TO;
+    }
+
+    /**
+     * A column of {@code tasks} itself, as opposed to a user or the tags.
+     */
+    public boolean isColumn() {
+        return !isUser() && this != TAGS;
+    }
+
+    public static TaskField of(String name) {
+        for (TaskField field : values()) {
+            if (field.attribute.equals(name)) {
+                return field;
+            }
+        }
+        throw new RuleViolationException("Unknown task field: " + name);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.TaskManagement.projection;
+
+import com.example.TaskManagement.exception.RuleViolationException;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * What a task listing returns: the {@code FULL} task, the {@code SUMMARY} a board
+ * shows, or a {@code SPARSE} set of fields. Anything but the full task is read as a
+ * projection of just its columns.
+ */
+public record TaskFields(View view, Set<TaskField> fields) {
+
+    public enum View {
+        FULL, SUMMARY, SPARSE
+    }
+
+    public static final TaskFields FULL = new TaskFields(View.FULL, EnumSet.allOf(TaskField.class));
+
+    /**
+     * The fields of {@code TaskSummaryDto}.
+     */
+    public static final TaskFields SUMMARY = new TaskFields(View.SUMMARY, EnumSet.of(
+            TaskField.ID, TaskField.TITLE, TaskField.STATUS, TaskField.PRIORITY,
+            TaskField.ASSIGNED_TO, TaskField.DUE_DATE));
+
+    public TaskFields {
+        fields = Collections.unmodifiableSet(EnumSet.copyOf(fields));
+    }
+
+    /**
+     * Parses {@code view=full|summary} or {@code fields=title,status,...}, at most one of
+     * them; {@code defaults} when neither is given. A sparse set always includes the id.
+     */
+    public static TaskFields of(String view, List<String> fields, TaskFields defaults) {
+        boolean hasFields = fields != null && !fields.isEmpty();
+        if (view != null && hasFields) {
+            throw new RuleViolationException("Use either view or fields, not both");
+        }
+        if (hasFields) {
+            Set<TaskField> requested = EnumSet.of(TaskField.ID);
+            for (String field : fields) {
+                requested.add(TaskField.of(field.trim()));
+            }
+            return new TaskFields(View.SPARSE, requested);
+        }
+        if (view == null) {
+            return defaults;
+        }
+        return switch (view.toLowerCase()) {
+            case "full" -> FULL;
+            case "summary" -> SUMMARY;
+            default -> throw new RuleViolationException("Unknown view: " + view + " (expected full or summary)");
+        };
+    }
+
+    public boolean isFull() {
+        return view == View.FULL;
+    }
+
+    public boolean contains(TaskField field) {
+        return fields.contains(field);
+    }
+}
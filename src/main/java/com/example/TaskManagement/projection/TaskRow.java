@@ -0,0 +1,48 @@
+package com.example.TaskManagement.projection;
+
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TaskStatus;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The columns of one task a projection read, by {@code Task} attribute. User columns
+ * are keyed as {@code createdBy.name}, {@code assignedTo.id} and so on; tags are only
+ * set when they were asked for.
+ */
+public final class TaskRow {
+
+    private final Map<String, Object> values = new HashMap<>();
+    private List<String> tags;
+
+    public Object get(String attribute) {
+        return values.get(attribute);
+    }
+
+    public void put(String attribute, Object value) {
+        values.put(attribute, value);
+    }
+
+    public UUID getId() {
+        return (UUID) values.get("id");
+    }
+
+    public TaskStatus getStatus() {
+        return (TaskStatus) values.get("status");
+    }
+
+    public Priority getPriority() {
+        return (Priority) values.get("priority");
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+}
@@ -1,13 +1,43 @@
 package com.example.TaskManagement.repository;
 
+import com.example.TaskManagement.activity.ArchivedActivityEvent;
+import com.example.TaskManagement.enums.ActivityType;
 import com.example.TaskManagement.model.ActivityEvent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface ActivityEventRepository extends JpaRepository<ActivityEvent, UUID> {
-    List<ActivityEvent> findByTaskIdOrderByTimestampDesc(UUID taskId);
+public interface ActivityEventRepository extends JpaRepository<ActivityEvent, UUID>, ActivityEventRepositoryCustom {
+
+    boolean existsByTaskIdAndActivityTypeAndTimestamp(UUID taskId, ActivityType activityType, LocalDateTime timestamp);
+
+    @Query("SELECT MIN(e.timestamp) FROM ActivityEvent e")
+    LocalDateTime findOldestTimestamp();
+
+    /**
+     * Rows of one month straight into their archived form, so exporting a month never
+     * fills the persistence context.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.TaskManagement.activity.ArchivedActivityEvent(" +
+           "e.id, e.taskId, e.activityType, e.performedBy.id, e.timestamp, e.details) " +
+           "FROM ActivityEvent e WHERE e.timestamp >= :from AND e.timestamp < :to")
+    Stream<ArchivedActivityEvent> streamArchivable(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM ActivityEvent e WHERE e.timestamp >= :from AND e.timestamp < :to")
+    int deleteByTimestampRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,30 @@
+package com.example.TaskManagement.repository;
+
+import com.example.TaskManagement.enums.ActivityType;
+import com.example.TaskManagement.model.ActivityEvent;
+import com.example.TaskManagement.pagination.ActivityCursor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads that span the live table and the archive of expired months.
+ */
+public interface ActivityEventRepositoryCustom {
+
+    /**
+     * All of a task's events, newest first. Archived events come back with the
+     * performer as an uninitialized reference, like events loaded from the table.
+     */
+    List<ActivityEvent> findByTaskIdOrderByTimestampDesc(UUID taskId);
+
+    /**
+     * Keyset page in {@code (timestamp, id)} descending order, strictly after
+     * {@code after} when given. Null filters are ignored. A page of one task's events
+     * continues into the archive once the live table runs out; the global feed covers
+     * retained events only.
+     */
+    List<ActivityEvent> findFeedPage(UUID taskId, Collection<ActivityType> types, UUID performedBy,
+                                     ActivityCursor after, int limit);
+}
@@ -0,0 +1,136 @@
+package com.example.TaskManagement.repository;
+
+import com.example.TaskManagement.activity.ActivityArchive;
+import com.example.TaskManagement.activity.ArchivedActivityEvent;
+import com.example.TaskManagement.enums.ActivityType;
+import com.example.TaskManagement.model.ActivityEvent;
+import com.example.TaskManagement.model.User;
+import com.example.TaskManagement.pagination.ActivityCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+
+public class ActivityEventRepositoryImpl implements ActivityEventRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ActivityArchive activityArchive;
+
+    public ActivityEventRepositoryImpl(ActivityArchive activityArchive) {
+        this.activityArchive = activityArchive;
+    }
+
+    @Override
+    public List<ActivityEvent> findByTaskIdOrderByTimestampDesc(UUID taskId) {
+        List<ActivityEvent> events = new ArrayList<>(entityManager.createQuery(
+                        "SELECT e FROM ActivityEvent e WHERE e.taskId = :taskId ORDER BY e.timestamp DESC",
+                        ActivityEvent.class)
+                .setParameter("taskId", taskId)
+                .getResultList());
+
+        Set<UUID> seen = new HashSet<>();
+        events.forEach(event -> seen.add(event.getId()));
+        for (YearMonth month : archivedMonthsOf(taskId)) {
+            for (ArchivedActivityEvent archived : activityArchive.read(month, taskId)) {
+                if (seen.add(archived.id())) {
+                    events.add(toEvent(archived));
+                }
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public List<ActivityEvent> findFeedPage(UUID taskId, Collection<ActivityType> types, UUID performedBy,
+                                            ActivityCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ActivityEvent> query = cb.createQuery(ActivityEvent.class);
+        Root<ActivityEvent> root = query.from(ActivityEvent.class);
+        Path<LocalDateTime> timestamp = root.get("timestamp");
+        Path<UUID> id = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (taskId != null) {
+            predicates.add(cb.equal(root.get("taskId"), taskId));
+        }
+        if (types != null && !types.isEmpty()) {
+            predicates.add(root.get("activityType").in(types));
+        }
+        if (performedBy != null) {
+            predicates.add(cb.equal(root.get("performedBy").get("id"), performedBy));
+        }
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(timestamp, after.timestamp()),
+                    cb.and(cb.equal(timestamp, after.timestamp()), cb.lessThan(id, after.id()))));
+        }
+
+        query.select(root)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(timestamp), cb.desc(id));
+
+        List<ActivityEvent> events = new ArrayList<>(entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList());
+        if (taskId != null && events.size() < limit) {
+            continueIntoArchive(events, taskId, types, performedBy,
+                    events.isEmpty() ? after : ActivityCursor.of(events.getLast()), limit);
+        }
+        return events;
+    }
+
+    private void continueIntoArchive(List<ActivityEvent> events, UUID taskId, Collection<ActivityType> types,
+                                     UUID performedBy, ActivityCursor after, int limit) {
+        Set<UUID> seen = new HashSet<>();
+        events.forEach(event -> seen.add(event.getId()));
+        for (YearMonth month : archivedMonthsOf(taskId)) {
+            if (after != null && month.isAfter(YearMonth.from(after.timestamp()))) {
+                continue;
+            }
+            for (ArchivedActivityEvent archived : activityArchive.read(month, taskId)) {
+                boolean matches = (types == null || types.isEmpty() || types.contains(archived.activityType()))
+                        && (performedBy == null || performedBy.equals(archived.performedBy()))
+                        && (after == null || after.isBefore(archived.timestamp(), archived.id()));
+                if (matches && seen.add(archived.id())) {
+                    events.add(toEvent(archived));
+                    if (events.size() == limit) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Archived months, newest first, that can hold events of the task: none before the
+     * month it was created in. All of them when the task row is gone.
+     */
+    private List<YearMonth> archivedMonthsOf(UUID taskId) {
+        List<YearMonth> months = activityArchive.months();
+        if (months.isEmpty()) {
+            return months;
+        }
+        List<LocalDateTime> createdAt = entityManager.createQuery(
+                        "SELECT t.createdAt FROM Task t WHERE t.id = :taskId", LocalDateTime.class)
+                .setParameter("taskId", taskId)
+                .getResultList();
+        if (createdAt.isEmpty()) {
+            return months;
+        }
+        YearMonth created = YearMonth.from(createdAt.getFirst());
+        return months.stream()
+                .takeWhile(month -> !month.isBefore(created))
+                .toList();
+    }
+
+    private ActivityEvent toEvent(ArchivedActivityEvent archived) {
+        return new ActivityEvent(archived.id(), archived.taskId(), archived.activityType(),
+                archived.performedBy() != null ? entityManager.getReference(User.class, archived.performedBy()) : null,
+                archived.timestamp(), archived.details());
+    }
+}
@@ -3,13 +3,38 @@ package com.example.TaskManagement.repository;
 
 
 import com.example.TaskManagement.model.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
-    List<Comment> findByTaskIdOrderByTimestampDesc(UUID taskId);
+
+    /**
+     * The newest comments of a task; the id breaks ties between comments posted in the
+     * same instant so pages never overlap.
+     */
+    List<Comment> findByTaskIdOrderByTimestampDescIdDesc(UUID taskId, Limit limit);
+
+    /**
+     * The next page after {@code (timestamp, id)}, seeking on
+     * {@code idx_comments_task_time} rather than skipping rows.
+     */
+    @Query("SELECT c FROM Comment c WHERE c.task.id = :taskId " +
+           "AND (c.timestamp < :timestamp OR (c.timestamp = :timestamp AND c.id < :id)) " +
+           "ORDER BY c.timestamp DESC, c.id DESC")
+    List<Comment> findByTaskIdBefore(@Param("taskId") UUID taskId,
+                                     @Param("timestamp") LocalDateTime timestamp,
+                                     @Param("id") UUID id,
+                                     Limit limit);
+
+    @Query("SELECT c.task.id AS taskId, c.text AS text FROM Comment c WHERE c.task.id IN :taskIds")
+    List<CommentTextRow> findTextRowsByTaskIdIn(@Param("taskIds") Collection<UUID> taskIds);
 }
@@ -0,0 +1,10 @@
+package com.example.TaskManagement.repository;
+
+import java.util.UUID;
+
+public interface CommentTextRow {
+
+    UUID getTaskId();
+
+    String getText();
+}
@@ -0,0 +1,21 @@
+package com.example.TaskManagement.repository;
+
+import com.example.TaskManagement.enums.Priority;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A task that is neither completed nor cancelled and has a due date.
+ */
+public interface OpenDueRow {
+
+    UUID getTaskId();
+
+    LocalDate getDueDate();
+
+    Priority getPriority();
+
+    LocalDateTime getOverdueSince();
+}
@@ -0,0 +1,25 @@
+package com.example.TaskManagement.repository;
+
+import com.example.TaskManagement.model.TaskCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskCounterRepository extends JpaRepository<TaskCounter, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO task_counters (counter_key, task_count) VALUES (:key, :delta) " +
+                   "ON DUPLICATE KEY UPDATE task_count = task_count + :delta",
+           nativeQuery = true)
+    void increment(@Param("key") String key, @Param("delta") long delta);
+
+    /**
+     * Sum over the half-open key range {@code [fromKey, toKey)}, a primary-key range scan.
+     */
+    @Query("SELECT COALESCE(SUM(c.taskCount), 0) FROM TaskCounter c " +
+           "WHERE c.counterKey >= :fromKey AND c.counterKey < :toKey")
+    long sumInKeyRange(@Param("fromKey") String fromKey, @Param("toKey") String toKey);
+}
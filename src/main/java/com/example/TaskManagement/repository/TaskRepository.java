@@ -1,115 +1,141 @@
 package com.example.TaskManagement.repository;
 
-import com.example.TaskManagement.enums.Priority;
 import com.example.TaskManagement.enums.TaskStatus;
 import com.example.TaskManagement.model.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
 
-    List<Task> findByStatus(TaskStatus status);
-
-    List<Task> findByStatusIn(List<TaskStatus> statuses);
-
-    List<Task> findByPriority(Priority priority);
-
-    List<Task> findByPriorityIn(List<Priority> priorities);
-
-    List<Task> findByAssignedToId(UUID userId);
-
-    List<Task> findByAssignedToIsNull();
-
-    List<Task> findByCreatedById(UUID userId);
-
-    @Query("SELECT t FROM Task t " +
-           "WHERE t.dueDate < CURRENT_DATE " +
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
+    @Query("SELECT t FROM Task t ORDER BY t.createdAt DESC")
+    Stream<Task> streamAllOrderByCreatedAtDesc();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
+    @Query("SELECT t FROM Task t WHERE t.status = :status ORDER BY t.createdAt DESC")
+    Stream<Task> streamByStatusOrderByCreatedAtDesc(@Param("status") TaskStatus status);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.id AS taskId, t.createdAt AS createdAt, tag AS tag FROM Task t LEFT JOIN t.tags tag " +
+           "ORDER BY t.createdAt ASC, t.id ASC")
+    Stream<TaskTagRow> streamTagRows();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.id AS taskId, t.createdAt AS createdAt, tag AS tag FROM Task t LEFT JOIN t.tags tag " +
+           "WHERE t.createdAt >= :since " +
+           "ORDER BY t.createdAt ASC, t.id ASC")
+    Stream<TaskTagRow> streamTagRowsCreatedSince(@Param("since") LocalDateTime since);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.id FROM Task t")
+    Stream<UUID> streamAllIds();
+
+    @Query("SELECT t.id AS taskId, t.title AS title, t.description AS description, " +
+           "t.status AS status, t.priority AS priority FROM Task t WHERE t.id IN :ids")
+    List<TaskTextRow> findTextRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
+    List<Task> findAllByIdIn(Collection<UUID> ids);
+
+    @Query("SELECT DISTINCT t FROM Task t LEFT JOIN FETCH t.tags WHERE t.id IN :ids")
+    List<Task> findAllWithTagsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT t.status, COUNT(t) FROM Task t GROUP BY t.status")
+    List<Object[]> countGroupedByStatus();
+
+    @Query("SELECT t.assignedTo.id, COUNT(t) FROM Task t WHERE t.assignedTo IS NOT NULL GROUP BY t.assignedTo.id")
+    List<Object[]> countGroupedByAssignee();
+
+    @Query("SELECT t.dueDate, COUNT(t) FROM Task t " +
+           "WHERE t.dueDate IS NOT NULL " +
            "AND t.status != com.example.TaskManagement.enums.TaskStatus.COMPLETED " +
            "AND t.status != com.example.TaskManagement.enums.TaskStatus.CANCELLED " +
-           "ORDER BY t.dueDate ASC")
-    List<Task> findOverdueTasks();
-
-    @Query("SELECT t FROM Task t " +
-           "WHERE CAST(t.createdAt AS date) BETWEEN :startDate AND :endDate " +
-           "ORDER BY t.createdAt DESC")
-    List<Task> findTasksCreatedBetween(@Param("startDate") LocalDate startDate,
-                                        @Param("endDate") LocalDate endDate);
-
-    @Query("SELECT t FROM Task t " +
-           "WHERE CAST(t.updatedAt AS date) BETWEEN :startDate AND :endDate " +
-           "ORDER BY t.updatedAt DESC")
-    List<Task> findTasksUpdatedBetween(@Param("startDate") LocalDate startDate,
-                                        @Param("endDate") LocalDate endDate);
-
-    @Query("SELECT t FROM Task t " +
-           "WHERE t.status = com.example.TaskManagement.enums.TaskStatus.COMPLETED " +
-           "AND CAST(t.updatedAt AS date) BETWEEN :startDate AND :endDate " +
-           "ORDER BY t.updatedAt DESC")
-    List<Task> findCompletedTasksBetween(@Param("startDate") LocalDate startDate,
-                                          @Param("endDate") LocalDate endDate);
-
-
-    @Query(value = "SELECT DISTINCT t.* FROM tasks t " +
-                   "LEFT JOIN task_tags tt ON t.id = tt.task_id " +
-                   "WHERE tt.tag IN :tags " +
-                   "GROUP BY t.id " +
-                   "HAVING COUNT(DISTINCT tt.tag) = :tagCount " +
-                   "ORDER BY t.created_at DESC",
-           nativeQuery = true)
-    List<Task> findTasksWithAllTags(@Param("tags") List<String> tags,
-                                     @Param("tagCount") Long tagCount);
-
-    @Query(value = "SELECT DISTINCT t.* FROM tasks t " +
-                   "LEFT JOIN task_tags tt ON t.id = tt.task_id " +
-                   "WHERE tt.tag IN :tags " +
-                   "ORDER BY t.created_at DESC",
-           nativeQuery = true)
-    List<Task> findTasksWithAnyTag(@Param("tags") List<String> tags);
-
-    List<Task> findByStatusAndPriority(TaskStatus status, Priority priority);
-
-    List<Task> findByStatusAndAssignedToId(TaskStatus status, UUID userId);
-
-    List<Task> findByPriorityAndAssignedToId(Priority priority, UUID userId);
-
-    @Query("SELECT t FROM Task t " +
-           "WHERE t.status = com.example.TaskManagement.enums.TaskStatus.OPEN " +
-           "AND (t.priority = com.example.TaskManagement.enums.Priority.HIGH " +
-           "OR t.priority = com.example.TaskManagement.enums.Priority.CRITICAL) " +
-           "ORDER BY t.dueDate ASC")
-    List<Task> findUrgentOpenTasks();
-
-    @Query("SELECT t FROM Task t ORDER BY t.priority DESC, t.createdAt DESC")
-    List<Task> findAllOrderByPriorityDesc();
-
-    @Query("SELECT t FROM Task t ORDER BY t.dueDate ASC, t.priority DESC")
-    List<Task> findAllOrderByDueDateAsc();
+           "GROUP BY t.dueDate")
+    List<Object[]> countOpenGroupedByDueDate();
 
-    @Query("SELECT t FROM Task t ORDER BY t.createdAt DESC")
-    List<Task> findAllOrderByCreatedAtDesc();
-
-    @Query("SELECT t FROM Task t ORDER BY t.status ASC, t.priority DESC")
-    List<Task> findAllOrderByStatus();
-
-    @Query("SELECT t FROM Task t ORDER BY t.status ASC, t.priority DESC, t.dueDate ASC")
-    List<Task> findAllOrderByStatusAndPriority();
+    long countByCreatedById(UUID userId);
 
-    long countByStatus(TaskStatus status);
+    /**
+     * Just the version and comment count, for conditional GETs: a primary-key read that
+     * loads no entity, tags or comments.
+     */
+    @Query("SELECT t.version AS version, t.commentCount AS commentCount FROM Task t WHERE t.id = :id")
+    Optional<TaskValidatorRow> findValidatorById(@Param("id") UUID id);
+
+    /**
+     * Atomic, and leaves the version alone: a comment is not an edit of the task.
+     * Returns 0 when the task does not exist.
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.commentCount = t.commentCount + 1 WHERE t.id = :id")
+    int incrementCommentCount(@Param("id") UUID id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.id AS taskId, t.dueDate AS dueDate, t.priority AS priority, t.overdueSince AS overdueSince " +
+           "FROM Task t WHERE t.dueDate IS NOT NULL " +
+           "AND t.status != com.example.TaskManagement.enums.TaskStatus.COMPLETED " +
+           "AND t.status != com.example.TaskManagement.enums.TaskStatus.CANCELLED")
+    Stream<OpenDueRow> streamOpenDueRows();
 
-    @Query("SELECT COUNT(t) FROM Task t " +
-           "WHERE t.dueDate < CURRENT_DATE " +
+    @Query("SELECT t.id AS taskId, t.dueDate AS dueDate, t.priority AS priority, t.overdueSince AS overdueSince " +
+           "FROM Task t WHERE t.id IN :ids AND t.dueDate IS NOT NULL " +
+           "AND t.status != com.example.TaskManagement.enums.TaskStatus.COMPLETED " +
+           "AND t.status != com.example.TaskManagement.enums.TaskStatus.CANCELLED")
+    List<OpenDueRow> findOpenDueRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Stamps the tasks among {@code ids} that are still open, past due and not yet
+     * stamped. Rows stamped by a concurrent caller are locked until it commits and
+     * then no longer match, so each task is stamped once.
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.overdueSince = :now " +
+           "WHERE t.id IN :ids AND t.overdueSince IS NULL AND t.dueDate < :today " +
            "AND t.status != com.example.TaskManagement.enums.TaskStatus.COMPLETED " +
            "AND t.status != com.example.TaskManagement.enums.TaskStatus.CANCELLED")
-    long countOverdueTasks();
+    int markOverdue(@Param("ids") Collection<UUID> ids, @Param("today") LocalDate today,
+                    @Param("now") LocalDateTime now);
 
-    long countByAssignedToId(UUID userId);
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids AND t.overdueSince = :stamp")
+    List<UUID> findIdsByOverdueSince(@Param("ids") Collection<UUID> ids, @Param("stamp") LocalDateTime stamp);
 
-    long countByCreatedById(UUID userId);
+    @Modifying
+    @Query("UPDATE Task t SET t.overdueSince = NULL WHERE t.id = :id")
+    int clearOverdueSince(@Param("id") UUID id);
 }
@@ -0,0 +1,35 @@
+package com.example.TaskManagement.repository;
+
+import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.pagination.TaskCursor;
+import com.example.TaskManagement.pagination.TaskSort;
+import com.example.TaskManagement.projection.TaskFields;
+import com.example.TaskManagement.projection.TaskRow;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Keyset ("seek") page: returns at most {@code limit} tasks matching {@code filter}
+     * that sort strictly after {@code after}, or from the first row when {@code after} is null.
+     */
+    List<Task> findPage(Specification<Task> filter, TaskSort sort, TaskCursor after, int limit);
+
+    /**
+     * The same page as {@link #findPage}, selecting only the columns of {@code fields}
+     * plus id, status, priority and the sort keys. Users are joined only when asked
+     * for, and tags read with one more query only when asked for.
+     */
+    List<TaskRow> findRowPage(Specification<Task> filter, TaskSort sort, TaskCursor after, int limit,
+                              TaskFields fields);
+
+    /**
+     * Rows of {@code ids} in no particular order, selected like {@link #findRowPage};
+     * {@code sort} may be null when no cursor is built from them.
+     */
+    List<TaskRow> findRowsByIdIn(Collection<UUID> ids, TaskSort sort, TaskFields fields);
+}
@@ -0,0 +1,232 @@
+package com.example.TaskManagement.repository;
+
+import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.pagination.TaskCursor;
+import com.example.TaskManagement.pagination.TaskSort;
+import com.example.TaskManagement.projection.TaskField;
+import com.example.TaskManagement.projection.TaskFields;
+import com.example.TaskManagement.projection.TaskRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    private static final List<String> USER_ATTRIBUTES = List.of("id", "name", "email", "role");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Task> findPage(Specification<Task> filter, TaskSort sort, TaskCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        root.fetch("createdBy");
+        root.fetch("assignedTo", JoinType.LEFT);
+
+        query.select(root)
+                .where(where(cb, root, query, filter, sort, after))
+                .orderBy(orderBy(cb, root, sort));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<TaskRow> findRowPage(Specification<Task> filter, TaskSort sort, TaskCursor after, int limit,
+                                     TaskFields fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        List<String> columns = new ArrayList<>();
+
+        query.multiselect(selectRow(root, sort, fields, columns))
+                .where(where(cb, root, query, filter, sort, after))
+                .orderBy(orderBy(cb, root, sort));
+
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+        return withTags(toRows(tuples, columns), fields);
+    }
+
+    @Override
+    public List<TaskRow> findRowsByIdIn(Collection<UUID> ids, TaskSort sort, TaskFields fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        List<String> columns = new ArrayList<>();
+
+        query.multiselect(selectRow(root, sort, fields, columns))
+                .where(root.get("id").in(ids));
+
+        return withTags(toRows(entityManager.createQuery(query).getResultList(), columns), fields);
+    }
+
+    private Predicate[] where(CriteriaBuilder cb, Root<Task> root, CriteriaQuery<?> query,
+                              Specification<Task> filter, TaskSort sort, TaskCursor after) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter != null) {
+            Predicate predicate = filter.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (after != null) {
+            predicates.add(seekAfter(cb, root, sort, after));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    /**
+     * Selections for a {@link TaskRow}, recording the row key of each in {@code columns}.
+     * The users are joined only when asked for, the assignee with a LEFT join.
+     */
+    private List<Selection<?>> selectRow(Root<Task> root, TaskSort sort, TaskFields fields, List<String> columns) {
+        Set<String> attributes = new LinkedHashSet<>(List.of("id", "status", "priority"));
+        if (sort != null) {
+            sort.getKeys().forEach(key -> attributes.add(key.attribute()));
+        }
+        for (TaskField field : fields.fields()) {
+            if (field.isColumn()) {
+                attributes.add(field.getAttribute());
+            }
+        }
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String attribute : attributes) {
+            columns.add(attribute);
+            selections.add(root.get(attribute));
+        }
+        if (fields.contains(TaskField.CREATED_BY)) {
+            selectUser(root.join("createdBy"), "createdBy", selections, columns);
+        }
+        if (fields.contains(TaskField.ASSIGNED_TO)) {
+            selectUser(root.join("assignedTo", JoinType.LEFT), "assignedTo", selections, columns);
+        }
+        return selections;
+    }
+
+    private void selectUser(Join<Task, ?> user, String prefix, List<Selection<?>> selections, List<String> columns) {
+        for (String attribute : USER_ATTRIBUTES) {
+            columns.add(prefix + "." + attribute);
+            selections.add(user.get(attribute));
+        }
+    }
+
+    private List<TaskRow> toRows(List<Tuple> tuples, List<String> columns) {
+        List<TaskRow> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            TaskRow row = new TaskRow();
+            for (int i = 0; i < columns.size(); i++) {
+                row.put(columns.get(i), tuple.get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Reads the tags of every row in one query, only when they were asked for.
+     */
+    private List<TaskRow> withTags(List<TaskRow> rows, TaskFields fields) {
+        if (!fields.contains(TaskField.TAGS) || rows.isEmpty()) {
+            return rows;
+        }
+        Map<UUID, TaskRow> byId = new HashMap<>();
+        for (TaskRow row : rows) {
+            row.setTags(new ArrayList<>());
+            byId.put(row.getId(), row);
+        }
+        List<Object[]> tags = entityManager.createQuery(
+                        "SELECT t.id, tag FROM Task t JOIN t.tags tag WHERE t.id IN :ids", Object[].class)
+                .setParameter("ids", byId.keySet())
+                .getResultList();
+        for (Object[] tag : tags) {
+            byId.get((UUID) tag[0]).getTags().add((String) tag[1]);
+        }
+        return rows;
+    }
+
+    private List<Order> orderBy(CriteriaBuilder cb, Root<Task> root, TaskSort sort) {
+        List<Order> orders = new ArrayList<>();
+        for (TaskSort.SortKey key : sort.getKeys()) {
+            Path<Object> path = root.get(key.attribute());
+            orders.add(key.descending() ? cb.desc(path, Nulls.LAST) : cb.asc(path, Nulls.FIRST));
+        }
+        return orders;
+    }
+
+    /**
+     * (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ... with "&gt;" meaning "sorts after"
+     * under each key's direction and null placement.
+     */
+    private Predicate seekAfter(CriteriaBuilder cb, Root<Task> root, TaskSort sort, TaskCursor cursor) {
+        List<TaskSort.SortKey> keys = sort.getKeys();
+        List<Object> values = cursor.getValues();
+
+        List<Predicate> branches = new ArrayList<>();
+        List<Predicate> equalPrefix = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            TaskSort.SortKey key = keys.get(i);
+            Path<Object> path = root.get(key.attribute());
+            Object value = values.get(i);
+
+            List<Predicate> branch = new ArrayList<>(equalPrefix);
+            branch.add(sortsAfter(cb, path, key, value));
+            branches.add(cb.and(branch.toArray(new Predicate[0])));
+
+            equalPrefix.add(value == null ? cb.isNull(path) : cb.equal(path, value));
+        }
+        return cb.or(branches.toArray(new Predicate[0]));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate sortsAfter(CriteriaBuilder cb, Path<Object> path, TaskSort.SortKey key, Object value) {
+        if (value == null) {
+            // Nulls sort lowest: after a null comes every non-null when ascending, nothing when descending.
+            return key.descending() ? cb.disjunction() : cb.isNotNull(path);
+        }
+
+        Predicate after;
+        if (value instanceof Enum<?> constant) {
+            // Hibernate declares enum columns with their values in name order, so the column
+            // sorts by constant name. Spelling that out as an IN list keeps the comparison
+            // independent of how the database compares an ENUM with a bound string.
+            List<Object> later = Arrays.stream(constant.getDeclaringClass().getEnumConstants())
+                    .filter(c -> key.descending()
+                            ? c.name().compareTo(constant.name()) < 0
+                            : c.name().compareTo(constant.name()) > 0)
+                    .map(c -> (Object) c)
+                    .toList();
+            after = later.isEmpty() ? cb.disjunction() : path.in(later);
+        } else {
+            Expression<Comparable> comparable = (Expression) path;
+            after = key.descending()
+                    ? cb.lessThan(comparable, (Comparable) value)
+                    : cb.greaterThan(comparable, (Comparable) value);
+        }
+
+        if (key.descending() && key.nullable()) {
+            return cb.or(after, cb.isNull(path));
+        }
+        return after;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.TaskManagement.repository;
+
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.model.Task;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public class TaskSpecifications {
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> hasStatusIn(Collection<TaskStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Task> hasPriority(Priority priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Task> hasPriorityIn(Collection<Priority> priorities) {
+        return (root, query, cb) -> root.get("priority").in(priorities);
+    }
+
+    public static Specification<Task> assignedTo(UUID userId) {
+        return (root, query, cb) -> cb.equal(root.get("assignedTo").get("id"), userId);
+    }
+
+    public static Specification<Task> unassigned() {
+        return (root, query, cb) -> cb.isNull(root.get("assignedTo"));
+    }
+
+    public static Specification<Task> createdBy(UUID userId) {
+        return (root, query, cb) -> cb.equal(root.get("createdBy").get("id"), userId);
+    }
+
+    public static Specification<Task> hasIdIn(Collection<UUID> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Task> overdue() {
+        return (root, query, cb) -> cb.and(
+                cb.lessThan(root.get("dueDate"), LocalDate.now()),
+                root.get("status").in(TaskStatus.COMPLETED, TaskStatus.CANCELLED).not());
+    }
+
+    public static Specification<Task> urgentOpen() {
+        return hasStatus(TaskStatus.OPEN)
+                .and((root, query, cb) -> root.get("priority").in(Priority.HIGH, Priority.CRITICAL));
+    }
+
+    /**
+     * Inclusive calendar-date range expressed as a half-open timestamp range
+     * so the comparison stays on the raw column.
+     */
+    public static Specification<Task> createdBetween(LocalDate startDate, LocalDate endDate) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("createdAt"), startDate.atStartOfDay()),
+                cb.lessThan(root.get("createdAt"), endDate.plusDays(1).atStartOfDay()));
+    }
+
+    /**
+     * Either bound may be null for an open-ended range; both are inclusive.
+     */
+    public static Specification<Task> dueBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            List<Predicate> bounds = new ArrayList<>();
+            if (from != null) {
+                bounds.add(cb.greaterThanOrEqualTo(root.get("dueDate"), from));
+            }
+            if (to != null) {
+                bounds.add(cb.lessThanOrEqualTo(root.get("dueDate"), to));
+            }
+            return cb.and(bounds.toArray(new Predicate[0]));
+        };
+    }
+
+    public static Specification<Task> createdWithin(LocalDate from, LocalDate to) {
+        return timestampWithin("createdAt", from, to);
+    }
+
+    public static Specification<Task> updatedWithin(LocalDate from, LocalDate to) {
+        return timestampWithin("updatedAt", from, to);
+    }
+
+    /**
+     * Inclusive, possibly open-ended calendar-date range on a timestamp column,
+     * compared as a half-open timestamp range like {@link #createdBetween}.
+     */
+    private static Specification<Task> timestampWithin(String attribute, LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            List<Predicate> bounds = new ArrayList<>();
+            if (from != null) {
+                bounds.add(cb.greaterThanOrEqualTo(root.get(attribute), from.atStartOfDay()));
+            }
+            if (to != null) {
+                bounds.add(cb.lessThan(root.get(attribute), to.plusDays(1).atStartOfDay()));
+            }
+            return cb.and(bounds.toArray(new Predicate[0]));
+        };
+    }
+
+    public static Specification<Task> hasAnyTag(Collection<String> tags) {
+        return (root, query, cb) -> {
+            Subquery<Integer> matched = query.subquery(Integer.class);
+            Root<Task> correlated = matched.correlate(root);
+            Join<Task, String> tag = correlated.join("tags");
+            matched.select(cb.literal(1)).where(tag.in(tags));
+            return cb.exists(matched);
+        };
+    }
+
+    public static Specification<Task> hasAllTags(Collection<String> tags) {
+        List<String> distinctTags = tags.stream().distinct().toList();
+        return (root, query, cb) -> {
+            Subquery<Long> matched = query.subquery(Long.class);
+            Root<Task> correlated = matched.correlate(root);
+            Join<Task, String> tag = correlated.join("tags");
+            matched.select(cb.countDistinct(tag)).where(tag.in(distinctTags));
+            return cb.equal(matched, (long) distinctTags.size());
+        };
+    }
+}
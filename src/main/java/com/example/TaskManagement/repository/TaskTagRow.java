@@ -0,0 +1,16 @@
+package com.example.TaskManagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One (task, tag) pair; {@code tag} is null for a task without tags.
+ */
+public interface TaskTagRow {
+
+    UUID getTaskId();
+
+    LocalDateTime getCreatedAt();
+
+    String getTag();
+}
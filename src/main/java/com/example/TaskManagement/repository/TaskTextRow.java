@@ -0,0 +1,22 @@
+package com.example.TaskManagement.repository;
+
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TaskStatus;
+
+import java.util.UUID;
+
+/**
+ * The searchable text of a task and the fields text searches filter on.
+ */
+public interface TaskTextRow {
+
+    UUID getTaskId();
+
+    String getTitle();
+
+    String getDescription();
+
+    TaskStatus getStatus();
+
+    Priority getPriority();
+}
@@ -0,0 +1,11 @@
+package com.example.TaskManagement.repository;
+
+/**
+ * The columns a task's GET representation is validated by.
+ */
+public interface TaskValidatorRow {
+
+    Integer getVersion();
+
+    Integer getCommentCount();
+}
@@ -1,13 +1,44 @@
 package com.example.TaskManagement.repository;
 
 import com.example.TaskManagement.model.TaskVersion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface TaskVersionRepository extends JpaRepository<TaskVersion, UUID> {
-    List<TaskVersion> findByTaskIdOrderByVersionDesc(UUID taskId);
+    /**
+     * Oldest first, the order delta rows are decoded in.
+     */
+    List<TaskVersion> findByTaskIdOrderByVersionAsc(UUID taskId);
+
+    boolean existsByTaskIdAndVersion(UUID taskId, Integer version);
+
+    /**
+     * Newest recorded version, answered from the (task_id, version) index. Empty when
+     * the task has no history yet.
+     */
+    @Query("SELECT MAX(v.version) FROM TaskVersion v WHERE v.taskId = :taskId")
+    Optional<Integer> findLatestVersion(@Param("taskId") UUID taskId);
+
+    /**
+     * Tasks still holding full rows where the snapshot interval would now store deltas,
+     * in task id order for keyset paging.
+     */
+    @Query("SELECT DISTINCT v.taskId FROM TaskVersion v " +
+           "WHERE v.deltaFields IS NULL AND MOD(v.version - 1, :interval) <> 0 " +
+           "ORDER BY v.taskId")
+    List<UUID> findTaskIdsWithFullRowsBetweenSnapshots(@Param("interval") int interval, Limit limit);
+
+    @Query("SELECT DISTINCT v.taskId FROM TaskVersion v " +
+           "WHERE v.deltaFields IS NULL AND MOD(v.version - 1, :interval) <> 0 AND v.taskId > :after " +
+           "ORDER BY v.taskId")
+    List<UUID> findTaskIdsWithFullRowsBetweenSnapshots(@Param("interval") int interval,
+                                                       @Param("after") UUID after, Limit limit);
 }
@@ -0,0 +1,13 @@
+package com.example.TaskManagement.repository;
+
+import java.util.UUID;
+
+/**
+ * The ways an import may refer to a user.
+ */
+public interface UserKeyRow {
+
+    UUID getId();
+
+    String getEmail();
+}
@@ -22,6 +22,9 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     List<User> findByActive(Boolean active);
 
+    @Query("SELECT u.id AS id, u.email AS email FROM User u")
+    List<UserKeyRow> findKeyRows();
+
     @Query(
             value = """
         SELECT COUNT(*)
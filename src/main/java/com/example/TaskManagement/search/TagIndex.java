@@ -0,0 +1,333 @@
+package com.example.TaskManagement.search;
+
+import com.example.TaskManagement.enums.TagMatch;
+import com.example.TaskManagement.pagination.UuidOrder;
+import com.example.TaskManagement.repository.TaskRepository;
+import com.example.TaskManagement.repository.TaskTagRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Inverted index from tag to a compressed bitmap of task ordinals. Ordinals follow
+ * {@code (createdAt, id)} as the database orders it, the key of
+ * {@code TaskSort.CREATED_AT_DESC}, so walking a bitmap from the highest ordinal down
+ * yields newest-first results, and pages line up with the SQL fallback's cursors,
+ * without touching the database.
+ *
+ * <p>Built in the background once the application is ready; until then
+ * {@link #find} returns {@code null} and callers fall back to SQL. Tasks created
+ * here are added when their transaction commits, and tasks created by other
+ * instances are picked up every {@code task.tag-index.refresh-interval}. A task that
+ * arrives older than the newest one already indexed, as when transactions commit out
+ * of order, cannot take its place at the end; the index then answers {@code null}
+ * until the next refresh renumbers every task.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagIndex {
+
+    private static final int BUILD_CHUNK = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TagIndexProperties properties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, RoaringBitmap> tasksByTag = new HashMap<>();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final List<UUID> taskIds = new ArrayList<>();
+    private final List<LocalDateTime> createdAts = new ArrayList<>();
+    private final List<IndexedTask> pendingDuringBuild = new ArrayList<>();
+    private boolean ready;
+    /** False while some ordinal is out of {@code (createdAt, id)} order. */
+    private boolean inOrder = true;
+
+    private volatile LocalDateTime newestIndexed;
+
+    private record IndexedTask(UUID taskId, LocalDateTime createdAt, List<String> tags) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        if (properties.isEnabled()) {
+            Thread.ofVirtual().name("tag-index-build").start(this::build);
+        }
+    }
+
+    void build() {
+        long started = System.nanoTime();
+        LocalDateTime scanStarted = LocalDateTime.now();
+        try {
+            readRows(taskRepository::streamTagRows);
+        } catch (RuntimeException ex) {
+            log.error("Building the tag index failed; tag searches will use the database", ex);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringBuild.forEach(this::apply);
+            pendingDuringBuild.clear();
+            renumberIfNeeded();
+            tasksByTag.values().forEach(RoaringBitmap::runOptimize);
+            if (newestIndexed == null) {
+                newestIndexed = scanStarted;
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Tag index built: {} tasks, {} tags in {} ms",
+                taskIds.size(), tasksByTag.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Scheduled(fixedDelayString = "${task.tag-index.refresh-interval:30s}")
+    public void refresh() {
+        LocalDateTime newest = newestIndexed;
+        if (!isReady() || newest == null) {
+            return;
+        }
+        try {
+            readRows(() -> taskRepository.streamTagRowsCreatedSince(newest.minus(properties.getRefreshOverlap())));
+        } catch (RuntimeException ex) {
+            log.warn("Refreshing the tag index failed", ex);
+        }
+        lock.writeLock().lock();
+        try {
+            renumberIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the task once the current transaction commits, so a rolled-back create
+     * never becomes visible through the index.
+     */
+    public void indexAfterCommit(UUID taskId, LocalDateTime createdAt, Collection<String> tags) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        IndexedTask task = new IndexedTask(taskId, createdAt.truncatedTo(ChronoUnit.MICROS), List.copyOf(tags));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(task);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(task);
+            }
+        });
+    }
+
+    /**
+     * Up to {@code limit} task ids carrying all (or any) of {@code tags}, newest
+     * first, starting after {@code afterTaskId} when given. Returns {@code null}
+     * when the index cannot answer: it is disabled, still building, waiting to be
+     * renumbered, or does not know the cursor's task yet.
+     */
+    public List<UUID> find(Collection<String> tags, TagMatch match, UUID afterTaskId, int limit) {
+        lock.readLock().lock();
+        try {
+            if (!ready || !inOrder) {
+                return null;
+            }
+            RoaringBitmap matches = match == TagMatch.ALL ? intersect(tags) : union(tags);
+            if (afterTaskId != null) {
+                Integer after = ordinals.get(afterTaskId);
+                if (after == null) {
+                    return null;
+                }
+                matches.remove(after, 1L << 32);
+            }
+
+            List<UUID> ids = new ArrayList<>(limit);
+            IntIterator newestFirst = matches.getReverseIntIterator();
+            while (newestFirst.hasNext() && ids.size() < limit) {
+                ids.add(taskIds.get(newestFirst.next()));
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap intersect(Collection<String> tags) {
+        RoaringBitmap result = null;
+        for (String tag : new HashSet<>(tags)) {
+            RoaringBitmap tasks = tasksByTag.get(tag);
+            if (tasks == null) {
+                return new RoaringBitmap();
+            }
+            result = result == null ? tasks.clone() : RoaringBitmap.and(result, tasks);
+        }
+        return result == null ? new RoaringBitmap() : result;
+    }
+
+    private RoaringBitmap union(Collection<String> tags) {
+        RoaringBitmap result = new RoaringBitmap();
+        for (String tag : new HashSet<>(tags)) {
+            RoaringBitmap tasks = tasksByTag.get(tag);
+            if (tasks != null) {
+                result.or(tasks);
+            }
+        }
+        return result;
+    }
+
+    private void add(IndexedTask task) {
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                apply(task);
+            } else {
+                pendingDuringBuild.add(task);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rows arrive ordered by creation time and are applied in chunks so request
+     * threads adding new tasks are never blocked for the length of a full scan.
+     */
+    private void readRows(Supplier<Stream<TaskTagRow>> query) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<TaskTagRow> chunk = new ArrayList<>(BUILD_CHUNK);
+            try (Stream<TaskTagRow> rows = query.get()) {
+                rows.forEach(row -> {
+                    chunk.add(row);
+                    if (chunk.size() == BUILD_CHUNK) {
+                        applyRows(chunk);
+                        chunk.clear();
+                    }
+                });
+            }
+            applyRows(chunk);
+        });
+    }
+
+    private void applyRows(List<TaskTagRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (TaskTagRow row : rows) {
+                int ordinal = ordinalOf(row.getTaskId(), row.getCreatedAt());
+                if (row.getTag() != null) {
+                    tasksByTag.computeIfAbsent(row.getTag(), tag -> new RoaringBitmap()).add(ordinal);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        newestIndexed = rows.getLast().getCreatedAt();
+    }
+
+    private void apply(IndexedTask task) {
+        int ordinal = ordinalOf(task.taskId(), task.createdAt());
+        for (String tag : task.tags()) {
+            tasksByTag.computeIfAbsent(tag, t -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    /**
+     * The task's ordinal, appended after every other task when it is new. The database's
+     * {@code createdAt} replaces the one a local commit reported, which may be finer
+     * than the column stores.
+     */
+    private int ordinalOf(UUID taskId, LocalDateTime createdAt) {
+        Integer ordinal = ordinals.get(taskId);
+        if (ordinal == null) {
+            ordinal = taskIds.size();
+            taskIds.add(taskId);
+            createdAts.add(createdAt);
+            ordinals.put(taskId, ordinal);
+            if (ordinal > 0 && compare(ordinal - 1, ordinal) > 0) {
+                inOrder = false;
+            }
+        } else if (!createdAt.equals(createdAts.get(ordinal))) {
+            createdAts.set(ordinal, createdAt);
+            if ((ordinal > 0 && compare(ordinal - 1, ordinal) > 0)
+                    || (ordinal < taskIds.size() - 1 && compare(ordinal, ordinal + 1) > 0)) {
+                inOrder = false;
+            }
+        }
+        return ordinal;
+    }
+
+    private int compare(int a, int b) {
+        int byTime = createdAts.get(a).compareTo(createdAts.get(b));
+        return byTime != 0 ? byTime : UuidOrder.compare(taskIds.get(a), taskIds.get(b));
+    }
+
+    /**
+     * Reassigns every ordinal in {@code (createdAt, id)} order and rewrites the bitmaps.
+     * Caller holds the write lock.
+     */
+    private void renumberIfNeeded() {
+        if (inOrder) {
+            return;
+        }
+        long started = System.nanoTime();
+        Integer[] byKey = new Integer[taskIds.size()];
+        for (int i = 0; i < byKey.length; i++) {
+            byKey[i] = i;
+        }
+        Arrays.sort(byKey, this::compare);
+
+        int[] renumbered = new int[byKey.length];
+        List<UUID> sortedIds = new ArrayList<>(byKey.length);
+        List<LocalDateTime> sortedCreatedAts = new ArrayList<>(byKey.length);
+        for (int i = 0; i < byKey.length; i++) {
+            renumbered[byKey[i]] = i;
+            sortedIds.add(taskIds.get(byKey[i]));
+            sortedCreatedAts.add(createdAts.get(byKey[i]));
+        }
+        for (Map.Entry<String, RoaringBitmap> entry : tasksByTag.entrySet()) {
+            RoaringBitmap moved = new RoaringBitmap();
+            entry.getValue().forEach((int ordinal) -> moved.add(renumbered[ordinal]));
+            moved.runOptimize();
+            entry.setValue(moved);
+        }
+        taskIds.clear();
+        taskIds.addAll(sortedIds);
+        createdAts.clear();
+        createdAts.addAll(sortedCreatedAts);
+        for (int i = 0; i < taskIds.size(); i++) {
+            ordinals.put(taskIds.get(i), i);
+        }
+        inOrder = true;
+        log.debug("Tag index renumbered {} tasks in {} ms", taskIds.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+}
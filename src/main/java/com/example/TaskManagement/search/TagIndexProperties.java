@@ -0,0 +1,27 @@
+package com.example.TaskManagement.search;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "task.tag-index")
+public class TagIndexProperties {
+
+    /**
+     * Answer tag searches from the in-memory index instead of the database.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How often tasks created by other instances are pulled into the index.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(30);
+
+    /**
+     * How far behind the newest indexed task each refresh re-reads, to pick up
+     * transactions that committed after a later-created task was already indexed.
+     */
+    private Duration refreshOverlap = Duration.ofMinutes(5);
+}
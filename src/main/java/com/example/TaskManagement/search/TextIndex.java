@@ -0,0 +1,539 @@
+package com.example.TaskManagement.search;
+
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.exception.RuleViolationException;
+import com.example.TaskManagement.pagination.TextCursor;
+import com.example.TaskManagement.repository.CommentRepository;
+import com.example.TaskManagement.repository.CommentTextRow;
+import com.example.TaskManagement.repository.TaskRepository;
+import com.example.TaskManagement.repository.TaskTextRow;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Lucene index over task titles, descriptions and comments, one document per task,
+ * kept on disk under {@code task.text-index.path}. Titles weigh three times as much
+ * as descriptions and comments, and every word of a search must occur in the task.
+ *
+ * <p>Changed tasks are queued once their transaction commits and re-indexed from the
+ * database by a single writer thread, which coalesces bursts into one batch and
+ * commits whenever the queue runs dry. A rebuild reads every task into a fresh index
+ * with {@code task.text-index.rebuild-threads} threads sharing one
+ * {@link IndexWriter}, then replaces the served index and replays tasks changed
+ * meanwhile. Until an index exists {@link #find} returns {@code null}.
+ */
+@Slf4j
+@Component
+public class TextIndex implements SmartLifecycle {
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String COMMENTS = "comments";
+    private static final String STATUS = "status";
+    private static final String PRIORITY = "priority";
+    private static final float TITLE_BOOST = 3f;
+    private static final Sort RANKING = new Sort(SortField.FIELD_SCORE, new SortField(ID, SortField.Type.STRING));
+    private static final long POLL_MILLIS = 500;
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TextIndexProperties properties;
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    private final BlockingQueue<UUID> queue = new LinkedBlockingQueue<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean building = new AtomicBoolean();
+    /** Guarded by lock. */
+    private Generation current;
+    /** Tasks changed while a rebuild runs; guarded by lock. */
+    private Set<UUID> changedDuringBuild;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    /**
+     * A hit of {@link #find}, in ranking order.
+     */
+    public record Hit(UUID taskId, float score) {
+    }
+
+    /**
+     * One index directory. Each rebuild writes a new one next to the served one.
+     */
+    private record Generation(Path path, Directory directory, IndexWriter writer, SearcherManager searchers) {
+
+        static Generation open(Path path, Analyzer analyzer) throws IOException {
+            Directory directory = FSDirectory.open(path);
+            IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+            return new Generation(path, directory, writer, new SearcherManager(writer, null));
+        }
+
+        void close() throws IOException {
+            searchers.close();
+            writer.close();
+            directory.close();
+        }
+    }
+
+    public TextIndex(TaskRepository taskRepository,
+                     CommentRepository commentRepository,
+                     TransactionTemplate transactionTemplate,
+                     TextIndexProperties properties) {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            Files.createDirectories(properties.getPath());
+            current = openLatest();
+        } catch (IOException ex) {
+            log.error("Opening the text index failed; it is rebuilt in the background", ex);
+        }
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("text-index-writer")
+                .daemon(true)
+                .start(this::drainLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            try {
+                writerThread.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            if (current != null) {
+                current.close();
+                current = null;
+            }
+        } catch (IOException ex) {
+            log.warn("Closing the text index failed", ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop after the web server, so tasks changed by the last requests are still indexed.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        if (properties.isEnabled() && (properties.isRebuildOnStartup() || !isReady())) {
+            Thread.ofVirtual().name("text-index-build").start(this::rebuild);
+        }
+    }
+
+    /**
+     * Re-indexes the task once the current transaction commits, so a rolled-back
+     * change never becomes searchable.
+     */
+    public void indexAfterCommit(UUID taskId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(taskId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(taskId);
+            }
+        });
+    }
+
+    /**
+     * Up to {@code limit} tasks matching every word of {@code text}, best match first,
+     * starting after {@code after} when given. Empty {@code statuses} or
+     * {@code priorities} do not filter. Returns {@code null} while no index exists.
+     */
+    public List<Hit> find(String text, Collection<TaskStatus> statuses, Collection<Priority> priorities,
+                          TextCursor after, int limit) {
+        Query query = buildQuery(text, statuses, priorities);
+        lock.readLock().lock();
+        try {
+            if (current == null) {
+                return null;
+            }
+            IndexSearcher searcher = current.searchers().acquire();
+            try {
+                TopFieldDocs docs = after == null
+                        ? searcher.search(query, limit, RANKING, true)
+                        // The highest doc id skips the one hit tied with the cursor: its own task.
+                        : searcher.searchAfter(new FieldDoc(searcher.getIndexReader().maxDoc() - 1, after.score(),
+                                new Object[]{after.score(), new BytesRef(after.taskId().toString())}),
+                                query, limit, RANKING, true);
+                List<Hit> hits = new ArrayList<>(docs.scoreDocs.length);
+                for (ScoreDoc doc : docs.scoreDocs) {
+                    BytesRef id = (BytesRef) ((FieldDoc) doc).fields[1];
+                    hits.add(new Hit(UUID.fromString(id.utf8ToString()), doc.score));
+                }
+                return hits;
+            } finally {
+                current.searchers().release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return current != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${task.text-index.rebuild-interval:6h}",
+               fixedDelayString = "${task.text-index.rebuild-interval:6h}")
+    public void rebuild() {
+        if (!properties.isEnabled() || !building.compareAndSet(false, true)) {
+            return;
+        }
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            changedDuringBuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Generation rebuilt = null;
+        int indexed;
+        try {
+            rebuilt = Generation.open(properties.getPath().resolve("index-" + System.currentTimeMillis()), analyzer);
+            indexed = indexAll(rebuilt.writer());
+            rebuilt.writer().commit();
+            rebuilt.searchers().maybeRefresh();
+        } catch (Exception ex) {
+            log.error("Rebuilding the text index failed", ex);
+            discard(rebuilt);
+            lock.writeLock().lock();
+            try {
+                changedDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            building.set(false);
+            return;
+        }
+
+        Generation replaced;
+        lock.writeLock().lock();
+        try {
+            replaced = current;
+            current = rebuilt;
+            queue.addAll(changedDuringBuild);
+            changedDuringBuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        discard(replaced);
+        building.set(false);
+        log.info("Text index rebuilt: {} tasks in {} ms", indexed, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void enqueue(UUID taskId) {
+        lock.readLock().lock();
+        try {
+            if (changedDuringBuild != null) {
+                synchronized (changedDuringBuild) {
+                    changedDuringBuild.add(taskId);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        queue.add(taskId);
+    }
+
+    /**
+     * Loads and indexes every task, a batch per task, spread over the rebuild threads.
+     */
+    private int indexAll(IndexWriter writer) throws InterruptedException, ExecutionException {
+        List<UUID> ids = transactionTemplate.execute(status -> {
+            try (Stream<UUID> all = taskRepository.streamAllIds()) {
+                return all.toList();
+            }
+        });
+        int threads = properties.getRebuildThreads() > 0
+                ? properties.getRebuildThreads()
+                : Runtime.getRuntime().availableProcessors();
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads, Thread.ofPlatform()
+                .name("text-index-rebuild-", 0).daemon(true).factory())) {
+            List<Future<?>> batches = new ArrayList<>();
+            for (int from = 0; from < ids.size(); from += properties.getBatchSize()) {
+                List<UUID> batch = ids.subList(from, Math.min(from + properties.getBatchSize(), ids.size()));
+                batches.add(pool.submit(() -> {
+                    write(writer, load(batch));
+                    return null;
+                }));
+            }
+            for (Future<?> batch : batches) {
+                batch.get();
+            }
+        }
+        return ids.size();
+    }
+
+    private void drainLoop() {
+        List<UUID> batch = new ArrayList<>(properties.getBatchSize());
+        boolean uncommitted = false;
+        while (running || !queue.isEmpty()) {
+            try {
+                UUID first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, properties.getBatchSize() - 1);
+                    uncommitted |= writeToCurrent(batch);
+                    batch.clear();
+                }
+                if (uncommitted && queue.isEmpty()) {
+                    uncommitted = !commitCurrent();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * The rows are read before taking the lock, so a rebuild waiting to swap in its
+     * index is never held up by database reads. A failed batch is logged and dropped;
+     * the next rebuild indexes it.
+     */
+    private boolean writeToCurrent(List<UUID> batch) {
+        Map<String, Document> documents;
+        try {
+            documents = load(new LinkedHashSet<>(batch));
+        } catch (RuntimeException ex) {
+            log.warn("Loading {} tasks to index failed", batch.size(), ex);
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            if (current == null) {
+                return false;
+            }
+            write(current.writer(), documents);
+            current.searchers().maybeRefresh();
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Indexing {} tasks failed", batch.size(), ex);
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean commitCurrent() {
+        lock.readLock().lock();
+        try {
+            if (current != null) {
+                current.writer().commit();
+            }
+            return true;
+        } catch (IOException ex) {
+            log.warn("Committing the text index failed", ex);
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The documents of the given tasks, keyed by task id.
+     */
+    private Map<String, Document> load(Collection<UUID> taskIds) {
+        Map<UUID, List<String>> comments = new HashMap<>();
+        List<TaskTextRow> tasks = transactionTemplate.execute(status -> {
+            for (CommentTextRow row : commentRepository.findTextRowsByTaskIdIn(taskIds)) {
+                comments.computeIfAbsent(row.getTaskId(), id -> new ArrayList<>()).add(row.getText());
+            }
+            return taskRepository.findTextRowsByIdIn(taskIds);
+        });
+        Map<String, Document> documents = new LinkedHashMap<>();
+        for (TaskTextRow task : tasks) {
+            documents.put(task.getTaskId().toString(),
+                    toDocument(task, comments.getOrDefault(task.getTaskId(), List.of())));
+        }
+        return documents;
+    }
+
+    private static void write(IndexWriter writer, Map<String, Document> documents) throws IOException {
+        for (Map.Entry<String, Document> document : documents.entrySet()) {
+            writer.updateDocument(new Term(ID, document.getKey()), document.getValue());
+        }
+    }
+
+    private static Document toDocument(TaskTextRow task, List<String> comments) {
+        String id = task.getTaskId().toString();
+        Document document = new Document();
+        document.add(new StringField(ID, id, Field.Store.NO));
+        document.add(new SortedDocValuesField(ID, new BytesRef(id)));
+        document.add(new TextField(TITLE, task.getTitle(), Field.Store.NO));
+        document.add(new TextField(DESCRIPTION, task.getDescription(), Field.Store.NO));
+        for (String comment : comments) {
+            document.add(new TextField(COMMENTS, comment, Field.Store.NO));
+        }
+        document.add(new StringField(STATUS, task.getStatus().name(), Field.Store.NO));
+        document.add(new StringField(PRIORITY, task.getPriority().name(), Field.Store.NO));
+        return document;
+    }
+
+    private Query buildQuery(String text, Collection<TaskStatus> statuses, Collection<Priority> priorities) {
+        Set<String> words = analyze(text);
+        if (words.isEmpty()) {
+            throw new RuleViolationException("Search text must contain at least one word");
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String word : words) {
+            query.add(new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(TITLE, word)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(DESCRIPTION, word)), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(COMMENTS, word)), BooleanClause.Occur.SHOULD)
+                    .build(), BooleanClause.Occur.MUST);
+        }
+        addFilter(query, STATUS, statuses);
+        addFilter(query, PRIORITY, priorities);
+        return query.build();
+    }
+
+    private static void addFilter(BooleanQuery.Builder query, String field, Collection<? extends Enum<?>> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        BooleanQuery.Builder anyOf = new BooleanQuery.Builder();
+        for (Enum<?> value : values) {
+            anyOf.add(new TermQuery(new Term(field, value.name())), BooleanClause.Occur.SHOULD);
+        }
+        query.add(anyOf.build(), BooleanClause.Occur.FILTER);
+    }
+
+    private Set<String> analyze(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        if (text == null) {
+            return words;
+        }
+        try (TokenStream tokens = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                words.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return words;
+    }
+
+    /**
+     * Opens the newest index directory holding a committed index and deletes the
+     * others, which are leftovers of rebuilds that were replaced or interrupted.
+     */
+    private Generation openLatest() throws IOException {
+        List<Path> directories;
+        try (Stream<Path> children = Files.list(properties.getPath())) {
+            directories = children.filter(Files::isDirectory)
+                    .sorted(Comparator.comparing(Path::getFileName).reversed())
+                    .collect(Collectors.toList());
+        }
+        Generation latest = null;
+        for (Path directory : directories) {
+            if (latest == null && hasIndex(directory)) {
+                latest = Generation.open(directory, analyzer);
+            } else {
+                FileSystemUtils.deleteRecursively(directory);
+            }
+        }
+        return latest;
+    }
+
+    private static boolean hasIndex(Path path) throws IOException {
+        try (Directory directory = FSDirectory.open(path)) {
+            return DirectoryReader.indexExists(directory);
+        }
+    }
+
+    private static void discard(Generation generation) {
+        if (generation == null) {
+            return;
+        }
+        try {
+            generation.close();
+            FileSystemUtils.deleteRecursively(generation.path());
+        } catch (IOException ex) {
+            log.warn("Removing text index {} failed", generation.path(), ex);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.TaskManagement.search;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "task.text-index")
+public class TextIndexProperties {
+
+    /**
+     * Maintain the Lucene index behind /api/tasks/search/text.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Directory holding the index; it is reopened on restart.
+     */
+    private Path path = Path.of("data/text-index");
+
+    /**
+     * Rebuild the index from the database in the background on startup, picking up
+     * changes made while this instance was down. An index that already exists on disk
+     * serves searches in the meantime.
+     */
+    private boolean rebuildOnStartup = true;
+
+    /**
+     * How often the index is rebuilt to pick up changes made by other instances.
+     */
+    private Duration rebuildInterval = Duration.ofHours(6);
+
+    /**
+     * Threads loading and indexing tasks during a rebuild; 0 uses one per core.
+     */
+    private int rebuildThreads = 0;
+
+    /**
+     * Tasks loaded and indexed together.
+     */
+    private int batchSize = 500;
+}
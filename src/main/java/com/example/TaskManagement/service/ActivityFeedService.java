@@ -0,0 +1,75 @@
+package com.example.TaskManagement.service;
+
+import com.example.TaskManagement.cache.UserCache;
+import com.example.TaskManagement.cache.UserSnapshot;
+import com.example.TaskManagement.converter.ActivityEventConverter;
+import com.example.TaskManagement.dto.ActivityEventResponseDto;
+import com.example.TaskManagement.dto.ActivityFeedCriteriaDto;
+import com.example.TaskManagement.dto.CursorPageResponseDto;
+import com.example.TaskManagement.exception.ResourceNotFoundException;
+import com.example.TaskManagement.model.ActivityEvent;
+import com.example.TaskManagement.model.User;
+import com.example.TaskManagement.pagination.ActivityCursor;
+import com.example.TaskManagement.pagination.KeysetPage;
+import com.example.TaskManagement.repository.ActivityEventRepository;
+import com.example.TaskManagement.repository.TaskRepository;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ActivityFeedService {
+
+    private final ActivityEventRepository activityEventRepository;
+    private final TaskRepository taskRepository;
+    private final UserCache userCache;
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<ActivityEventResponseDto> getTaskActivity(UUID taskId, ActivityFeedCriteriaDto criteria,
+                                                                          String cursor, int limit) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new ResourceNotFoundException("Task not found with id :" + taskId);
+        }
+        ActivityFeedCriteriaDto forTask = new ActivityFeedCriteriaDto(taskId, criteria.getTypes(), criteria.getPerformedBy());
+        return getActivity(forTask, cursor, limit);
+    }
+
+    /**
+     * Fetches one event more than requested to learn whether a next page exists, then
+     * resolves every performer on the page with one cache lookup.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<ActivityEventResponseDto> getActivity(ActivityFeedCriteriaDto criteria,
+                                                                       String cursor, int limit) {
+        int pageSize = KeysetPage.clampLimit(limit);
+        ActivityCursor after = ActivityCursor.decode(cursor);
+
+        List<ActivityEvent> rows = activityEventRepository.findFeedPage(
+                criteria.getTaskId(), criteria.getTypes(), criteria.getPerformedBy(), after, pageSize + 1);
+        List<ActivityEvent> events = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+        String nextCursor = rows.size() > pageSize ? ActivityCursor.of(events.getLast()).encode() : null;
+
+        Set<UUID> performerIds = events.stream()
+                .map(ActivityEvent::getPerformedBy)
+                .filter(Objects::nonNull)
+                .map(User::getId)
+                .collect(Collectors.toSet());
+        Map<UUID, UserSnapshot> performers = userCache.findAll(performerIds);
+
+        List<ActivityEventResponseDto> items = events.stream()
+                .map(event -> ActivityEventConverter.toActivityEventResponse(event, id -> {
+                    UserSnapshot performer = performers.get(id);
+                    return performer != null ? performer.toSummary() : null;
+                }))
+                .toList();
+        return new CursorPageResponseDto<>(items, pageSize, nextCursor);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.TaskManagement.service;
+
+import com.example.TaskManagement.cache.UserCache;
+import com.example.TaskManagement.cache.UserSnapshot;
+import com.example.TaskManagement.comment.CommentProperties;
+import com.example.TaskManagement.converter.CommentConverter;
+import com.example.TaskManagement.dto.CommentResponseDto;
+import com.example.TaskManagement.dto.CursorPageResponseDto;
+import com.example.TaskManagement.exception.ResourceNotFoundException;
+import com.example.TaskManagement.model.Comment;
+import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.pagination.CommentCursor;
+import com.example.TaskManagement.pagination.KeysetPage;
+import com.example.TaskManagement.repository.CommentRepository;
+import com.example.TaskManagement.repository.TaskRepository;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+
+    private final CommentRepository commentRepository;
+    private final TaskRepository taskRepository;
+    private final UserCache userCache;
+    private final CommentProperties properties;
+
+    /**
+     * Fetches one comment more than requested to learn whether a next page exists.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<CommentResponseDto> getComments(UUID taskId, String cursor, int limit) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new ResourceNotFoundException("Task not found with id :" + taskId);
+        }
+        int pageSize = KeysetPage.clampLimit(limit);
+        CommentCursor after = CommentCursor.decode(cursor);
+
+        List<Comment> rows = after == null
+                ? commentRepository.findByTaskIdOrderByTimestampDescIdDesc(taskId, Limit.of(pageSize + 1))
+                : commentRepository.findByTaskIdBefore(taskId, after.timestamp(), after.id(), Limit.of(pageSize + 1));
+        List<Comment> comments = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+        String nextCursor = rows.size() > pageSize ? CommentCursor.of(comments.getLast()).encode() : null;
+
+        return new CursorPageResponseDto<>(toResponses(comments), pageSize, nextCursor);
+    }
+
+    /**
+     * The comments embedded in a single-task response. Skips the query for tasks
+     * without comments.
+     */
+    public List<CommentResponseDto> getLatestComments(Task task) {
+        int count = properties.getLatestInTask();
+        if (count <= 0 || task.getCommentCount() == 0) {
+            return List.of();
+        }
+        return toResponses(commentRepository.findByTaskIdOrderByTimestampDescIdDesc(task.getId(), Limit.of(count)));
+    }
+
+    /**
+     * Resolves every author on the page with one cache lookup instead of initializing
+     * each lazy proxy.
+     */
+    private List<CommentResponseDto> toResponses(List<Comment> comments) {
+        Set<UUID> authorIds = comments.stream()
+                .map(comment -> comment.getAuthor().getId())
+                .collect(Collectors.toSet());
+        Map<UUID, UserSnapshot> authors = userCache.findAll(authorIds);
+
+        return comments.stream()
+                .map(comment -> CommentConverter.toCommentResponse(comment, author -> {
+                    UserSnapshot snapshot = authors.get(author.getId());
+                    return snapshot != null ? snapshot.toSummary() : null;
+                }))
+                .toList();
+    }
+}
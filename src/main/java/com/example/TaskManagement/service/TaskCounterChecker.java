@@ -0,0 +1,96 @@
+package com.example.TaskManagement.service;
+
+import com.example.TaskManagement.dto.CounterDriftDto;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.repository.TaskCounterRepository;
+import com.example.TaskManagement.repository.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.TaskManagement.service.TaskCounterDeltas.*;
+
+/**
+ * Recounts tasks with GROUP BY queries and compares the result with
+ * {@code task_counters}. Drift is logged, exposed as the {@code task.counters.drift}
+ * gauge and available on demand; it is not repaired automatically. The table is
+ * seeded from existing tasks by {@code SeedTaskCountersMigration}.
+ */
+@Slf4j
+@Component
+public class TaskCounterChecker {
+
+    private final TaskRepository taskRepository;
+    private final TaskCounterRepository taskCounterRepository;
+    private final AtomicInteger driftedCounters = new AtomicInteger();
+
+    public TaskCounterChecker(TaskRepository taskRepository,
+                              TaskCounterRepository taskCounterRepository,
+                              MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.taskCounterRepository = taskCounterRepository;
+        Gauge.builder("task.counters.drift", driftedCounters, AtomicInteger::get)
+                .description("Counters that disagreed with a recount at the last check")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${task.counters.check-interval:10m}",
+               fixedDelayString = "${task.counters.check-interval:10m}")
+    @Transactional
+    public void check() {
+        List<CounterDriftDto> drift = compare();
+        if (!drift.isEmpty()) {
+            log.warn("Task counters drifted from the tasks table: {}", drift);
+        }
+    }
+
+    /**
+     * Reads counters and recounts in one transaction, so both sides see the same snapshot.
+     */
+    @Transactional
+    public List<CounterDriftDto> findDrift() {
+        return compare();
+    }
+
+    private List<CounterDriftDto> compare() {
+        Map<String, Long> actual = recount();
+        Map<String, Long> counted = new TreeMap<>();
+        taskCounterRepository.findAll()
+                .forEach(counter -> counted.put(counter.getCounterKey(), counter.getTaskCount()));
+
+        Set<String> keys = new TreeSet<>(counted.keySet());
+        keys.addAll(actual.keySet());
+
+        List<CounterDriftDto> drift = new ArrayList<>();
+        for (String key : keys) {
+            long expected = actual.getOrDefault(key, 0L);
+            long value = counted.getOrDefault(key, 0L);
+            if (expected != value) {
+                drift.add(new CounterDriftDto(key, value, expected));
+            }
+        }
+        driftedCounters.set(drift.size());
+        return drift;
+    }
+
+    private Map<String, Long> recount() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Object[] row : taskRepository.countGroupedByStatus()) {
+            counts.put(statusKey((TaskStatus) row[0]), (Long) row[1]);
+        }
+        for (Object[] row : taskRepository.countGroupedByAssignee()) {
+            counts.put(assigneeKey((UUID) row[0]), (Long) row[1]);
+        }
+        for (Object[] row : taskRepository.countOpenGroupedByDueDate()) {
+            counts.put(openDueKey((LocalDate) row[0]), (Long) row[1]);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.TaskManagement.service;
+
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.model.Task;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Counter changes accumulated over one or more task changes, applied together by
+ * {@link TaskCounterService#apply}. Keys are kept sorted so concurrent transactions
+ * lock counter rows in the same order.
+ */
+public class TaskCounterDeltas {
+
+    static final String STATUS_PREFIX = "status:";
+    static final String ASSIGNEE_PREFIX = "assignee:";
+    static final String OPEN_DUE_PREFIX = "open-due:";
+
+    /**
+     * The task fields the counters depend on, captured before a change.
+     */
+    public record CountedState(TaskStatus status, UUID assigneeId, LocalDate dueDate) {
+
+        public static CountedState of(Task task) {
+            return new CountedState(
+                    task.getStatus(),
+                    task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
+                    task.getDueDate());
+        }
+    }
+
+    private final Map<String, Long> deltas = new TreeMap<>();
+
+    public TaskCounterDeltas created(Task task) {
+        return created(CountedState.of(task));
+    }
+
+    /**
+     * For tasks inserted without an entity, such as imported ones.
+     */
+    public TaskCounterDeltas created(CountedState state) {
+        add(state, 1);
+        return this;
+    }
+
+    public TaskCounterDeltas changed(CountedState before, Task after) {
+        add(before, -1);
+        add(CountedState.of(after), 1);
+        return this;
+    }
+
+    Map<String, Long> nonZero() {
+        Map<String, Long> result = new TreeMap<>(deltas);
+        result.values().removeIf(delta -> delta == 0);
+        return result;
+    }
+
+    private void add(CountedState state, long delta) {
+        deltas.merge(statusKey(state.status()), delta, Long::sum);
+        if (state.assigneeId() != null) {
+            deltas.merge(assigneeKey(state.assigneeId()), delta, Long::sum);
+        }
+        if (state.dueDate() != null && isOpen(state.status())) {
+            deltas.merge(openDueKey(state.dueDate()), delta, Long::sum);
+        }
+    }
+
+    static boolean isOpen(TaskStatus status) {
+        return status != TaskStatus.COMPLETED && status != TaskStatus.CANCELLED;
+    }
+
+    public static String statusKey(TaskStatus status) {
+        return STATUS_PREFIX + status.name();
+    }
+
+    public static String assigneeKey(UUID userId) {
+        return ASSIGNEE_PREFIX + userId;
+    }
+
+    /**
+     * ISO dates sort lexicographically in date order, so a key range is a date range.
+     */
+    public static String openDueKey(LocalDate dueDate) {
+        return OPEN_DUE_PREFIX + dueDate;
+    }
+}
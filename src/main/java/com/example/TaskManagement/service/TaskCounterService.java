@@ -0,0 +1,52 @@
+package com.example.TaskManagement.service;
+
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.model.TaskCounter;
+import com.example.TaskManagement.repository.TaskCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static com.example.TaskManagement.service.TaskCounterDeltas.*;
+
+/**
+ * Reads and maintains the {@code task_counters} summary table behind the
+ * {@code /api/tasks/count/*} endpoints.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskCounterService {
+
+    private final TaskCounterRepository taskCounterRepository;
+
+    /**
+     * Must run inside the transaction that made the task changes, so the counters
+     * commit or roll back with them.
+     */
+    public void apply(TaskCounterDeltas deltas) {
+        deltas.nonZero().forEach(taskCounterRepository::increment);
+    }
+
+    public long countByStatus(TaskStatus status) {
+        return read(statusKey(status));
+    }
+
+    public long countAssignedTo(UUID userId) {
+        return read(assigneeKey(userId));
+    }
+
+    /**
+     * Sums the open-task counters of every due date before today.
+     */
+    public long countOverdue() {
+        return taskCounterRepository.sumInKeyRange(OPEN_DUE_PREFIX, openDueKey(LocalDate.now()));
+    }
+
+    private long read(String key) {
+        return taskCounterRepository.findById(key)
+                .map(TaskCounter::getTaskCount)
+                .orElse(0L);
+    }
+}
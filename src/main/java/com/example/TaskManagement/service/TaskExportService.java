@@ -0,0 +1,78 @@
+package com.example.TaskManagement.service;
+
+import com.example.TaskManagement.converter.TaskConverter;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Writes task listings as newline-delimited JSON straight from a database cursor.
+ * Only one chunk of rows is ever held, so memory stays flat however large the table is.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int CHUNK_SIZE = 100;
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public void exportTasksByCreatedDate(OutputStream out) throws IOException {
+        try (Stream<Task> tasks = taskRepository.streamAllOrderByCreatedAtDesc()) {
+            writeNdjson(tasks, out);
+        }
+    }
+
+    @Transactional
+    public void exportTasksByStatus(TaskStatus status, OutputStream out) throws IOException {
+        try (Stream<Task> tasks = taskRepository.streamByStatusOrderByCreatedAtDesc(status)) {
+            writeNdjson(tasks, out);
+        }
+    }
+
+    private void writeNdjson(Stream<Task> tasks, OutputStream out) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        Iterator<Task> iterator = tasks.iterator();
+        List<Task> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == CHUNK_SIZE) {
+                writeChunk(chunk, buffered);
+            }
+        }
+        writeChunk(chunk, buffered);
+    }
+
+    /**
+     * Converting a whole chunk while its tasks are all still managed lets Hibernate
+     * batch-load tags for the chunk instead of once per task.
+     * Clearing afterwards drops every entity loaded for it.
+     */
+    private void writeChunk(List<Task> chunk, OutputStream out) throws IOException {
+        for (Task task : chunk) {
+            out.write(objectMapper.writeValueAsBytes(TaskConverter.toTaskRespone(task)));
+            out.write('\n');
+        }
+        out.flush();
+        entityManager.clear();
+        chunk.clear();
+    }
+}
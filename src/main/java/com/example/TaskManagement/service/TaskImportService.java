@@ -0,0 +1,228 @@
+package com.example.TaskManagement.service;
+
+import com.example.TaskManagement.cache.TaskQueryCache;
+import com.example.TaskManagement.dto.TaskImportErrorDto;
+import com.example.TaskManagement.dto.TaskImportProgressDto;
+import com.example.TaskManagement.dto.TaskImportRowDto;
+import com.example.TaskManagement.enums.ImportFormat;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.importer.ImportedTask;
+import com.example.TaskManagement.importer.TaskImportProperties;
+import com.example.TaskManagement.importer.TaskImportRows;
+import com.example.TaskManagement.importer.TaskImportWriter;
+import com.example.TaskManagement.overdue.OverdueTracker;
+import com.example.TaskManagement.repository.UserKeyRow;
+import com.example.TaskManagement.repository.UserRepository;
+import com.example.TaskManagement.search.TagIndex;
+import com.example.TaskManagement.search.TextIndex;
+import com.example.TaskManagement.service.TaskCounterDeltas.CountedState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Imports tasks from NDJSON or CSV while the input is still arriving. Valid rows are
+ * collected into chunks of {@code task.import.chunk-size} and each chunk is written
+ * in one transaction with a JDBC batch per table: tasks, tags, initial versions and
+ * {@code TASK_CREATED} events, plus the counter deltas. Users are resolved from a map
+ * read once per import, so rows cost no queries of their own.
+ *
+ * <p>A progress line with the rows rejected since the previous one is written after
+ * every chunk. A chunk the database refuses is retried row by row, so only the
+ * offending rows are rejected.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskImportService {
+
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_TAG_LENGTH = 255;
+
+    private final UserRepository userRepository;
+    private final TaskImportWriter taskImportWriter;
+    private final TaskCounterService taskCounterService;
+    private final TagIndex tagIndex;
+    private final OverdueTracker overdueTracker;
+    private final TextIndex textIndex;
+    private final TaskQueryCache taskQueryCache;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskImportProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Running totals of one import and the rows not yet written or reported.
+     */
+    private static final class Progress {
+        final long started = System.nanoTime();
+        final List<ImportedTask> chunk = new ArrayList<>();
+        final List<TaskImportErrorDto> errors = new ArrayList<>();
+        long processed;
+        long imported;
+        long failed;
+        long unreported;
+
+        void reject(long row, String error) {
+            errors.add(new TaskImportErrorDto(row, error));
+            failed++;
+        }
+
+        long elapsedMs() {
+            return (System.nanoTime() - started) / 1_000_000;
+        }
+    }
+
+    public void importTasks(InputStream in, ImportFormat format, OutputStream out) throws IOException {
+        Progress progress = new Progress();
+        Map<String, UUID> users = loadUsers();
+        String message = null;
+
+        try (TaskImportRows rows = TaskImportRows.open(in, format, objectMapper)) {
+            while (rows.hasNext()) {
+                if (progress.failed >= properties.getMaxErrors()) {
+                    message = "Stopped after " + progress.failed + " rejected rows";
+                    break;
+                }
+                TaskImportRows.Row row = rows.next();
+                progress.processed++;
+                progress.unreported++;
+                if (row.error() != null) {
+                    progress.reject(row.number(), row.error());
+                } else {
+                    try {
+                        progress.chunk.add(toImportedTask(row.number(), row.task(), users));
+                    } catch (IllegalArgumentException ex) {
+                        progress.reject(row.number(), ex.getMessage());
+                    }
+                }
+                if (progress.unreported >= properties.getChunkSize()) {
+                    writeChunk(progress);
+                    report(progress, false, null, out);
+                }
+            }
+        }
+        writeChunk(progress);
+        report(progress, true, message, out);
+        log.info("Imported {} tasks, rejected {} rows in {} ms",
+                progress.imported, progress.failed, progress.elapsedMs());
+    }
+
+    private Map<String, UUID> loadUsers() {
+        Map<String, UUID> users = new HashMap<>();
+        for (UserKeyRow user : userRepository.findKeyRows()) {
+            users.put(user.getId().toString(), user.getId());
+            users.put(user.getEmail().toLowerCase(Locale.ROOT), user.getId());
+        }
+        return users;
+    }
+
+    private ImportedTask toImportedTask(long row, TaskImportRowDto task, Map<String, UUID> users) {
+        String title = require(task.getTitle(), "Title is required");
+        if (title.length() > MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException("Title is longer than " + MAX_TITLE_LENGTH + " characters");
+        }
+        String description = require(task.getDescription(), "Description is required");
+        UUID createdBy = resolveUser(require(task.getCreatedBy(), "Created by user is required"), users);
+        UUID assignedTo = task.getAssignedTo() != null && !task.getAssignedTo().isBlank()
+                ? resolveUser(task.getAssignedTo(), users)
+                : null;
+
+        List<String> tags = task.getTags() != null ? List.copyOf(task.getTags()) : List.of();
+        for (String tag : tags) {
+            if (tag.length() > MAX_TAG_LENGTH) {
+                throw new IllegalArgumentException("Tag is longer than " + MAX_TAG_LENGTH + " characters");
+            }
+        }
+
+        return new ImportedTask(row, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                title, description,
+                task.getStatus() != null ? task.getStatus() : TaskStatus.OPEN,
+                task.getPriority() != null ? task.getPriority() : Priority.MEDIUM,
+                createdBy, assignedTo, task.getDueDate(), tags,
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    private static String require(String value, String error) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(error);
+        }
+        return value;
+    }
+
+    private static UUID resolveUser(String reference, Map<String, UUID> users) {
+        UUID userId = users.get(reference.trim().toLowerCase(Locale.ROOT));
+        if (userId == null) {
+            throw new IllegalArgumentException("User not found: " + reference);
+        }
+        return userId;
+    }
+
+    private void writeChunk(Progress progress) {
+        List<ImportedTask> chunk = progress.chunk;
+        if (!chunk.isEmpty()) {
+            try {
+                write(chunk);
+                progress.imported += chunk.size();
+            } catch (DataAccessException | TransactionException ex) {
+                log.warn("Writing a chunk of {} imported tasks failed, retrying row by row", chunk.size(), ex);
+                for (ImportedTask task : chunk) {
+                    try {
+                        write(List.of(task));
+                        progress.imported++;
+                    } catch (DataAccessException rowEx) {
+                        progress.reject(task.row(), rowEx.getMostSpecificCause().getMessage());
+                    } catch (TransactionException rowEx) {
+                        progress.reject(task.row(), rowEx.getMessage());
+                    }
+                }
+            }
+            chunk.clear();
+        }
+        progress.unreported = 0;
+    }
+
+    /**
+     * The in-memory indexes are told once the chunk has committed; outside a
+     * transaction they apply the changes straight away.
+     */
+    private void write(List<ImportedTask> tasks) {
+        transactionTemplate.executeWithoutResult(status -> {
+            taskImportWriter.insert(tasks);
+            TaskCounterDeltas deltas = new TaskCounterDeltas();
+            tasks.forEach(task -> deltas.created(new CountedState(task.status(), task.assignedTo(), task.dueDate())));
+            taskCounterService.apply(deltas);
+        });
+        for (ImportedTask task : tasks) {
+            tagIndex.indexAfterCommit(task.id(), task.createdAt(), task.tags());
+            overdueTracker.trackAfterCommit(task.id(), task.status(), task.priority(), task.dueDate());
+            textIndex.indexAfterCommit(task.id());
+        }
+        taskQueryCache.invalidateAllAfterCommit();
+    }
+
+    private void report(Progress progress, boolean done, String message, OutputStream out) throws IOException {
+        TaskImportProgressDto line = new TaskImportProgressDto(progress.processed, progress.imported,
+                progress.failed, progress.elapsedMs(), done, message, List.copyOf(progress.errors));
+        out.write(objectMapper.writeValueAsBytes(line));
+        out.write('\n');
+        out.flush();
+        progress.errors.clear();
+    }
+}
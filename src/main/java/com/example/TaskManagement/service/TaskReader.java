@@ -0,0 +1,122 @@
+package com.example.TaskManagement.service;
+
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.pagination.TaskCursor;
+import com.example.TaskManagement.pagination.TaskSort;
+import com.example.TaskManagement.projection.TaskFields;
+import com.example.TaskManagement.projection.TaskRow;
+import com.example.TaskManagement.repository.TaskRepository;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * How a {@link TaskSearchService} listing reads its page: as {@link Task} entities for
+ * the full response, or as {@link TaskRow} projections of just the fields asked for.
+ */
+public abstract class TaskReader<T> {
+
+    private static final TaskReader<Task> ENTITIES = new Entities();
+
+    public static TaskReader<Task> entities() {
+        return ENTITIES;
+    }
+
+    public static TaskReader<TaskRow> rows(TaskFields fields) {
+        return new Rows(fields);
+    }
+
+    abstract List<T> findPage(TaskRepository repository, Specification<Task> filter, TaskSort sort,
+                              TaskCursor after, int limit);
+
+    /**
+     * In no particular order; {@code sort} is the listing's, or null when no cursor is
+     * built from the items.
+     */
+    abstract List<T> findAllByIdIn(TaskRepository repository, List<UUID> ids, TaskSort sort);
+
+    abstract UUID id(T item);
+
+    abstract TaskStatus status(T item);
+
+    abstract Priority priority(T item);
+
+    abstract TaskCursor cursorAfter(TaskSort sort, T last);
+
+    private static final class Entities extends TaskReader<Task> {
+
+        @Override
+        List<Task> findPage(TaskRepository repository, Specification<Task> filter, TaskSort sort,
+                            TaskCursor after, int limit) {
+            return repository.findPage(filter, sort, after, limit);
+        }
+
+        @Override
+        List<Task> findAllByIdIn(TaskRepository repository, List<UUID> ids, TaskSort sort) {
+            return repository.findAllByIdIn(ids);
+        }
+
+        @Override
+        UUID id(Task task) {
+            return task.getId();
+        }
+
+        @Override
+        TaskStatus status(Task task) {
+            return task.getStatus();
+        }
+
+        @Override
+        Priority priority(Task task) {
+            return task.getPriority();
+        }
+
+        @Override
+        TaskCursor cursorAfter(TaskSort sort, Task last) {
+            return TaskCursor.of(sort, last);
+        }
+    }
+
+    private static final class Rows extends TaskReader<TaskRow> {
+
+        private final TaskFields fields;
+
+        Rows(TaskFields fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        List<TaskRow> findPage(TaskRepository repository, Specification<Task> filter, TaskSort sort,
+                               TaskCursor after, int limit) {
+            return repository.findRowPage(filter, sort, after, limit, fields);
+        }
+
+        @Override
+        List<TaskRow> findAllByIdIn(TaskRepository repository, List<UUID> ids, TaskSort sort) {
+            return repository.findRowsByIdIn(ids, sort, fields);
+        }
+
+        @Override
+        UUID id(TaskRow row) {
+            return row.getId();
+        }
+
+        @Override
+        TaskStatus status(TaskRow row) {
+            return row.getStatus();
+        }
+
+        @Override
+        Priority priority(TaskRow row) {
+            return row.getPriority();
+        }
+
+        @Override
+        TaskCursor cursorAfter(TaskSort sort, TaskRow last) {
+            return TaskCursor.of(sort, last);
+        }
+    }
+}
@@ -1,128 +1,299 @@
 package com.example.TaskManagement.service;
 
+import com.example.TaskManagement.dto.TaskSearchCriteriaDto;
 import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TagMatch;
 import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.exception.RuleViolationException;
+import com.example.TaskManagement.exception.SearchUnavailableException;
 import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.overdue.OverdueTracker;
+import com.example.TaskManagement.pagination.KeysetPage;
+import com.example.TaskManagement.pagination.TaskCursor;
+import com.example.TaskManagement.pagination.TaskSort;
+import com.example.TaskManagement.pagination.TextCursor;
 import com.example.TaskManagement.repository.TaskRepository;
+import com.example.TaskManagement.search.TagIndex;
+import com.example.TaskManagement.search.TextIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.example.TaskManagement.repository.TaskSpecifications.*;
 
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class TaskSearchService {
 
-    private final TaskRepository taskRepository;
+    /**
+     * Tracker pages tried before the overdue listing falls back to SQL, each after
+     * refreshing the stale ids the previous one found.
+     */
+    private static final int OVERDUE_PAGE_ATTEMPTS = 3;
 
+    private final TaskRepository taskRepository;
+    private final TagIndex tagIndex;
+    private final TaskCounterService taskCounterService;
+    private final OverdueTracker overdueTracker;
+    private final TextIndex textIndex;
 
-    public List<Task> getAllTasksByStatus(TaskStatus status) {
-        return taskRepository.findByStatus(status);
-    }
 
-    public List<Task> getAllTasksByStatuses(List<TaskStatus> statuses) {
-        return taskRepository.findByStatusIn(statuses);
+    public <T> KeysetPage<T> getAllTasksByStatus(TaskStatus status, TaskReader<T> reader, String cursor, int limit) {
+        return page(hasStatus(status), TaskSort.CREATED_AT_DESC, reader, cursor, limit);
     }
 
     
-    public List<Task> getAllTasksByPriority(Priority priority) {
-        return taskRepository.findByPriority(priority);
+    public <T> KeysetPage<T> getAllTasksByPriority(Priority priority, TaskReader<T> reader, String cursor, int limit) {
+        return page(hasPriority(priority), TaskSort.CREATED_AT_DESC, reader, cursor, limit);
     }
 
-    public List<Task> getAllTasksByPriorities(List<Priority> priorities) {
-        return taskRepository.findByPriorityIn(priorities);
+    public <T> KeysetPage<T> getAllTasksAssignedTo(UUID userId, TaskReader<T> reader, String cursor, int limit) {
+        return page(assignedTo(userId), TaskSort.CREATED_AT_DESC, reader, cursor, limit);
     }
 
-    public List<Task> getAllTasksAssignedTo(UUID userId) {
-        return taskRepository.findByAssignedToId(userId);
+    public <T> KeysetPage<T> getAllUnassignedTasks(TaskReader<T> reader, String cursor, int limit) {
+        return page(unassigned(), TaskSort.CREATED_AT_DESC, reader, cursor, limit);
     }
 
-    public List<Task> getAllUnassignedTasks() {
-        return taskRepository.findByAssignedToIsNull();
+    public <T> KeysetPage<T> getAllTasksCreatedBy(UUID userId, TaskReader<T> reader, String cursor, int limit) {
+        return page(createdBy(userId), TaskSort.CREATED_AT_DESC, reader, cursor, limit);
     }
 
-    public List<Task> getAllTasksCreatedBy(UUID userId) {
-        return taskRepository.findByCreatedById(userId);
+    /**
+     * Served from the overdue tracker, reading only the page itself from the database with
+     * the overdue filter applied again. Ids that another instance has since closed or
+     * rescheduled are refreshed in the tracker and the page resolved again. Falls back to
+     * the SQL filter while the tracker cannot answer.
+     */
+    public <T> KeysetPage<T> getAllOverdueTasks(TaskReader<T> reader, String cursor, int limit) {
+        int pageSize = KeysetPage.clampLimit(limit);
+        TaskCursor after = TaskCursor.decode(cursor, TaskSort.DUE_DATE_ASC);
+
+        for (int attempt = 0; attempt < OVERDUE_PAGE_ATTEMPTS; attempt++) {
+            List<UUID> ids = overdueTracker.find(after, pageSize + 1);
+            if (ids == null) {
+                break;
+            }
+            List<UUID> pageIds = ids.size() > pageSize ? ids.subList(0, pageSize) : ids;
+            List<T> items = pageIds.isEmpty() ? List.of() : reader.findPage(taskRepository,
+                    hasIdIn(pageIds).and(overdue()), TaskSort.DUE_DATE_ASC, null, pageIds.size());
+            if (items.size() == pageIds.size()) {
+                String nextCursor = ids.size() > pageSize
+                        ? reader.cursorAfter(TaskSort.DUE_DATE_ASC, items.getLast()).encode()
+                        : null;
+                return new KeysetPage<>(items, pageSize, nextCursor);
+            }
+            Set<UUID> current = items.stream().map(reader::id).collect(Collectors.toSet());
+            overdueTracker.refresh(pageIds.stream().filter(id -> !current.contains(id)).toList());
+        }
+        return page(overdue(), TaskSort.DUE_DATE_ASC, reader, cursor, limit);
     }
 
-    public List<Task> getAllOverdueTasks() {
-        return taskRepository.findOverdueTasks();
+    public <T> KeysetPage<T> getTasksCreatedBetween(LocalDate startDate, LocalDate endDate, TaskReader<T> reader,
+                                                  String cursor, int limit) {
+        return page(createdBetween(startDate, endDate), TaskSort.CREATED_AT_DESC, reader, cursor, limit);
     }
 
-    public List<Task> getTasksCreatedBetween(LocalDate startDate, LocalDate endDate) {
-        return taskRepository.findTasksCreatedBetween(startDate, endDate);
+    /**
+     * Resolves the matching ids from the tag index and only reads the page itself from
+     * the database. Falls back to the SQL subqueries while the index cannot answer.
+     */
+    public <T> KeysetPage<T> getTasksWithTags(List<String> tags, TagMatch match, TaskReader<T> reader,
+                                            String cursor, int limit) {
+        int pageSize = KeysetPage.clampLimit(limit);
+        TaskCursor after = TaskCursor.decode(cursor, TaskSort.CREATED_AT_DESC);
+        UUID afterId = after == null ? null : (UUID) after.getValues().getLast();
+
+        List<UUID> ids = tagIndex.find(tags, match, afterId, pageSize + 1);
+        if (ids == null) {
+            Specification<Task> filter = match == TagMatch.ALL ? hasAllTags(tags) : hasAnyTag(tags);
+            return page(filter, TaskSort.CREATED_AT_DESC, reader, cursor, limit);
+        }
+
+        return pageOf(ids, TaskSort.CREATED_AT_DESC, reader, pageSize);
     }
 
-    public List<Task> getTasksUpdatedBetween(LocalDate startDate, LocalDate endDate) {
-        return taskRepository.findTasksUpdatedBetween(startDate, endDate);
+    public <T> KeysetPage<T> getHighPriorityTasksFor(UUID userId, TaskReader<T> reader, String cursor, int limit) {
+        return page(hasPriority(Priority.HIGH).and(assignedTo(userId)), TaskSort.CREATED_AT_DESC, reader, cursor, limit);
     }
 
-    public List<Task> getCompletedTasksBetween(LocalDate startDate, LocalDate endDate) {
-        return taskRepository.findCompletedTasksBetween(startDate, endDate);
+    public <T> KeysetPage<T> getOpenTasksFor(UUID userId, TaskReader<T> reader, String cursor, int limit) {
+        return page(hasStatus(TaskStatus.OPEN).and(assignedTo(userId)), TaskSort.CREATED_AT_DESC, reader, cursor, limit);
     }
 
-    public List<Task> getTasksWithAllTags(List<String> tags) {
-        return taskRepository.findTasksWithAllTags(tags, (long) tags.size());
+    public <T> KeysetPage<T> getInProgressTasksFor(UUID userId, TaskReader<T> reader, String cursor, int limit) {
+        return page(hasStatus(TaskStatus.IN_PROGRESS).and(assignedTo(userId)), TaskSort.CREATED_AT_DESC, reader, cursor, limit);
     }
 
-    public List<Task> getTasksWithAnyTag(List<String> tags) {
-        return taskRepository.findTasksWithAnyTag(tags);
+    public <T> KeysetPage<T> getUrgentOpenTasks(TaskReader<T> reader, String cursor, int limit) {
+        return page(urgentOpen(), TaskSort.DUE_DATE_ASC, reader, cursor, limit);
     }
 
-    public List<Task> getHighPriorityTasksFor(UUID userId) {
-        return taskRepository.findByPriorityAndAssignedToId(Priority.HIGH, userId);
-    }
 
-    public List<Task> getOpenTasksFor(UUID userId) {
-        return taskRepository.findByStatusAndAssignedToId(TaskStatus.OPEN, userId);
+    public <T> KeysetPage<T> getAllTasksSortedByPriority(TaskReader<T> reader, String cursor, int limit) {
+        return page(null, TaskSort.PRIORITY_DESC, reader, cursor, limit);
     }
 
-    public List<Task> getInProgressTasksFor(UUID userId) {
-        return taskRepository.findByStatusAndAssignedToId(TaskStatus.IN_PROGRESS, userId);
+    public <T> KeysetPage<T> getAllTasksSortedByDueDate(TaskReader<T> reader, String cursor, int limit) {
+        return page(null, TaskSort.DUE_DATE_ASC, reader, cursor, limit);
     }
 
-    public List<Task> getTasksByStatusAndPriority(TaskStatus status, Priority priority) {
-        return taskRepository.findByStatusAndPriority(status, priority);
-    }
 
-    public List<Task> getUrgentOpenTasks() {
-        return taskRepository.findUrgentOpenTasks();
+    public <T> KeysetPage<T> getAllTasksSortedByCreatedDate(TaskReader<T> reader, String cursor, int limit) {
+        return page(null, TaskSort.CREATED_AT_DESC, reader, cursor, limit);
     }
 
+    public <T> KeysetPage<T> getAllTasksSortedByStatus(TaskReader<T> reader, String cursor, int limit) {
+        return page(null, TaskSort.STATUS_ASC, reader, cursor, limit);
+    }
 
-    public List<Task> getAllTasksSortedByPriority() {
-        return taskRepository.findAllOrderByPriorityDesc();
+    /**
+     * Compiles whichever criteria are present into one WHERE clause over {@code tasks},
+     * with tag filters as correlated subqueries, and reads it a keyset page at a time.
+     */
+    public <T> KeysetPage<T> search(TaskSearchCriteriaDto criteria, TaskReader<T> reader, String cursor, int limit) {
+        checkRange("due", criteria.getDueFrom(), criteria.getDueTo());
+        checkRange("created", criteria.getCreatedFrom(), criteria.getCreatedTo());
+        checkRange("updated", criteria.getUpdatedFrom(), criteria.getUpdatedTo());
+
+        List<Specification<Task>> filters = new ArrayList<>();
+        if (!isEmpty(criteria.getStatuses())) {
+            filters.add(hasStatusIn(criteria.getStatuses()));
+        }
+        if (!isEmpty(criteria.getPriorities())) {
+            filters.add(hasPriorityIn(criteria.getPriorities()));
+        }
+        if (criteria.getAssignedTo() != null) {
+            filters.add(assignedTo(criteria.getAssignedTo()));
+        }
+        if (Boolean.TRUE.equals(criteria.getUnassigned())) {
+            filters.add(unassigned());
+        }
+        if (criteria.getCreatedBy() != null) {
+            filters.add(createdBy(criteria.getCreatedBy()));
+        }
+        if (!isEmpty(criteria.getTags())) {
+            filters.add(hasAllTags(criteria.getTags()));
+        }
+        if (!isEmpty(criteria.getAnyTags())) {
+            filters.add(hasAnyTag(criteria.getAnyTags()));
+        }
+        if (Boolean.TRUE.equals(criteria.getOverdue())) {
+            filters.add(overdue());
+        }
+        if (criteria.getDueFrom() != null || criteria.getDueTo() != null) {
+            filters.add(dueBetween(criteria.getDueFrom(), criteria.getDueTo()));
+        }
+        if (criteria.getCreatedFrom() != null || criteria.getCreatedTo() != null) {
+            filters.add(createdWithin(criteria.getCreatedFrom(), criteria.getCreatedTo()));
+        }
+        if (criteria.getUpdatedFrom() != null || criteria.getUpdatedTo() != null) {
+            filters.add(updatedWithin(criteria.getUpdatedFrom(), criteria.getUpdatedTo()));
+        }
+
+        TaskSort sort = criteria.getSort() != null ? criteria.getSort() : TaskSort.CREATED_AT_DESC;
+        return page(filters.isEmpty() ? null : Specification.allOf(filters), sort, reader, cursor, limit);
     }
 
-    public List<Task> getAllTasksSortedByDueDate() {
-        return taskRepository.findAllOrderByDueDateAsc();
+    /**
+     * Ranked by the text index, best match first, reading only the page itself from the
+     * database. Tasks whose status or priority changed since they were indexed are
+     * checked against the filters again.
+     */
+    public <T> KeysetPage<T> searchText(String text, List<TaskStatus> statuses, List<Priority> priorities,
+                                        TaskReader<T> reader, String cursor, int limit) {
+        int pageSize = KeysetPage.clampLimit(limit);
+        TextCursor after = TextCursor.decode(cursor);
+
+        List<TextIndex.Hit> hits = textIndex.find(text, statuses, priorities, after, pageSize + 1);
+        if (hits == null) {
+            throw new SearchUnavailableException("Text search is available once the text index has been built");
+        }
+        List<TextIndex.Hit> pageHits = hits.size() > pageSize ? hits.subList(0, pageSize) : hits;
+        List<UUID> ids = pageHits.stream().map(TextIndex.Hit::taskId).toList();
+        Map<UUID, T> loaded = reader.findAllByIdIn(taskRepository, ids, null).stream()
+                .collect(Collectors.toMap(reader::id, Function.identity()));
+        List<T> items = pageHits.stream()
+                .map(hit -> loaded.get(hit.taskId()))
+                .filter(Objects::nonNull)
+                .filter(task -> isEmpty(statuses) || statuses.contains(reader.status(task)))
+                .filter(task -> isEmpty(priorities) || priorities.contains(reader.priority(task)))
+                .collect(Collectors.toList());
+
+        String nextCursor = hits.size() > pageSize
+                ? new TextCursor(pageHits.getLast().score(), pageHits.getLast().taskId()).encode()
+                : null;
+        return new KeysetPage<>(items, pageSize, nextCursor);
     }
 
+    public long countByStatus(TaskStatus status) {
+        return taskCounterService.countByStatus(status);
+    }
 
-    public List<Task> getAllTasksSortedByCreatedDate() {
-        return taskRepository.findAllOrderByCreatedAtDesc();
+    /**
+     * From the counters, which commit with every task change on any instance.
+     */
+    public long countOverdueTasks() {
+        return taskCounterService.countOverdue();
     }
 
-    public List<Task> getAllTasksSortedByStatus() {
-        return taskRepository.findAllOrderByStatus();
+    public long countTasksAssignedTo(UUID userId) {
+        return taskCounterService.countAssignedTo(userId);
     }
 
-    public long countByStatus(TaskStatus status) {
-        return taskRepository.countByStatus(status);
+    private static boolean isEmpty(List<?> values) {
+        return values == null || values.isEmpty();
     }
 
-    public long countOverdueTasks() {
-        return taskRepository.countOverdueTasks();
+    private static void checkRange(String name, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new RuleViolationException(name + "From must not be after " + name + "To");
+        }
     }
 
-    public long countTasksAssignedTo(UUID userId) {
-        return taskRepository.countByAssignedToId(userId);
+    /**
+     * Loads a page of ids resolved in memory, in their order. {@code ids} holds one
+     * more than the page size when a next page exists.
+     */
+    private <T> KeysetPage<T> pageOf(List<UUID> ids, TaskSort sort, TaskReader<T> reader, int pageSize) {
+        List<UUID> pageIds = ids.size() > pageSize ? ids.subList(0, pageSize) : ids;
+        Map<UUID, T> loaded = reader.findAllByIdIn(taskRepository, pageIds, sort).stream()
+                .collect(Collectors.toMap(reader::id, Function.identity()));
+        List<T> items = pageIds.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        String nextCursor = ids.size() > pageSize && !items.isEmpty()
+                ? reader.cursorAfter(sort, items.getLast()).encode()
+                : null;
+        return new KeysetPage<>(items, pageSize, nextCursor);
     }
 
-    public List<Task> getAllTasksSortedByStatusAndPriority() {
-        return taskRepository.findAllOrderByStatusAndPriority();
+    /**
+     * Fetches one row more than requested to learn whether a next page exists
+     * without a separate COUNT query.
+     */
+    private <T> KeysetPage<T> page(Specification<Task> filter, TaskSort sort, TaskReader<T> reader,
+                                   String cursor, int limit) {
+        int pageSize = KeysetPage.clampLimit(limit);
+        TaskCursor after = TaskCursor.decode(cursor, sort);
+
+        List<T> rows = reader.findPage(taskRepository, filter, sort, after, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new KeysetPage<>(rows, pageSize, null);
+        }
+
+        List<T> items = rows.subList(0, pageSize);
+        String nextCursor = reader.cursorAfter(sort, items.get(pageSize - 1)).encode();
+        return new KeysetPage<>(items, pageSize, nextCursor);
     }
 }
@@ -1,41 +1,63 @@
 package com.example.TaskManagement.service;
 
+import com.example.TaskManagement.audit.AuditSink;
+import com.example.TaskManagement.cache.TaskQueryCache;
+import com.example.TaskManagement.cache.TaskSnapshot;
+import com.example.TaskManagement.cache.UserCache;
+import com.example.TaskManagement.cache.UserSnapshot;
 import com.example.TaskManagement.converter.CommentConverter;
 import com.example.TaskManagement.converter.TaskConverter;
 import com.example.TaskManagement.converter.TaskVersionConverter;
 import com.example.TaskManagement.dto.*;
 import com.example.TaskManagement.enums.ActivityType;
+import com.example.TaskManagement.enums.BulkChangeType;
 import com.example.TaskManagement.enums.Priority;
 import com.example.TaskManagement.enums.TaskStatus;
 import com.example.TaskManagement.exception.InvalidStateTransitionException;
+import com.example.TaskManagement.exception.PreconditionFailedException;
 import com.example.TaskManagement.exception.ResourceNotFoundException;
+import com.example.TaskManagement.exception.RuleViolationException;
+import com.example.TaskManagement.history.TaskHistoryCodec;
+import com.example.TaskManagement.history.TaskState;
 import com.example.TaskManagement.model.*;
+import com.example.TaskManagement.overdue.OverdueTracker;
 import com.example.TaskManagement.repository.*;
+import com.example.TaskManagement.search.TagIndex;
+import com.example.TaskManagement.search.TextIndex;
+import com.example.TaskManagement.service.TaskCounterDeltas.CountedState;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    private static final int MAX_BULK_CHANGES = 1000;
+
     private final TaskRepository taskRepository;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
     private final TaskVersionRepository taskVersionRepository;
-    private final ActivityEventRepository activityEventRepository;
+    private final TaskHistoryCodec taskHistoryCodec;
     private final CommentRepository commentRepository;
+    private final CommentService commentService;
+    private final AuditSink auditSink;
+    private final TagIndex tagIndex;
+    private final TaskCounterService taskCounterService;
+    private final OverdueTracker overdueTracker;
+    private final TaskQueryCache taskQueryCache;
+    private final TextIndex textIndex;
 
     @Transactional
     public TaskResponseDto createTask(CreateTaskRequestDto request){
-        User creator = userRepository.findById(request.getCreatedBy())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + request.getCreatedBy()));
+        User creator = userCache.reference(request.getCreatedBy());
 
         Task task = new Task();
         task.setTitle(request.getTitle());
@@ -46,9 +68,7 @@ public class TaskService {
         task.setVersion(1);
 
         if(request.getAssignedTo() != null){
-            User assignee = userRepository.findById(request.getAssignedTo())
-                            .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + request.getCreatedBy()));
-            task.setAssignedTo(assignee);
+            task.setAssignedTo(userCache.reference(request.getAssignedTo()));
         }
 
         if(request.getDueDate() != null){
@@ -60,134 +80,169 @@ public class TaskService {
         }
 
         Task createdTask = taskRepository.save(task);
+        tagIndex.indexAfterCommit(createdTask.getId(), createdTask.getCreatedAt(), createdTask.getTags());
+        overdueTracker.trackAfterCommit(createdTask);
+        taskQueryCache.invalidateAfterCommit(null, createdTask);
+        textIndex.indexAfterCommit(createdTask.getId());
+        taskCounterService.apply(new TaskCounterDeltas().created(createdTask));
 
-        createTaskVersion(createdTask , "Task Created");
+        createTaskVersion(null, createdTask , "Task Created");
 
         createActivityEvent(createdTask.getId() , ActivityType.TASK_CREATED , creator , "Task Created");
 
-        return TaskConverter.toTaskRespone(createdTask);
+        return TaskConverter.toTaskRespone(createdTask, userCache::summaryOf);
     }
 
     @Transactional
     public TaskResponseDto getTaskById(UUID id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id :" + id));
-        return TaskConverter.toTaskRespone(task);
+        return TaskConverter.toTaskRespone(task, userCache::summaryOf, commentService.getLatestComments(task));
+    }
+
+    /**
+     * Current version and comment count of the task without loading it, for answering
+     * If-None-Match.
+     */
+    public Optional<TaskValidatorRow> findTaskValidator(UUID id) {
+        return taskRepository.findValidatorById(id);
     }
 
     @Transactional
-    public TaskResponseDto updateTaskStatus(UUID id,UpdateTaskStatusRequestDto request, UUID performedBy) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id :" + id));
+    public TaskResponseDto updateTaskStatus(UUID id,UpdateTaskStatusRequestDto request, UUID performedBy, Integer expectedVersion) {
+        Task task = loadForUpdate(id, expectedVersion);
+        TaskState previous = TaskState.of(task);
+        TaskSnapshot listed = TaskSnapshot.of(task);
 
-        User performer = userRepository.findById(performedBy)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id:" + performedBy));
+        User performer = userCache.reference(performedBy);
 
         if(!isValidTransition(task.getStatus() , request.getStatus())){
             throw new InvalidStateTransitionException("Invalid status transition from " + task.getStatus() + " to " + request.getStatus());
         }
 
+        CountedState before = CountedState.of(task);
         TaskStatus oldStatus = task.getStatus();
         task.setStatus(request.getStatus());
-        task.setVersion(task.getVersion() + 1);
+        touch(task);
 
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        taskQueryCache.invalidateAfterCommit(listed, updatedTask);
+        taskCounterService.apply(new TaskCounterDeltas().changed(before, updatedTask));
+        overdueTracker.trackAfterCommit(updatedTask);
+        textIndex.indexAfterCommit(updatedTask.getId());
         String details = "Status changed from " + oldStatus + " to " + request.getStatus();
-        createTaskVersion(updatedTask , details);
+        createTaskVersion(previous, updatedTask , details);
 
         createActivityEvent(updatedTask.getId() , ActivityType.STATUS_CHANGED , performer , details);
 
-        return TaskConverter.toTaskRespone(updatedTask);
+        return TaskConverter.toTaskRespone(updatedTask, userCache::summaryOf);
     }
 
     @Transactional
-    public TaskResponseDto assignTask(UUID id,UpdateTaskAssigneeRequestDto request, UUID performedBy) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id :" + id));
+    public TaskResponseDto assignTask(UUID id,UpdateTaskAssigneeRequestDto request, UUID performedBy, Integer expectedVersion) {
+        Task task = loadForUpdate(id, expectedVersion);
+        TaskState previous = TaskState.of(task);
+        TaskSnapshot listed = TaskSnapshot.of(task);
 
-        User performer = userRepository.findById(performedBy)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id:" + performedBy));
+        User performer = userCache.reference(performedBy);
 
+        CountedState before = CountedState.of(task);
         String details;
         if(request.getAssignedTo() != null){
-            User assignee = userRepository.findById(request.getAssignedTo())
-                    .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + request.getAssignedTo()));
-            task.setAssignedTo(assignee);
-            details = "Task assigned to " + assignee.getName();
+            UserSnapshot assignee = userCache.require(request.getAssignedTo());
+            task.setAssignedTo(userCache.reference(assignee.id()));
+            details = "Task assigned to " + assignee.name();
         }else{
             task.setAssignedTo(null);
             details = "Task unassigned";
         }
 
-        task.setVersion(task.getVersion() + 1);
-        Task updatedTask = taskRepository.save(task);
+        touch(task);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        taskQueryCache.invalidateAfterCommit(listed, updatedTask);
+        taskCounterService.apply(new TaskCounterDeltas().changed(before, updatedTask));
 
-        createTaskVersion(updatedTask , details);
+        createTaskVersion(previous, updatedTask , details);
         createActivityEvent(updatedTask.getId() , ActivityType.ASSIGNEE_CHANGED , performer , details);
 
-        return TaskConverter.toTaskRespone(updatedTask);
+        return TaskConverter.toTaskRespone(updatedTask, userCache::summaryOf);
     }
 
     @Transactional
-    public TaskResponseDto updateTaskPriority(UUID id,UpdateTaskPriorityRequestDto request, UUID performedBy) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id :" + id));
+    public TaskResponseDto updateTaskPriority(UUID id,UpdateTaskPriorityRequestDto request, UUID performedBy, Integer expectedVersion) {
+        Task task = loadForUpdate(id, expectedVersion);
+        TaskState previous = TaskState.of(task);
+        TaskSnapshot listed = TaskSnapshot.of(task);
 
-        User performer = userRepository.findById(performedBy)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id:" + performedBy));
+        User performer = userCache.reference(performedBy);
 
         Priority oldPriority = task.getPriority();
         task.setPriority(request.getPriority());
-        task.setVersion(task.getVersion() + 1);
+        touch(task);
 
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        taskQueryCache.invalidateAfterCommit(listed, updatedTask);
+        overdueTracker.trackAfterCommit(updatedTask);
+        textIndex.indexAfterCommit(updatedTask.getId());
 
         String details = "Priority changed from " + oldPriority + " to " + request.getPriority();
-        createTaskVersion(updatedTask , details);
+        createTaskVersion(previous, updatedTask , details);
         createActivityEvent(updatedTask.getId() , ActivityType.PRIORITY_CHANGED , performer , details);
 
-        return TaskConverter.toTaskRespone(updatedTask);
+        return TaskConverter.toTaskRespone(updatedTask, userCache::summaryOf);
     }
 
     @Transactional
-    public TaskResponseDto updateTaskDueDate(UUID id,UpdateTaskDueDateRequestDto request, UUID performedBy) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id :" + id));
+    public TaskResponseDto updateTaskDueDate(UUID id,UpdateTaskDueDateRequestDto request, UUID performedBy, Integer expectedVersion) {
+        Task task = loadForUpdate(id, expectedVersion);
+        TaskState previous = TaskState.of(task);
+        TaskSnapshot listed = TaskSnapshot.of(task);
 
-        User performer = userRepository.findById(performedBy)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id:" + performedBy));
+        User performer = userCache.reference(performedBy);
 
+        CountedState before = CountedState.of(task);
         LocalDate oldDate = task.getDueDate();
         task.setDueDate(request.getDueDate());
-        task.setVersion(task.getVersion() + 1);
-
-        Task updatedTask = taskRepository.save(task);
+        touch(task);
+
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        taskQueryCache.invalidateAfterCommit(listed, updatedTask);
+        taskCounterService.apply(new TaskCounterDeltas().changed(before, updatedTask));
+        if (updatedTask.getOverdueSince() != null && !isPastDue(updatedTask.getDueDate())) {
+            // No longer overdue, so passing the new date is recorded as a new event.
+            taskRepository.clearOverdueSince(updatedTask.getId());
+            updatedTask.setOverdueSince(null);
+        }
+        overdueTracker.trackAfterCommit(updatedTask);
 
         String details = "Due Date changed from " + oldDate + " to " + request.getDueDate();
-        createTaskVersion(updatedTask , details);
+        createTaskVersion(previous, updatedTask , details);
         createActivityEvent(updatedTask.getId() , ActivityType.DUE_DATE_CHANGED , performer , details);
 
-        return TaskConverter.toTaskRespone(updatedTask);
+        return TaskConverter.toTaskRespone(updatedTask, userCache::summaryOf);
     }
 
     @Transactional
     public CommentResponseDto addComment(UUID id, @Valid AddCommentRequestDto request) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id :" + id));
+        UserSnapshot authorSnapshot = userCache.require(request.getAuthorId());
+        User author = userCache.reference(authorSnapshot.id());
 
-        User author = userRepository.findById(request.getAuthorId())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id:" + request.getAuthorId()));
+        if (taskRepository.incrementCommentCount(id) == 0) {
+            throw new ResourceNotFoundException("Task not found with id :" + id);
+        }
 
         Comment comment = new Comment();
-        comment.setTask(task);
+        comment.setTask(taskRepository.getReferenceById(id));
         comment.setAuthor(author);
         comment.setText(request.getText());
 
         commentRepository.save(comment);
+        taskQueryCache.invalidateTaskAfterCommit(id);
+        textIndex.indexAfterCommit(id);
 
-        createActivityEvent(id , ActivityType.COMMENT_ADDED , author , "Comment added by : " + author.getName());
+        createActivityEvent(id , ActivityType.COMMENT_ADDED , author , "Comment added by : " + authorSnapshot.name());
 
-        return CommentConverter.toCommentResponse(comment);
+        return CommentConverter.toCommentResponse(comment, userCache::summaryOf);
     }
 
     @Transactional
@@ -196,13 +251,172 @@ public class TaskService {
             throw new ResourceNotFoundException("Task not found with id :" + id);
         }
 
-        List<TaskVersion> versions = taskVersionRepository.findByTaskIdOrderByVersionDesc(id);
+        List<TaskVersion> versions = taskHistoryCodec.decode(taskVersionRepository.findByTaskIdOrderByVersionAsc(id));
 
-        return versions.stream()
+        return versions.reversed().stream()
                 .map(TaskVersionConverter:: toTaskVersionResponseDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Newest version present in the task's history. With write-behind auditing the
+     * history can trail {@link Task#getVersion()}, so its entity tag comes from here.
+     */
+    public Optional<Integer> findLatestHistoryVersion(UUID id) {
+        return taskVersionRepository.findLatestVersion(id);
+    }
+
+    /**
+     * Applies many status/assignee/priority changes in one transaction. Targets are loaded
+     * with one IN query and users come from the user cache, and the resulting task updates, versions and activity
+     * events are flushed as JDBC batches. A change that fails validation, or names an
+     * {@code expectedVersion} the task is no longer at, is reported in its result and does
+     * not affect the others; a task modified concurrently fails the whole request.
+     */
+    @Transactional
+    public BulkTaskUpdateResponseDto bulkUpdateTasks(BulkTaskUpdateRequestDto request, UUID performedBy) {
+        List<BulkTaskChangeDto> changes = request.getChanges();
+        if (changes.size() > MAX_BULK_CHANGES) {
+            throw new RuleViolationException("A bulk update may contain at most " + MAX_BULK_CHANGES + " changes");
+        }
+
+        User performer = userCache.reference(performedBy);
+
+        Set<UUID> taskIds = changes.stream()
+                .map(BulkTaskChangeDto::getTaskId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, Task> tasks = taskRepository.findAllWithTagsByIdIn(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        Set<UUID> assigneeIds = changes.stream()
+                .filter(change -> change.getType() == BulkChangeType.ASSIGNEE)
+                .map(BulkTaskChangeDto::getAssignedTo)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, UserSnapshot> assignees = new HashMap<>();
+        for (UUID assigneeId : assigneeIds) {
+            userCache.find(assigneeId).ifPresent(user -> assignees.put(assigneeId, user));
+        }
+
+        List<TaskVersion> versions = new ArrayList<>();
+        List<ActivityEvent> events = new ArrayList<>();
+        List<BulkTaskResultDto> results = new ArrayList<>();
+        TaskCounterDeltas counterDeltas = new TaskCounterDeltas();
+        Set<UUID> unflushed = new HashSet<>();
+
+        for (BulkTaskChangeDto change : changes) {
+            try {
+                Task task = tasks.get(change.getTaskId());
+                if (task == null) {
+                    throw new ResourceNotFoundException("Task not found with id :" + change.getTaskId());
+                }
+                if (unflushed.contains(task.getId())) {
+                    // Each flush bumps a task's version once, so a second change to
+                    // the same task needs the first one written out before it.
+                    taskRepository.flush();
+                    unflushed.clear();
+                }
+                checkVersion(task, change.getExpectedVersion());
+
+                CountedState before = CountedState.of(task);
+                TaskState previous = TaskState.of(task);
+                TaskSnapshot listed = TaskSnapshot.of(task);
+                ActivityType activityType;
+                String details;
+                switch (change.getType()) {
+                    case STATUS -> {
+                        if (change.getStatus() == null) {
+                            throw new RuleViolationException("Status is required");
+                        }
+                        if (!isValidTransition(task.getStatus(), change.getStatus())) {
+                            throw new InvalidStateTransitionException("Invalid status transition from " + task.getStatus() + " to " + change.getStatus());
+                        }
+                        activityType = ActivityType.STATUS_CHANGED;
+                        details = "Status changed from " + task.getStatus() + " to " + change.getStatus();
+                        task.setStatus(change.getStatus());
+                    }
+                    case PRIORITY -> {
+                        if (change.getPriority() == null) {
+                            throw new RuleViolationException("Priority is required");
+                        }
+                        activityType = ActivityType.PRIORITY_CHANGED;
+                        details = "Priority changed from " + task.getPriority() + " to " + change.getPriority();
+                        task.setPriority(change.getPriority());
+                    }
+                    case ASSIGNEE -> {
+                        activityType = ActivityType.ASSIGNEE_CHANGED;
+                        if (change.getAssignedTo() != null) {
+                            UserSnapshot assignee = assignees.get(change.getAssignedTo());
+                            if (assignee == null) {
+                                throw new ResourceNotFoundException("User not found with id: " + change.getAssignedTo());
+                            }
+                            task.setAssignedTo(userCache.reference(assignee.id()));
+                            details = "Task assigned to " + assignee.name();
+                        } else {
+                            task.setAssignedTo(null);
+                            details = "Task unassigned";
+                        }
+                    }
+                    default -> throw new RuleViolationException("Unsupported change type: " + change.getType());
+                }
+
+                touch(task);
+                unflushed.add(task.getId());
+                overdueTracker.trackAfterCommit(task);
+                textIndex.indexAfterCommit(task.getId());
+                taskQueryCache.invalidateAfterCommit(listed, task);
+                int newVersion = task.getVersion() + 1;
+                counterDeltas.changed(before, task);
+                versions.add(taskHistoryCodec.encode(previous, task, newVersion, details));
+                events.add(buildActivityEvent(task.getId(), activityType, performer, details));
+                results.add(new BulkTaskResultDto(task.getId(), true, newVersion, null));
+            } catch (ResourceNotFoundException | InvalidStateTransitionException | RuleViolationException
+                     | PreconditionFailedException ex) {
+                results.add(new BulkTaskResultDto(change.getTaskId(), false, null, ex.getMessage()));
+            }
+        }
+
+        // Surface a concurrent modification before anything is queued for the audit trail.
+        taskRepository.flush();
+        auditSink.recordAll(versions, events);
+        taskCounterService.apply(counterDeltas);
+
+        int succeeded = versions.size();
+        return new BulkTaskUpdateResponseDto(succeeded, results.size() - succeeded, results);
+    }
+
+    /**
+     * Loads a task about to be changed. A caller that sent the version it last saw
+     * gets a {@link PreconditionFailedException} if the task has moved on; a change
+     * committed between this read and our flush fails the versioned UPDATE instead.
+     */
+    private Task loadForUpdate(UUID id, Integer expectedVersion) {
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id :" + id));
+        checkVersion(task, expectedVersion);
+        return task;
+    }
+
+    private void checkVersion(Task task, Integer expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Task " + task.getId() + " is at version "
+                    + task.getVersion() + ", not " + expectedVersion);
+        }
+    }
+
+    /**
+     * Every accepted change produces a new version, even one that sets a field to its
+     * current value, so make sure Hibernate sees the task as dirty.
+     */
+    private void touch(Task task) {
+        task.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private static boolean isPastDue(LocalDate dueDate) {
+        return dueDate != null && dueDate.isBefore(LocalDate.now());
+    }
+
     private boolean isValidTransition(TaskStatus from,TaskStatus to) {
         if(from == to){
             return true;
@@ -220,32 +434,23 @@ public class TaskService {
         return TaskConverter.toTaskRespone(task);
     }
 
-    private void createTaskVersion(Task task, String changeSummary) {
-        TaskVersion version = new TaskVersion();
-        version.setTaskId(task.getId());
-        version.setVersion(task.getVersion());
-        version.setTitle(task.getTitle());
-        version.setDescription(task.getDescription());
-        version.setStatus(task.getStatus());
-        version.setPriority(task.getPriority());
-        version.setCreatedBy(task.getCreatedBy().getId());
-        version.setAssignedTo(task.getAssignedTo() != null ? task.getAssignedTo().getId() : null);
-        version.setDueDate(task.getDueDate());
-        version.setTags(new ArrayList<>(task.getTags()));
-        version.setChangeSummary(changeSummary);
-
-        taskVersionRepository.save(version);
+    private void createTaskVersion(TaskState previous, Task task, String changeSummary) {
+        auditSink.recordTaskVersion(taskHistoryCodec.encode(previous, task, task.getVersion(), changeSummary));
     }
 
     private void createActivityEvent(UUID taskId, ActivityType type,
                                      User performer, String details) {
+        auditSink.recordActivityEvent(buildActivityEvent(taskId, type, performer, details));
+    }
+
+    private ActivityEvent buildActivityEvent(UUID taskId, ActivityType type,
+                                             User performer, String details) {
         ActivityEvent event = new ActivityEvent();
         event.setTaskId(taskId);
         event.setActivityType(type);
         event.setPerformedBy(performer);
         event.setDetails(details);
-
-        activityEventRepository.save(event);
+        return event;
     }
 
 }
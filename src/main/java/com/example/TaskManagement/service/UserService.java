@@ -1,5 +1,7 @@
 package com.example.TaskManagement.service;
 
+import com.example.TaskManagement.cache.TaskQueryCache;
+import com.example.TaskManagement.cache.UserCache;
 import com.example.TaskManagement.converter.UserConverter;
 import com.example.TaskManagement.dto.CreateUserRequestDto;
 import com.example.TaskManagement.dto.UpdateUserRequestDto;
@@ -24,6 +26,8 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final TaskQueryCache taskQueryCache;
 
     @Transactional
     public UserResponseDto createUser(CreateUserRequestDto request){
@@ -80,6 +84,8 @@ public class UserService {
         user.setRole(request.getRole());
 
         User updatedUser = userRepository.save(user);
+        userCache.invalidate(id);
+        taskQueryCache.invalidateUserAfterCommit(id);
         return UserConverter.toUserResponse(updatedUser);
     }
 
@@ -96,5 +102,6 @@ public class UserService {
 
         user.setActive(false);
         userRepository.save(user);
+        userCache.invalidate(id);
     }
 }
@@ -0,0 +1,97 @@
+package com.example.TaskManagement.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps concurrent {@code /api} requests with a fair semaphore. With virtual threads
+ * Tomcat no longer bounds concurrency, so without this every blocked request would
+ * queue on Hikari and time out there instead of being shed early with a 503.
+ *
+ * <p>Only the initial dispatch holds a permit; streamed exports continue on the
+ * async executor after it is released. On platform threads Tomcat's pool already
+ * bounds concurrency, so the filter is only on by default with virtual threads.
+ */
+@Component
+@ConditionalOnExpression("${task.admission.enabled:${spring.threads.virtual.enabled:false}}")
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    public AdmissionControlFilter(AdmissionProperties properties, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(properties.getMaxConcurrentRequests(), true);
+        this.acquireTimeoutNanos = properties.getAcquireTimeout().toNanos();
+        this.objectMapper = objectMapper;
+        this.rejected = Counter.builder("task.admission.rejected")
+                .description("API requests rejected because no permit became free in time")
+                .register(meterRegistry);
+        Gauge.builder("task.admission.in-flight", permits,
+                        semaphore -> properties.getMaxConcurrentRequests() - semaphore.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("task.admission.waiting", permits, Semaphore::getQueueLength)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejected.increment();
+            reject(response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message", "Too many concurrent requests, retry shortly");
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.TaskManagement.web;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "task.admission")
+public class AdmissionProperties {
+
+    /**
+     * Limit concurrent API requests before they reach the connection pool. Unset, it
+     * follows spring.threads.virtual.enabled.
+     */
+    private Boolean enabled;
+
+    /**
+     * Requests allowed in flight at once. Keep it a small multiple of the Hikari
+     * maximum pool size so waiting happens here, not on the pool.
+     */
+    private int maxConcurrentRequests = 40;
+
+    /**
+     * How long a request waits for a permit before it is rejected with 503.
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+}
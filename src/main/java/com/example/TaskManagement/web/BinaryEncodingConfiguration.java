@@ -0,0 +1,37 @@
+package com.example.TaskManagement.web;
+
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+import tools.jackson.dataformat.smile.SmileWriteFeature;
+
+/**
+ * Every JSON response is also available as CBOR ({@code Accept: application/cbor}) or
+ * Smile ({@code Accept: application/x-jackson-smile}); JSON stays the default. Both
+ * write UUIDs as 16 raw bytes rather than 36-character strings. Smile additionally
+ * writes each field name once per response and shares short repeated values such as
+ * statuses and user names. CBOR uses Boot's {@code cborMapper}, so its features are
+ * set with {@code spring.jackson.cbor.write.*}.
+ */
+@Configuration
+public class BinaryEncodingConfiguration {
+
+    @Bean
+    public SmileMapper smileMapper() {
+        return SmileMapper.builder()
+                .enable(SmileWriteFeature.CHECK_SHARED_STRING_VALUES)
+                .build();
+    }
+
+    @Bean
+    public ServerHttpMessageConvertersCustomizer binaryEncodingConverters(CBORMapper cborMapper,
+                                                                          SmileMapper smileMapper) {
+        return builder -> builder
+                .withCborConverter(new JacksonCborHttpMessageConverter(cborMapper))
+                .withSmileConverter(new JacksonSmileHttpMessageConverter(smileMapper));
+    }
+}
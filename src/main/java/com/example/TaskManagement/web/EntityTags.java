@@ -0,0 +1,73 @@
+package com.example.TaskManagement.web;
+
+import com.example.TaskManagement.exception.PreconditionFailedException;
+
+/**
+ * Strong entity tags derived from a task's version, e.g. {@code "7"}. A task's GET
+ * representation also carries its latest comments, so its tag adds the comment count,
+ * e.g. {@code "7.2"}; comments are never edited or removed, so the count fixes which
+ * ones are latest. Responses that carry these tags vary by {@code Accept}.
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    public static String of(int version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String of(int version, int commentCount) {
+        return "\"" + version + "." + commentCount + "\"";
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header already names this version. Uses the weak
+     * comparison the header calls for, and accepts lists and {@code *}.
+     */
+    public static boolean matchesAny(String ifNoneMatch, int version) {
+        return matchesAny(ifNoneMatch, of(version));
+    }
+
+    public static boolean matchesAny(String ifNoneMatch, String current) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.strip();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The version an {@code If-Match} header asks for, or {@code null} when the header is
+     * absent or {@code *}. Strong comparison is required, so a weak or malformed tag can
+     * never match and fails the precondition outright. A GET tag is accepted too; its
+     * comment count is ignored, since a comment does not conflict with an edit.
+     */
+    public static Integer expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.strip();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            String value = tag.substring(1, tag.length() - 1);
+            int dot = value.indexOf('.');
+            try {
+                Integer version = Integer.valueOf(dot < 0 ? value : value.substring(0, dot));
+                if (dot < 0 || Integer.parseInt(value.substring(dot + 1)) >= 0) {
+                    return version;
+                }
+            } catch (NumberFormatException ignored) {
+                // falls through to the rejection below
+            }
+        }
+        throw new PreconditionFailedException("If-Match must be a single strong entity tag such as \"3\"");
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.TaskManagement.web;
+
+import com.example.TaskManagement.datasource.ReadYourWrites;
+import com.example.TaskManagement.datasource.ReplicaProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Keeps a client's reads on the primary for {@code task.datasource.read-your-writes-window}
+ * after it writes, so it never reads a replica that has not caught up with it yet.
+ * A write sets a cookie holding the end of the window, which travels with the client
+ * to whichever instance serves its next request.
+ */
+@Component
+@ConditionalOnProperty(name = "task.datasource.replicas[0].url")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "task-primary-until";
+
+    private final ReplicaProperties properties;
+
+    public ReadYourWritesFilter(ReplicaProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        if (isWrite(request)) {
+            long window = properties.getReadYourWritesWindow().toMillis();
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now + window));
+            cookie.setPath(request.getContextPath() + "/");
+            cookie.setMaxAge((int) Math.max(1, window / 1000));
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+            ReadYourWrites.pinToPrimary();
+        } else if (primaryUntil(request) > now) {
+            ReadYourWrites.pinToPrimary();
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        return method != HttpMethod.GET && method != HttpMethod.HEAD && method != HttpMethod.OPTIONS;
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return 0;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,81 @@
+-- Schema as previously created by spring.jpa.hibernate.ddl-auto=update. Databases that
+-- were created that way are baselined at this version and start from V2.
+
+create table users (
+    id binary(16) not null,
+    name varchar(255) not null,
+    email varchar(255) not null,
+    role enum ('ADMIN','DEVELOPER','MANAGER') not null,
+    active bit not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    primary key (id),
+    constraint uk_users_email unique (email)
+) engine=InnoDB;
+
+create table tasks (
+    id binary(16) not null,
+    version integer not null,
+    title varchar(255) not null,
+    description text not null,
+    status enum ('CANCELLED','COMPLETED','IN_PROGRESS','OPEN') not null,
+    priority enum ('CRITICAL','HIGH','LOW','MEDIUM') not null,
+    created_by binary(16) not null,
+    assigned_to binary(16),
+    due_date date,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    primary key (id),
+    constraint fk_tasks_created_by foreign key (created_by) references users (id),
+    constraint fk_tasks_assigned_to foreign key (assigned_to) references users (id)
+) engine=InnoDB;
+
+create table task_tags (
+    task_id binary(16) not null,
+    tag varchar(255),
+    constraint fk_task_tags_task foreign key (task_id) references tasks (id)
+) engine=InnoDB;
+
+create table comments (
+    id binary(16) not null,
+    task_id binary(16) not null,
+    author_id binary(16) not null,
+    text text not null,
+    timestamp datetime(6) not null,
+    primary key (id),
+    constraint fk_comments_task foreign key (task_id) references tasks (id),
+    constraint fk_comments_author foreign key (author_id) references users (id)
+) engine=InnoDB;
+
+create table task_versions (
+    id binary(16) not null,
+    task_id binary(16) not null,
+    version integer not null,
+    title varchar(255) not null,
+    description text not null,
+    status enum ('CANCELLED','COMPLETED','IN_PROGRESS','OPEN') not null,
+    priority enum ('CRITICAL','HIGH','LOW','MEDIUM') not null,
+    created_by binary(16) not null,
+    assigned_to binary(16),
+    due_date date,
+    change_summary text,
+    versioned_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table task_version_tags (
+    version_id binary(16) not null,
+    tag varchar(255),
+    constraint fk_task_version_tags_version foreign key (version_id) references task_versions (id)
+) engine=InnoDB;
+
+create table activity_events (
+    id binary(16) not null,
+    task_id binary(16) not null,
+    activity_type enum ('ASSIGNEE_CHANGED','COMMENT_ADDED','DUE_DATE_CHANGED','PRIORITY_CHANGED','STATUS_CHANGED','TASK_CREATED','TASK_UPDATED') not null,
+    performed_by binary(16) not null,
+    timestamp datetime(6) not null,
+    details text,
+    primary key (id),
+    constraint fk_activity_events_performed_by foreign key (performed_by) references users (id)
+) engine=InnoDB;
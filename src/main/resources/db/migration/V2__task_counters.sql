@@ -0,0 +1,8 @@
+-- Running task counts behind /api/tasks/count/*, maintained in the same transaction
+-- as each task change. See TaskCounterService.
+
+create table task_counters (
+    counter_key varchar(64) not null,
+    task_count bigint not null,
+    primary key (counter_key)
+) engine=InnoDB;
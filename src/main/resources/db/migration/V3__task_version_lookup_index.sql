@@ -0,0 +1,3 @@
+-- History reads and the history ETag look up a task's versions by (task_id, version).
+
+create index idx_task_versions_task_version on task_versions (task_id, version);
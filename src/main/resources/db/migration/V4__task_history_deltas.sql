@@ -0,0 +1,7 @@
+-- Task history is stored as deltas with a full snapshot every N versions. Delta rows
+-- carry the bit mask of the fields they hold and leave the others empty, including
+-- the title and description. See TaskHistoryCodec.
+
+alter table task_versions modify column title varchar(255) null;
+alter table task_versions modify column description text null;
+alter table task_versions add column delta_fields integer;
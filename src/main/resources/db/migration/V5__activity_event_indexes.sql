@@ -0,0 +1,6 @@
+-- Activity feeds by task and by performer, and retention by month, read activity
+-- events newest first a keyset page at a time.
+
+create index idx_activity_events_task_time on activity_events (task_id, timestamp, id);
+create index idx_activity_events_performer_time on activity_events (performed_by, timestamp, id);
+create index idx_activity_events_time on activity_events (timestamp, id);
@@ -0,0 +1,8 @@
+-- Tasks carry their comment count instead of loading their comments, and threads are
+-- paged by (task_id, timestamp, id).
+
+alter table tasks add column comment_count integer not null default 0;
+
+update tasks set comment_count = (select count(*) from comments c where c.task_id = tasks.id);
+
+create index idx_comments_task_time on comments (task_id, timestamp, id);
@@ -0,0 +1,33 @@
+-- One index per hot task listing in TaskSearchService / TaskRepository, each ending in
+-- the columns of the listing's TaskSort so a page is an index range read with no
+-- filesort. Sorts are (..., id ASC), hence the descending key parts.
+
+-- by-status, exports by status
+create index idx_tasks_status_created on tasks (status, created_at desc, id);
+
+-- by-priority, PRIORITY_DESC
+create index idx_tasks_priority_created on tasks (priority desc, created_at desc, id);
+
+-- assigned-to, high-priority-for (priority is checked on the index rows)
+create index idx_tasks_assignee_created on tasks (assigned_to, created_at desc, id);
+
+-- open / in-progress for a user
+create index idx_tasks_assignee_status_created on tasks (assigned_to, status, created_at desc, id);
+
+-- created-by
+create index idx_tasks_creator_created on tasks (created_by, created_at desc, id);
+
+-- CREATED_AT_DESC, by-date-range, tag index refresh
+create index idx_tasks_created on tasks (created_at desc, id);
+
+-- UPDATED_AT_DESC, updatedFrom/updatedTo
+create index idx_tasks_updated on tasks (updated_at desc, id);
+
+-- DUE_DATE_ASC, overdue, dueFrom/dueTo
+create index idx_tasks_due on tasks (due_date, priority desc, id);
+
+-- STATUS_AND_PRIORITY, STATUS_ASC, urgent-open
+create index idx_tasks_status_priority_due on tasks (status, priority desc, due_date, id);
+
+-- tag filters that fall back to SQL
+create index idx_task_tags_tag on task_tags (tag, task_id);
@@ -0,0 +1,11 @@
+-- OverdueTracker stamps tasks when they pass their due date and records an OVERDUE
+-- activity event with no performer.
+
+alter table tasks add column overdue_since datetime(6);
+
+-- OVERDUE is appended rather than kept alphabetical: adding a value at the end of an
+-- enum is a metadata-only change on MySQL.
+alter table activity_events modify column activity_type
+    enum ('ASSIGNEE_CHANGED','COMMENT_ADDED','DUE_DATE_CHANGED','PRIORITY_CHANGED','STATUS_CHANGED','TASK_CREATED','TASK_UPDATED','OVERDUE') not null;
+
+alter table activity_events modify column performed_by binary(16) null;
@@ -0,0 +1,11 @@
+-- Named leases that let one instance at a time run a scheduled maintenance job.
+-- See MaintenanceLease.
+
+create table maintenance_leases (
+    name varchar(64) not null,
+    holder varchar(64),
+    expires_at datetime(6),
+    primary key (name)
+) engine=InnoDB;
+
+insert into maintenance_leases (name) values ('activity-maintenance');
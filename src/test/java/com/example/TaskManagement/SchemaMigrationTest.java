@@ -0,0 +1,89 @@
+package com.example.TaskManagement;
+
+import com.example.TaskManagement.dto.TaskResponseDto;
+import com.example.TaskManagement.service.TaskCounterChecker;
+import com.example.TaskManagement.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Upgrades a database created by the old {@code ddl-auto=update}, which Flyway
+ * baselines at V1, and starts the application against it. Later migrations fill the
+ * columns and tables they add from the existing rows.
+ */
+class SchemaMigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:PreSeriesDB;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Test
+    void databaseCreatedBeforeFlywayIsMigratedAndValidated() {
+        JdbcTemplate jdbc = new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""));
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql"))
+                .execute(jdbc.getDataSource());
+
+        UUID user = UUID.randomUUID();
+        UUID task = UUID.randomUUID();
+        jdbc.update("INSERT INTO users (id, name, email, role, active, created_at, updated_at) " +
+                "VALUES (?, 'Existing', 'existing@example.com', 'DEVELOPER', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                bytes(user));
+        jdbc.update("INSERT INTO tasks (id, version, title, description, status, priority, created_by, " +
+                "assigned_to, due_date, created_at, updated_at) " +
+                "VALUES (?, 1, 'Existing task', 'Created before Flyway', 'OPEN', 'HIGH', ?, ?, DATE '2030-01-01', " +
+                "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                bytes(task), bytes(user), bytes(user));
+        for (int i = 0; i < 2; i++) {
+            jdbc.update("INSERT INTO comments (id, task_id, author_id, text, timestamp) " +
+                    "VALUES (?, ?, ?, 'Comment', CURRENT_TIMESTAMP)",
+                    bytes(UUID.randomUUID()), bytes(task), bytes(user));
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                // The Flyway settings of the main application.properties, which the test one replaces
+                .run("--spring.datasource.url=" + URL,
+                        "--spring.flyway.baseline-on-migrate=true",
+                        "--spring.flyway.baseline-version=1",
+                        "--task.text-index.enabled=false")) {
+            assertEquals("1", jdbc.queryForObject(
+                    "SELECT version FROM flyway_schema_history WHERE type = 'BASELINE'", String.class));
+
+            TaskResponseDto loaded = context.getBean(TaskService.class).getTaskById(task);
+            assertEquals("Existing task", loaded.getTitle());
+            assertEquals(2, loaded.getCommentCount());
+
+            assertEquals(Map.of(
+                    "status:OPEN", 1L,
+                    "assignee:" + user, 1L,
+                    "open-due:2030-01-01", 1L), counters(jdbc));
+            assertEquals(List.of(), context.getBean(TaskCounterChecker.class).findDrift());
+        }
+    }
+
+    private static Map<String, Long> counters(JdbcTemplate jdbc) {
+        Map<String, Long> counters = new HashMap<>();
+        jdbc.query("SELECT counter_key, task_count FROM task_counters",
+                row -> { counters.put(row.getString(1), row.getLong(2)); });
+        return counters;
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
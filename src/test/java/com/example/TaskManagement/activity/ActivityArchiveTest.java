@@ -0,0 +1,91 @@
+package com.example.TaskManagement.activity;
+
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.enums.ActivityType;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.model.ActivityEvent;
+import com.example.TaskManagement.pagination.ActivityCursor;
+import com.example.TaskManagement.repository.ActivityEventRepository;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "task.activity.archive-path=target/activity-archive-test")
+class ActivityArchiveTest {
+
+    // Ordered the other way round by UUID.compareTo, which compares signed halves.
+    private static final UUID LOW = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+    private static final UUID HIGH = UUID.fromString("80000000-0000-0000-0000-000000000000");
+
+    @Autowired
+    private ActivityArchive activityArchive;
+
+    @Autowired
+    private ActivityEventRepository activityEventRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void tiesAreOrderedByIdAsStored() {
+        UUID task = UUID.randomUUID();
+        LocalDateTime at = LocalDateTime.of(2021, 3, 4, 5, 6, 7);
+        activityArchive.write(YearMonth.of(2021, 3), Stream.of(event(LOW, task, at), event(HIGH, task, at)));
+
+        List<ArchivedActivityEvent> read = activityArchive.read(YearMonth.of(2021, 3), task);
+
+        assertEquals(List.of(HIGH, LOW), read.stream().map(ArchivedActivityEvent::id).toList());
+        ActivityCursor afterHigh = new ActivityCursor(at, HIGH);
+        assertTrue(afterHigh.isBefore(at, LOW));
+        assertFalse(new ActivityCursor(at, LOW).isBefore(at, HIGH));
+    }
+
+    @Test
+    @Transactional
+    void monthsBeforeTheTaskWasCreatedAreNotRead() {
+        UUID user = userService.createUser(new CreateUserRequestDto(
+                "Archived", "archived-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+        UUID task = taskService.createTask(new CreateTaskRequestDto(
+                "Archived", "Archived task", user, null, Priority.LOW, null, List.of())).getId();
+        YearMonth created = YearMonth.now();
+        UUID inCreationMonth = UUID.randomUUID();
+        UUID beforeCreation = UUID.randomUUID();
+        activityArchive.write(created, Stream.of(event(inCreationMonth, task, created.atDay(1).atStartOfDay())));
+        activityArchive.write(created.minusMonths(1),
+                Stream.of(event(beforeCreation, task, created.minusMonths(1).atDay(1).atStartOfDay())));
+
+        List<UUID> ids = activityEventRepository.findByTaskIdOrderByTimestampDesc(task).stream()
+                .map(ActivityEvent::getId)
+                .toList();
+        List<UUID> page = activityEventRepository.findFeedPage(task, null, null, null, 50).stream()
+                .map(ActivityEvent::getId)
+                .toList();
+
+        assertTrue(ids.contains(inCreationMonth));
+        assertFalse(ids.contains(beforeCreation));
+        assertTrue(page.contains(inCreationMonth));
+        assertFalse(page.contains(beforeCreation));
+    }
+
+    private static ArchivedActivityEvent event(UUID id, UUID task, LocalDateTime at) {
+        return new ArchivedActivityEvent(id, task, ActivityType.TASK_UPDATED, null, at, "archived");
+    }
+}
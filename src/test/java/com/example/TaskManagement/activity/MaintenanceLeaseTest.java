@@ -0,0 +1,62 @@
+package com.example.TaskManagement.activity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class MaintenanceLeaseTest {
+
+    private static final String LEASE = "lease-test";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void removeLease() {
+        jdbcTemplate.update("DELETE FROM maintenance_leases WHERE name = ?", LEASE);
+    }
+
+    @Test
+    void oneInstanceHoldsTheLeaseUntilItIsReleased() {
+        jdbcTemplate.update("INSERT INTO maintenance_leases (name) VALUES (?)", LEASE);
+        MaintenanceLease first = new MaintenanceLease(jdbcTemplate);
+        MaintenanceLease second = new MaintenanceLease(jdbcTemplate);
+
+        assertTrue(first.tryAcquire(LEASE, Duration.ofMinutes(5)));
+        assertFalse(second.tryAcquire(LEASE, Duration.ofMinutes(5)));
+        assertTrue(first.tryAcquire(LEASE, Duration.ofMinutes(5)), "the holder can renew");
+
+        second.release(LEASE);
+        assertFalse(second.tryAcquire(LEASE, Duration.ofMinutes(5)), "only the holder can release");
+
+        first.release(LEASE);
+        assertTrue(second.tryAcquire(LEASE, Duration.ofMinutes(5)));
+    }
+
+    @Test
+    void anExpiredLeaseCanBeTakenOver() {
+        jdbcTemplate.update("INSERT INTO maintenance_leases (name) VALUES (?)", LEASE);
+        MaintenanceLease crashed = new MaintenanceLease(jdbcTemplate);
+        MaintenanceLease survivor = new MaintenanceLease(jdbcTemplate);
+
+        assertTrue(crashed.tryAcquire(LEASE, Duration.ofSeconds(-1)));
+
+        assertTrue(survivor.tryAcquire(LEASE, Duration.ofMinutes(5)));
+        assertFalse(crashed.tryAcquire(LEASE, Duration.ofMinutes(5)));
+    }
+
+    @Test
+    void activityMaintenanceHasALease() {
+        MaintenanceLease lease = new MaintenanceLease(jdbcTemplate);
+        assertTrue(lease.tryAcquire(ActivityArchiver.LEASE, Duration.ofMinutes(5)));
+        lease.release(ActivityArchiver.LEASE);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.TaskManagement.audit;
+
+import com.example.TaskManagement.enums.ActivityType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class AuditJournalTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void recoveredEntriesSkipAbortedBatchesAndTornLines() throws Exception {
+        AuditJournal journal = new AuditJournal(directory, 1024 * 1024, false, objectMapper);
+        UUID committed = UUID.randomUUID();
+        UUID rolledBack = UUID.randomUUID();
+        journal.append(committed, List.of(entry("first"), entry("second")));
+        long segment = journal.append(rolledBack, List.of(entry("rolled back")));
+        journal.abort(rolledBack, segment, 1);
+        journal.close();
+        Files.writeString(journal.segments().getLast(), "{\"batch\":\"", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        AuditJournal reopened = new AuditJournal(directory, 1024 * 1024, false, objectMapper);
+
+        assertEquals(List.of("first", "second"), reopened.readRecovered().stream().map(AuditEntry::getDetails).toList());
+        reopened.deleteRecovered();
+        reopened.close();
+        assertEquals(List.of(), reopened.segments());
+    }
+
+    @Test
+    void segmentsAreDeletedOnceTheyAreSealedAndReleased() {
+        AuditJournal journal = new AuditJournal(directory, 1, false, objectMapper);
+        long first = journal.append(UUID.randomUUID(), List.of(entry("a"), entry("b")));
+        long second = journal.append(UUID.randomUUID(), List.of(entry("c")));
+        long third = journal.append(UUID.randomUUID(), List.of(entry("d")));
+        assertNotEquals(first, second);
+        assertEquals(3, journal.segments().size());
+
+        journal.release(second, 1);
+        journal.release(first, 1);
+        assertEquals(2, journal.segments().size());
+
+        journal.release(first, 1);
+        journal.release(third, 1);
+        assertEquals(1, journal.segments().size(), "the segment being appended to is kept");
+
+        journal.close();
+        assertEquals(List.of(), journal.segments());
+    }
+
+    @Test
+    void closingKeepsSegmentsWithUnwrittenEntries() {
+        AuditJournal journal = new AuditJournal(directory, 1024 * 1024, false, objectMapper);
+        journal.append(UUID.randomUUID(), List.of(entry("unwritten")));
+        journal.close();
+
+        AuditJournal reopened = new AuditJournal(directory, 1024 * 1024, false, objectMapper);
+        assertEquals(List.of("unwritten"), reopened.readRecovered().stream().map(AuditEntry::getDetails).toList());
+        reopened.close();
+    }
+
+    private static AuditEntry entry(String details) {
+        return new AuditEntry(null, UUID.randomUUID(), ActivityType.TASK_UPDATED, null, LocalDateTime.now(), details);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.TaskManagement.audit;
+
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.enums.ActivityType;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.model.ActivityEvent;
+import com.example.TaskManagement.model.TaskVersion;
+import com.example.TaskManagement.model.User;
+import com.example.TaskManagement.repository.TaskVersionRepository;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "task.audit.write-behind.enabled=true",
+        "task.audit.write-behind.journal-directory=target/audit-journal-test",
+        "task.audit.write-behind.segment-size=1KB",
+        "task.audit.write-behind.fsync=false"
+})
+class WriteBehindAuditSinkTest {
+
+    @Autowired
+    private WriteBehindAuditSink auditSink;
+
+    @Autowired
+    private AuditEntryWriter writer;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskVersionRepository taskVersionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void committedEntriesAreWrittenAndRolledBackOnesAreNot() throws Exception {
+        UUID user = createUser();
+        UUID task = createTask(user);
+        String rolledBack = "rolled back " + UUID.randomUUID();
+        String committed = "committed " + UUID.randomUUID();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            auditSink.recordActivityEvent(event(task, user, rolledBack));
+            status.setRollbackOnly();
+        });
+        for (int i = 0; i < 5; i++) {
+            transactionTemplate.executeWithoutResult(status -> auditSink.recordActivityEvent(event(task, user, committed)));
+        }
+
+        await(() -> countEvents(committed) == 5);
+        assertEquals(0, countEvents(rolledBack));
+        await(() -> segments(Path.of("target", "audit-journal-test")).size() == 1);
+    }
+
+    @Test
+    void replayWritesRecoveredEntriesOnceAndSkipsAbortedBatches(@TempDir Path directory) throws Exception {
+        UUID user = createUser();
+        UUID task = createTask(user);
+        await(() -> taskVersionRepository.existsByTaskIdAndVersion(task, 1));
+        String replayed = "replayed " + UUID.randomUUID();
+        String aborted = "aborted " + UUID.randomUUID();
+        TaskVersion duplicate = new TaskVersion(null, task, 1, "duplicate " + UUID.randomUUID(), null,
+                TaskStatus.OPEN, Priority.LOW, user, null, null, new ArrayList<>(),
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS), null, null);
+
+        AuditEntry recovered = AuditEntry.of(event(task, user, replayed));
+        AuditEntry rolledBackEntry = AuditEntry.of(event(task, user, aborted));
+
+        for (int run = 0; run < 2; run++) {
+            AuditJournal crashed = new AuditJournal(directory, 1024 * 1024, false, objectMapper);
+            crashed.append(UUID.randomUUID(), List.of(AuditEntry.of(duplicate), recovered));
+            UUID rolledBack = UUID.randomUUID();
+            long segment = crashed.append(rolledBack, List.of(rolledBackEntry));
+            crashed.abort(rolledBack, segment, 1);
+            crashed.close();
+
+            WriteBehindProperties properties = new WriteBehindProperties();
+            properties.setJournalDirectory(directory);
+            properties.setFsync(false);
+            WriteBehindAuditSink restarted = new WriteBehindAuditSink(properties, writer, objectMapper, new SimpleMeterRegistry());
+            restarted.start();
+            restarted.stop();
+
+            assertEquals(List.of(), segments(directory));
+        }
+
+        assertEquals(1, countEvents(replayed));
+        assertEquals(0, countEvents(aborted));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM task_versions WHERE title = ?", Integer.class, duplicate.getTitle()));
+    }
+
+    private ActivityEvent event(UUID task, UUID user, String details) {
+        ActivityEvent event = new ActivityEvent();
+        event.setTaskId(task);
+        event.setActivityType(ActivityType.TASK_UPDATED);
+        User performer = new User();
+        performer.setId(user);
+        event.setPerformedBy(performer);
+        event.setTimestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        event.setDetails(details);
+        return event;
+    }
+
+    private int countEvents(String details) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM activity_events WHERE details = ?", Integer.class, details);
+    }
+
+    private static List<Path> segments(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private UUID createUser() {
+        return userService.createUser(new CreateUserRequestDto(
+                "Audited", "audited-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+    }
+
+    private UUID createTask(UUID user) {
+        return taskService.createTask(new CreateTaskRequestDto(
+                "Audited", "Audited task", user, null, Priority.LOW, null, List.of())).getId();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out waiting for the audit writer");
+            Thread.sleep(20);
+        }
+    }
+}
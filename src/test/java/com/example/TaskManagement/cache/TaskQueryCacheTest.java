@@ -0,0 +1,84 @@
+package com.example.TaskManagement.cache;
+
+import com.example.TaskManagement.dto.AddCommentRequestDto;
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.dto.UpdateTaskPriorityRequestDto;
+import com.example.TaskManagement.dto.UpdateTaskStatusRequestDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskQueryCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void pagesAreServedFromCacheUntilACommittedChangeAffectsThem() throws Exception {
+        UUID user = createUser("assignee");
+        UUID otherUser = createUser("other");
+        UUID taskId = createTask(user);
+        UUID otherTaskId = createTask(otherUser);
+
+        mockMvc.perform(get("/api/tasks/search/open").param("userId", user.toString()))
+                .andExpect(jsonPath("$.items.length()").value(1));
+        double hits = hits();
+
+        taskService.updateTaskPriority(otherTaskId, new UpdateTaskPriorityRequestDto(Priority.LOW), otherUser, null);
+        mockMvc.perform(get("/api/tasks/search/open").param("userId", user.toString()))
+                .andExpect(jsonPath("$.items.length()").value(1));
+        assertEquals(hits + 1, hits());
+
+        taskService.updateTaskStatus(taskId, new UpdateTaskStatusRequestDto(TaskStatus.IN_PROGRESS), user, null);
+        mockMvc.perform(get("/api/tasks/search/open").param("userId", user.toString()))
+                .andExpect(jsonPath("$.items.length()").value(0));
+        mockMvc.perform(get("/api/tasks/search/in-progress").param("userId", user.toString()))
+                .andExpect(jsonPath("$.items[0].commentCount").value(0));
+
+        taskService.addComment(taskId, new AddCommentRequestDto(user, "Started"));
+        mockMvc.perform(get("/api/tasks/search/in-progress").param("userId", user.toString()))
+                .andExpect(jsonPath("$.items[0].commentCount").value(1));
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets").tag("cache", "task-queries").tag("result", "hit")
+                .functionCounter().count();
+    }
+
+    private UUID createUser(String name) {
+        return userService.createUser(new CreateUserRequestDto(
+                name, name + "-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+    }
+
+    private UUID createTask(UUID assignee) {
+        return taskService.createTask(new CreateTaskRequestDto(
+                "Cached", "Listed by assignee", assignee, assignee, Priority.HIGH, null, List.of())).getId();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.TaskManagement.cache;
+
+import com.example.TaskManagement.dto.AddCommentRequestDto;
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.dto.UpdateUserRequestDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class UserCacheTest {
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private UUID user;
+
+    @BeforeEach
+    void createUser() {
+        user = userService.createUser(new CreateUserRequestDto(
+                "Before", "cached-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+    }
+
+    @Test
+    void renameReachesTaskResponses() throws Exception {
+        UUID task = taskService.createTask(new CreateTaskRequestDto(
+                "Cached", "Cached task", user, user, Priority.LOW, null, List.of())).getId();
+        taskService.addComment(task, new AddCommentRequestDto(user, "Noted"));
+        mockMvc.perform(get("/api/tasks/{id}", task))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdBy.name").value("Before"))
+                .andExpect(jsonPath("$.latestComments[0].author.name").value("Before"));
+        assertEquals("Before", userCache.require(user).name());
+
+        userService.updateUser(user, new UpdateUserRequestDto("After", Role.MANAGER));
+
+        mockMvc.perform(get("/api/tasks/{id}", task))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdBy.name").value("After"))
+                .andExpect(jsonPath("$.createdBy.role").value("MANAGER"))
+                .andExpect(jsonPath("$.assignedTo.name").value("After"))
+                .andExpect(jsonPath("$.latestComments[0].author.name").value("After"));
+    }
+
+    @Test
+    void softDeleteIsSeenOnTheNextLookup() {
+        assertTrue(userCache.require(user).active());
+
+        userService.deleteUser(user);
+
+        assertFalse(userCache.require(user).active());
+    }
+
+    @Test
+    void hitsAndMissesAreCounted() {
+        userCache.invalidate(user);
+        double hits = gets("hit");
+        double misses = gets("miss");
+
+        userCache.find(user);
+        assertEquals(misses + 1, gets("miss"));
+        assertEquals(hits, gets("hit"));
+
+        userCache.find(user);
+        userCache.find(user);
+        assertEquals(misses + 1, gets("miss"));
+        assertEquals(hits + 2, gets("hit"));
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "users")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
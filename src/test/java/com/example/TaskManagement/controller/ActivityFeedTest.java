@@ -0,0 +1,128 @@
+package com.example.TaskManagement.controller;
+
+import com.example.TaskManagement.dto.AddCommentRequestDto;
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.dto.UpdateTaskPriorityRequestDto;
+import com.example.TaskManagement.dto.UpdateTaskStatusRequestDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ActivityFeedTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    private UUID owner;
+    private UUID reviewer;
+    private UUID task;
+
+    @BeforeEach
+    void createActivity() {
+        owner = createUser("Owner");
+        reviewer = createUser("Reviewer");
+        task = taskService.createTask(new CreateTaskRequestDto(
+                "Watched", "Task with activity", owner, null, Priority.LOW, null, List.of())).getId();
+        taskService.updateTaskStatus(task, new UpdateTaskStatusRequestDto(TaskStatus.IN_PROGRESS), owner, null);
+        taskService.updateTaskPriority(task, new UpdateTaskPriorityRequestDto(Priority.HIGH), reviewer, null);
+        taskService.addComment(task, new AddCommentRequestDto(reviewer, "Looks urgent"));
+        taskService.updateTaskStatus(task, new UpdateTaskStatusRequestDto(TaskStatus.COMPLETED), owner, null);
+    }
+
+    @Test
+    void taskFeedIsNewestFirstAndPagesWithoutGaps() throws Exception {
+        JsonNode page = feed("/api/tasks/" + task + "/activity?limit=50");
+        assertEquals(List.of("STATUS_CHANGED", "COMMENT_ADDED", "PRIORITY_CHANGED", "STATUS_CHANGED", "TASK_CREATED"),
+                types(page));
+        assertTrue(page.get("nextCursor").isNull());
+        assertEquals(reviewer.toString(), page.get("items").get(1).get("performedBy").get("id").asString());
+        assertEquals("Reviewer", page.get("items").get(1).get("performedBy").get("name").asString());
+
+        List<String> paged = new ArrayList<>();
+        HashSet<String> ids = new HashSet<>();
+        String cursor = null;
+        do {
+            JsonNode next = feed("/api/tasks/" + task + "/activity?limit=2" + (cursor != null ? "&cursor=" + cursor : ""));
+            assertTrue(next.get("items").size() <= 2);
+            next.get("items").forEach(item -> ids.add(item.get("id").asString()));
+            paged.addAll(types(next));
+            cursor = next.get("nextCursor").isNull() ? null : next.get("nextCursor").asString();
+        } while (cursor != null);
+        assertEquals(types(page), paged);
+        assertEquals(5, ids.size());
+    }
+
+    @Test
+    void taskFeedFiltersByTypeAndPerformer() throws Exception {
+        assertEquals(List.of("STATUS_CHANGED", "STATUS_CHANGED"),
+                types(feed("/api/tasks/" + task + "/activity?types=STATUS_CHANGED")));
+        assertEquals(List.of("STATUS_CHANGED", "COMMENT_ADDED", "STATUS_CHANGED"),
+                types(feed("/api/tasks/" + task + "/activity?types=STATUS_CHANGED,COMMENT_ADDED")));
+        assertEquals(List.of("COMMENT_ADDED", "PRIORITY_CHANGED"),
+                types(feed("/api/tasks/" + task + "/activity?performedBy=" + reviewer)));
+    }
+
+    @Test
+    void globalFeedFiltersByTaskAndPerformer() throws Exception {
+        JsonNode byReviewer = feed("/api/activity?performedBy=" + reviewer);
+        assertEquals(List.of("COMMENT_ADDED", "PRIORITY_CHANGED"), types(byReviewer));
+        byReviewer.get("items").forEach(item -> assertEquals(task.toString(), item.get("taskId").asString()));
+
+        assertEquals(List.of("PRIORITY_CHANGED"),
+                types(feed("/api/activity?taskId=" + task + "&types=PRIORITY_CHANGED")));
+    }
+
+    @Test
+    void unknownTaskIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}/activity", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode feed(String path) throws Exception {
+        String body = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<String> types(JsonNode page) {
+        return page.get("items").valueStream().map(item -> item.get("activityType").asString()).toList();
+    }
+
+    private UUID createUser(String name) {
+        return userService.createUser(new CreateUserRequestDto(
+                name, "activity-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+    }
+}
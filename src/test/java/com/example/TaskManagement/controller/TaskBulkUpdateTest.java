@@ -0,0 +1,139 @@
+package com.example.TaskManagement.controller;
+
+import com.example.TaskManagement.dto.BulkTaskChangeDto;
+import com.example.TaskManagement.dto.BulkTaskUpdateRequestDto;
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.dto.TaskResponseDto;
+import com.example.TaskManagement.enums.BulkChangeType;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskBulkUpdateTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    private UUID user;
+
+    @BeforeEach
+    void createUser() {
+        user = userService.createUser(new CreateUserRequestDto(
+                "Bulk", "bulk-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+    }
+
+    @Test
+    void failedChangesAreReportedWhileTheRestCommit() throws Exception {
+        UUID started = createTask();
+        UUID invalid = createTask();
+        UUID stale = createTask();
+        UUID unassignable = createTask();
+        UUID missing = UUID.randomUUID();
+
+        bulk(List.of(
+                statusChange(started, TaskStatus.IN_PROGRESS, null),
+                statusChange(invalid, TaskStatus.COMPLETED, null),
+                new BulkTaskChangeDto(stale, BulkChangeType.PRIORITY, null, null, Priority.HIGH, 5),
+                statusChange(missing, TaskStatus.IN_PROGRESS, null),
+                new BulkTaskChangeDto(unassignable, BulkChangeType.ASSIGNEE, null, UUID.randomUUID(), null, null),
+                statusChange(started, TaskStatus.COMPLETED, 2)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(4))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[0].version").value(2))
+                .andExpect(jsonPath("$.results[1].success").value(false))
+                .andExpect(jsonPath("$.results[1].error").value("Invalid status transition from OPEN to COMPLETED"))
+                .andExpect(jsonPath("$.results[2].success").value(false))
+                .andExpect(jsonPath("$.results[2].error").value("Task " + stale + " is at version 1, not 5"))
+                .andExpect(jsonPath("$.results[3].taskId").value(missing.toString()))
+                .andExpect(jsonPath("$.results[3].error").value("Task not found with id :" + missing))
+                .andExpect(jsonPath("$.results[4].success").value(false))
+                .andExpect(jsonPath("$.results[5].success").value(true))
+                .andExpect(jsonPath("$.results[5].version").value(3));
+
+        TaskResponseDto done = taskService.getTaskById(started);
+        assertEquals(TaskStatus.COMPLETED, done.getStatus());
+        assertEquals(3, done.getVersion());
+        assertEquals(TaskStatus.OPEN, taskService.getTaskById(invalid).getStatus());
+        assertEquals(Priority.MEDIUM, taskService.getTaskById(stale).getPriority());
+        assertEquals(1, taskService.getTaskById(stale).getVersion());
+        assertNull(taskService.getTaskById(unassignable).getAssignedTo());
+    }
+
+    @Test
+    void matchingExpectedVersionIsApplied() throws Exception {
+        UUID task = createTask();
+
+        bulk(List.of(new BulkTaskChangeDto(task, BulkChangeType.ASSIGNEE, null, user, null, 1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].version").value(2));
+
+        assertEquals(user, taskService.getTaskById(task).getAssignedTo().getId());
+    }
+
+    @Test
+    void oversizedBatchIsRejected() throws Exception {
+        UUID task = createTask();
+        List<BulkTaskChangeDto> changes = new ArrayList<>();
+        for (int i = 0; i < 1001; i++) {
+            changes.add(new BulkTaskChangeDto(task, BulkChangeType.PRIORITY, null, null, Priority.LOW, null));
+        }
+
+        bulk(changes)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("A bulk update may contain at most 1000 changes"));
+
+        assertEquals(1, taskService.getTaskById(task).getVersion());
+    }
+
+    private ResultActions bulk(List<BulkTaskChangeDto> changes) throws Exception {
+        return mockMvc.perform(patch("/api/tasks/bulk")
+                .param("performedBy", user.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkTaskUpdateRequestDto(changes))));
+    }
+
+    private static BulkTaskChangeDto statusChange(UUID task, TaskStatus status, Integer expectedVersion) {
+        return new BulkTaskChangeDto(task, BulkChangeType.STATUS, status, null, null, expectedVersion);
+    }
+
+    private UUID createTask() {
+        return taskService.createTask(new CreateTaskRequestDto(
+                "Bulk", "Bulk task", user, null, Priority.MEDIUM, null, List.of())).getId();
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.TaskManagement.controller;
+
+import com.example.TaskManagement.dto.AddCommentRequestDto;
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A task response carries its comment count and its three newest comments; the full
+ * thread is paged separately.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskCommentsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    private UUID author;
+    private UUID task;
+
+    @BeforeEach
+    void createTask() {
+        author = userService.createUser(new CreateUserRequestDto(
+                "Commenter", "commenter-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+        task = taskService.createTask(new CreateTaskRequestDto(
+                "Discussed", "Task with comments", author, null, Priority.LOW, null, List.of())).getId();
+    }
+
+    @Test
+    void taskCarriesCountAndNewestComments() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}", task))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentCount").value(0))
+                .andExpect(jsonPath("$.latestComments").isEmpty());
+
+        for (int i = 1; i <= 5; i++) {
+            comment("Comment " + i);
+        }
+
+        mockMvc.perform(get("/api/tasks/{id}", task))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentCount").value(5))
+                .andExpect(jsonPath("$.latestComments.length()").value(3))
+                .andExpect(jsonPath("$.latestComments[0].text").value("Comment 5"))
+                .andExpect(jsonPath("$.latestComments[2].text").value("Comment 3"))
+                .andExpect(jsonPath("$.latestComments[0].author.id").value(author.toString()))
+                .andExpect(jsonPath("$.latestComments[0].author.name").value("Commenter"));
+    }
+
+    @Test
+    void commentsArePagedNewestFirst() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            comment("Comment " + i);
+        }
+
+        List<String> texts = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            String query = "/api/tasks/" + task + "/comments?limit=2" + (cursor != null ? "&cursor=" + cursor : "");
+            JsonNode page = objectMapper.readTree(mockMvc.perform(get(query))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            assertEquals(2, page.get("limit").asInt());
+            assertTrue(page.get("items").size() <= 2);
+            page.get("items").forEach(item -> texts.add(item.get("text").asString()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asString();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(List.of("Comment 5", "Comment 4", "Comment 3", "Comment 2", "Comment 1"), texts);
+    }
+
+    @Test
+    void unknownTaskHasNoComments() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}/comments", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    private void comment(String text) throws Exception {
+        mockMvc.perform(post("/api/tasks/{id}/comments", task)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddCommentRequestDto(author, text))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.text").value(text))
+                .andExpect(jsonPath("$.author.id").value(author.toString()));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.TaskManagement.controller;
+
+import com.example.TaskManagement.cache.UserCache;
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskConcurrencyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoSpyBean
+    private UserCache userCache;
+
+    private UUID user;
+    private UUID task;
+
+    @BeforeEach
+    void createTask() {
+        user = userService.createUser(new CreateUserRequestDto(
+                "Racer", "racer-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+        task = taskService.createTask(new CreateTaskRequestDto(
+                "Contended", "Contended task", user, null, Priority.MEDIUM, null, List.of())).getId();
+    }
+
+    @Test
+    void staleIfMatchIsRejectedWith412() throws Exception {
+        mockMvc.perform(updateStatus(TaskStatus.IN_PROGRESS).header(HttpHeaders.IF_MATCH, "\"1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+
+        mockMvc.perform(updateStatus(TaskStatus.COMPLETED).header(HttpHeaders.IF_MATCH, "\"1\""))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+
+        mockMvc.perform(updateStatus(TaskStatus.COMPLETED).header(HttpHeaders.IF_MATCH, "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
+
+    @Test
+    void concurrentUpdateIsRejectedWith409() throws Exception {
+        // Both requests have loaded version 1 before either flushes, so one of them must lose.
+        CyclicBarrier loaded = new CyclicBarrier(2);
+        doAnswer(invocation -> {
+            loaded.await(10, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(userCache).reference(any());
+
+        CompletableFuture<MockHttpServletResponse> start = perform(updateStatus(TaskStatus.IN_PROGRESS));
+        CompletableFuture<MockHttpServletResponse> cancel = perform(updateStatus(TaskStatus.CANCELLED));
+
+        List<Integer> statuses = List.of(
+                start.get(30, TimeUnit.SECONDS).getStatus(),
+                cancel.get(30, TimeUnit.SECONDS).getStatus());
+        assertEquals(List.of(200, 409), statuses.stream().sorted().toList());
+        MockHttpServletResponse lost = statuses.get(0) == 409 ? start.get() : cancel.get();
+        assertEquals("The task was modified concurrently; reload it and retry",
+                objectMapper.readTree(lost.getContentAsString()).get("message").asString());
+    }
+
+    private CompletableFuture<MockHttpServletResponse> perform(MockHttpServletRequestBuilder request) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return mockMvc.perform(request).andReturn().getResponse();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }, runnable -> Thread.ofPlatform().start(runnable));
+    }
+
+    private MockHttpServletRequestBuilder updateStatus(TaskStatus status) {
+        return patch("/api/tasks/{id}/status", task)
+                .param("performedBy", user.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"" + status + "\"}");
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.TaskManagement.controller;
+
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    private UUID user;
+    private UUID task;
+
+    @BeforeEach
+    void createTask() {
+        user = userService.createUser(new CreateUserRequestDto(
+                "Reader", "reader-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+        task = taskService.createTask(new CreateTaskRequestDto(
+                "Cached", "Cached task", user, null, Priority.MEDIUM, null, List.of())).getId();
+    }
+
+    @Test
+    void unchangedTaskIsNotModified() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}", task))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1.0\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+
+        mockMvc.perform(get("/api/tasks/{id}", task).header(HttpHeaders.IF_NONE_MATCH, "\"1.0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1.0\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void commentChangesTheTag() throws Exception {
+        mockMvc.perform(post("/api/tasks/{id}/comments", task)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"authorId\":\"" + user + "\",\"text\":\"First look\"}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/tasks/{id}", task).header(HttpHeaders.IF_NONE_MATCH, "\"1.0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1.1\""))
+                .andExpect(jsonPath("$.commentCount").value(1))
+                .andExpect(jsonPath("$.latestComments[0].text").value("First look"));
+
+        mockMvc.perform(get("/api/tasks/{id}", task).header(HttpHeaders.IF_NONE_MATCH, "\"1.1\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getTagIsAcceptedByIfMatch() throws Exception {
+        mockMvc.perform(patch("/api/tasks/{id}/priority", task)
+                        .param("performedBy", user.toString())
+                        .header(HttpHeaders.IF_MATCH, "\"1.0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"priority\":\"HIGH\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+
+        mockMvc.perform(get("/api/tasks/{id}", task).header(HttpHeaders.IF_NONE_MATCH, "\"1.0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2.0\""));
+    }
+}
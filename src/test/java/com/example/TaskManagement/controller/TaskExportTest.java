@@ -0,0 +1,110 @@
+package com.example.TaskManagement.controller;
+
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.dto.UpdateTaskStatusRequestDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void everyTaskIsOneLineNewestFirstAcrossChunks() throws Exception {
+        UUID user = createUser();
+        Set<UUID> created = new HashSet<>();
+        // More than one chunk of 100, so tags are read again after the context is cleared.
+        for (int i = 0; i < 120; i++) {
+            created.add(taskService.createTask(new CreateTaskRequestDto(
+                    "Exported " + i, "Exported task", user, null, Priority.LOW, null, List.of("export", "n" + i))).getId());
+        }
+
+        List<JsonNode> lines = export("/api/tasks/export/by-created-date");
+
+        Set<UUID> exported = new HashSet<>();
+        LocalDateTime previous = null;
+        for (JsonNode line : lines) {
+            exported.add(UUID.fromString(line.get("id").asString()));
+            LocalDateTime createdAt = LocalDateTime.parse(line.get("createdAt").asString());
+            assertFalse(previous != null && createdAt.isAfter(previous), "newest first");
+            previous = createdAt;
+            if (line.get("title").asString().startsWith("Exported ")) {
+                String number = line.get("title").asString().substring("Exported ".length());
+                assertEquals(List.of("export", "n" + number), line.get("tags").valueStream()
+                        .map(JsonNode::asString).sorted().toList());
+            }
+        }
+        assertEquals(lines.size(), exported.size());
+        assertTrue(exported.containsAll(created));
+    }
+
+    @Test
+    void statusExportHasOnlyThatStatus() throws Exception {
+        UUID user = createUser();
+        UUID cancelled = taskService.createTask(new CreateTaskRequestDto(
+                "Dropped", "Cancelled task", user, null, Priority.LOW, null, List.of())).getId();
+        UUID open = taskService.createTask(new CreateTaskRequestDto(
+                "Kept", "Open task", user, null, Priority.LOW, null, List.of())).getId();
+        taskService.updateTaskStatus(cancelled, new UpdateTaskStatusRequestDto(TaskStatus.CANCELLED), user, null);
+
+        List<JsonNode> lines = export("/api/tasks/export/by-status/CANCELLED");
+
+        assertTrue(lines.stream().allMatch(line -> line.get("status").asString().equals("CANCELLED")));
+        List<String> ids = lines.stream().map(line -> line.get("id").asString()).toList();
+        assertTrue(ids.contains(cancelled.toString()));
+        assertFalse(ids.contains(open.toString()));
+    }
+
+    private List<JsonNode> export(String path) throws Exception {
+        MvcResult started = mockMvc.perform(get(path)).andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        return body.lines().map(objectMapper::readTree).toList();
+    }
+
+    private UUID createUser() {
+        return userService.createUser(new CreateUserRequestDto(
+                "Exporter", "exporter-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.TaskManagement.controller;
+
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.dto.UpdateTaskStatusRequestDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Criteria are combined with AND and list criteria match any of their values. Every
+ * query is scoped to one creator's tasks.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskSearchTest {
+
+    private static final LocalDate DUE = LocalDate.of(2032, 6, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    private UUID creator;
+    private UUID assignedHigh;
+    private UUID openLow;
+    private UUID startedHigh;
+    private UUID undated;
+
+    @BeforeEach
+    void createTasks() {
+        creator = userService.createUser(new CreateUserRequestDto(
+                "Searcher", "criteria-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+        assignedHigh = createTask(creator, Priority.HIGH, DUE, List.of("api", "backend"));
+        openLow = createTask(null, Priority.LOW, DUE.plusDays(5), List.of("api"));
+        startedHigh = createTask(null, Priority.HIGH, DUE.plusDays(10), List.of("ui"));
+        undated = createTask(null, Priority.MEDIUM, null, List.of());
+        taskService.updateTaskStatus(startedHigh, new UpdateTaskStatusRequestDto(TaskStatus.IN_PROGRESS), creator, null);
+    }
+
+    @Test
+    void criteriaAreCombined() throws Exception {
+        assertEquals(Set.of(assignedHigh, openLow, startedHigh, undated), search(""));
+        assertEquals(Set.of(assignedHigh, openLow), search("statuses=OPEN&priorities=HIGH,LOW"));
+        assertEquals(Set.of(assignedHigh, startedHigh), search("statuses=OPEN,IN_PROGRESS&priorities=HIGH"));
+        assertEquals(Set.of(assignedHigh), search("tags=api,backend"));
+        assertEquals(Set.of(assignedHigh, startedHigh), search("anyTags=backend,ui"));
+        assertEquals(Set.of(openLow), search("tags=api&unassigned=true"));
+        assertEquals(Set.of(assignedHigh), search("assignedTo=" + creator));
+        assertEquals(Set.of(openLow, startedHigh), search("dueFrom=" + DUE.plusDays(1) + "&dueTo=" + DUE.plusDays(10)));
+        assertEquals(Set.of(assignedHigh, openLow, startedHigh, undated),
+                search("createdFrom=" + LocalDate.now() + "&createdTo=" + LocalDate.now()));
+        assertEquals(Set.of(), search("createdTo=" + LocalDate.now().minusDays(1)));
+        assertEquals(Set.of(startedHigh), search("updatedFrom=" + LocalDate.now() + "&statuses=IN_PROGRESS"));
+        assertEquals(Set.of(), search("updatedFrom=" + LocalDate.now().plusDays(1)));
+    }
+
+    @Test
+    void summariesAreReturnedInTheRequestedOrder() throws Exception {
+        JsonNode page = page("sort=DUE_DATE_ASC&statuses=OPEN");
+
+        // Missing due dates sort as the lowest value.
+        assertEquals(List.of(undated.toString(), assignedHigh.toString(), openLow.toString()),
+                page.get("items").valueStream().map(item -> item.get("id").asString()).toList());
+        JsonNode assigned = page.get("items").get(1);
+        assertEquals("HIGH", assigned.get("priority").asString());
+        assertEquals(creator.toString(), assigned.get("assignedTo").get("id").asString());
+        assertFalse(assigned.has("description"));
+    }
+
+    @Test
+    void invertedRangesAreRejected() throws Exception {
+        mockMvc.perform(get("/api/tasks/search?createdBy=" + creator + "&dueFrom=" + DUE + "&dueTo=" + DUE.minusDays(1)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("dueFrom must not be after dueTo"));
+    }
+
+    private Set<UUID> search(String query) throws Exception {
+        return page(query).get("items").valueStream()
+                .map(item -> UUID.fromString(item.get("id").asString()))
+                .collect(Collectors.toSet());
+    }
+
+    private JsonNode page(String query) throws Exception {
+        String body = mockMvc.perform(get("/api/tasks/search?createdBy=" + creator + "&limit=50&" + query))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private UUID createTask(UUID assignee, Priority priority, LocalDate dueDate, List<String> tags) {
+        return taskService.createTask(new CreateTaskRequestDto(
+                "Criteria", "Searched task", creator, assignee, priority, dueDate, tags)).getId();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.TaskManagement.datasource;
+
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.service.UserService;
+import com.example.TaskManagement.web.ReadYourWritesFilter;
+import jakarta.servlet.http.Cookie;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs against a second in-memory database standing in for a replica that never
+ * receives the primary's writes, so which one answered a read shows in its result.
+ */
+@SpringBootTest(properties = "task.datasource.replicas[0].url=" + ReadWriteRoutingTest.REPLICA_URL)
+@AutoConfigureMockMvc
+class ReadWriteRoutingTest {
+
+    static final String REPLICA_URL =
+            "jdbc:h2:mem:TaskManagementReplica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    static {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void readsGoToReplicaUnlessClientWroteRecently() throws Exception {
+        UUID creator = userService.createUser(new CreateUserRequestDto(
+                "Routing", "routing-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+
+        Cookie primaryUntil = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Routed\",\"description\":\"Written to the primary\"," +
+                                "\"createdBy\":\"" + creator + "\",\"priority\":\"HIGH\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertNotNull(primaryUntil);
+
+        assertEquals(0, openTaskCount());
+        assertTrue(openTaskCount(primaryUntil) >= 1);
+        assertEquals(0, openTaskCount(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+                Long.toString(System.currentTimeMillis() - 1))));
+    }
+
+    private long openTaskCount(Cookie... cookies) throws Exception {
+        var request = get("/api/tasks/count/by-status/OPEN");
+        if (cookies.length > 0) {
+            request.cookie(cookies);
+        }
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return Long.parseLong(body.trim());
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.TaskManagement.history;
+
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.model.TaskVersion;
+import com.example.TaskManagement.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskHistoryCodecTest {
+
+    private static final UUID TASK = UUID.randomUUID();
+    private static final UUID CREATOR = UUID.randomUUID();
+    private static final UUID ASSIGNEE = UUID.randomUUID();
+
+    private final TaskHistoryCodec codec = codec(3);
+
+    @Test
+    void encodedHistoryDecodesToEveryVersion() {
+        List<Task> states = List.of(
+                task("Draft", null, TaskStatus.OPEN, Priority.LOW, null, null, List.of()),
+                task("Draft", "Now described", TaskStatus.OPEN, Priority.LOW, null, null, List.of()),
+                task("Draft", "Now described", TaskStatus.IN_PROGRESS, Priority.LOW, ASSIGNEE, null, List.of("backend")),
+                task("Renamed", "Now described", TaskStatus.IN_PROGRESS, Priority.HIGH, ASSIGNEE,
+                        LocalDate.of(2030, 1, 15), List.of("backend")),
+                task("Renamed", null, TaskStatus.IN_PROGRESS, Priority.HIGH, null,
+                        LocalDate.of(2030, 1, 15), List.of("backend", "urgent")),
+                task("Renamed", null, TaskStatus.COMPLETED, Priority.HIGH, null, null, List.of()),
+                task("Renamed", null, TaskStatus.COMPLETED, Priority.HIGH, null, null, List.of()));
+
+        List<TaskVersion> rows = encode(states);
+
+        assertEquals(List.of(true, false, false, true, false, false, true),
+                rows.stream().map(row -> row.getDeltaFields() == null).toList());
+        List<TaskVersion> decoded = codec.decode(rows);
+        for (int i = 0; i < states.size(); i++) {
+            assertEquals(TaskState.of(states.get(i)), TaskState.of(decoded.get(i)), "version " + (i + 1));
+            assertEquals(i + 1, decoded.get(i).getVersion());
+            assertNull(decoded.get(i).getDeltaFields());
+        }
+    }
+
+    @Test
+    void deltaRowsOnlyCarryTheFieldsThatChanged() {
+        List<TaskVersion> rows = encode(List.of(
+                task("Title", "Body", TaskStatus.OPEN, Priority.LOW, ASSIGNEE, null, List.of("a")),
+                task("Title", "Body", TaskStatus.OPEN, Priority.LOW, null, null, List.of("a"))));
+
+        TaskVersion delta = rows.get(1);
+        assertEquals(TaskHistoryCodec.ASSIGNEE, delta.getDeltaFields());
+        assertNull(delta.getTitle());
+        assertNull(delta.getDescription());
+        assertNull(delta.getAssignedTo());
+        assertTrue(delta.getTags().isEmpty());
+        assertEquals(List.of("a"), codec.decode(rows).get(1).getTags());
+    }
+
+    @Test
+    void fullRowsMayFollowAGap() {
+        List<TaskVersion> rows = new ArrayList<>(encode(List.of(
+                task("One", null, TaskStatus.OPEN, Priority.LOW, null, null, List.of()),
+                task("Two", null, TaskStatus.OPEN, Priority.LOW, null, null, List.of()))));
+        TaskVersion later = codec.encode(null,
+                task("Five", null, TaskStatus.OPEN, Priority.LOW, null, null, List.of()), 5, "after a gap");
+        rows.add(later);
+
+        List<TaskVersion> decoded = codec.decode(rows);
+
+        assertEquals(List.of(1, 2, 5), decoded.stream().map(TaskVersion::getVersion).toList());
+        assertEquals("Five", decoded.get(2).getTitle());
+    }
+
+    @Test
+    void deltaWithoutItsPredecessorIsRejected() {
+        List<TaskVersion> rows = new ArrayList<>(encode(List.of(
+                task("One", null, TaskStatus.OPEN, Priority.LOW, null, null, List.of()),
+                task("Two", null, TaskStatus.OPEN, Priority.LOW, null, null, List.of()),
+                task("Three", null, TaskStatus.OPEN, Priority.LOW, null, null, List.of()))));
+        rows.remove(1);
+
+        assertThrows(IllegalStateException.class, () -> codec.decode(rows));
+    }
+
+    @Test
+    void deltaWithoutASnapshotBeforeItIsRejected() {
+        List<TaskVersion> rows = encode(List.of(
+                task("One", null, TaskStatus.OPEN, Priority.LOW, null, null, List.of()),
+                task("Two", null, TaskStatus.OPEN, Priority.LOW, null, null, List.of())));
+
+        assertThrows(IllegalStateException.class, () -> codec.decode(rows.subList(1, 2)));
+    }
+
+    @Test
+    void rowsOutOfOrderAreRejected() {
+        List<TaskVersion> rows = encode(List.of(
+                task("One", null, TaskStatus.OPEN, Priority.LOW, null, null, List.of()),
+                task("Two", null, TaskStatus.OPEN, Priority.LOW, null, null, List.of())));
+
+        assertThrows(IllegalStateException.class, () -> codec.decode(List.of(rows.get(0), rows.get(0))));
+    }
+
+    private List<TaskVersion> encode(List<Task> states) {
+        List<TaskVersion> rows = new ArrayList<>();
+        TaskState previous = null;
+        for (int i = 0; i < states.size(); i++) {
+            rows.add(codec.encode(previous, states.get(i), i + 1, "version " + (i + 1)));
+            previous = TaskState.of(states.get(i));
+        }
+        return rows;
+    }
+
+    private static Task task(String title, String description, TaskStatus status, Priority priority,
+                             UUID assignee, LocalDate dueDate, List<String> tags) {
+        Task task = new Task();
+        task.setId(TASK);
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setCreatedBy(user(CREATOR));
+        task.setAssignedTo(assignee != null ? user(assignee) : null);
+        task.setDueDate(dueDate);
+        task.setTags(new ArrayList<>(tags));
+        return task;
+    }
+
+    private static User user(UUID id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private static TaskHistoryCodec codec(int snapshotInterval) {
+        TaskHistoryProperties properties = new TaskHistoryProperties();
+        properties.setSnapshotInterval(snapshotInterval);
+        return new TaskHistoryCodec(properties);
+    }
+}
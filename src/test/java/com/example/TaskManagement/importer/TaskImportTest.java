@@ -0,0 +1,126 @@
+package com.example.TaskManagement.importer;
+
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.service.TaskCounterService;
+import com.example.TaskManagement.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskImportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskCounterService taskCounterService;
+
+    @Autowired
+    private TaskImportProperties properties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void ndjsonRowsAreImportedWithHistoryAndBadRowsReported() throws Exception {
+        String email = "importer-" + UUID.randomUUID() + "@example.com";
+        UUID creator = userService.createUser(new CreateUserRequestDto("importer", email, Role.DEVELOPER)).getId();
+        String body = """
+                {"title":"Imported","description":"From NDJSON","createdBy":"%s","assignedTo":"%s","priority":"HIGH","tags":["import","backend"]}
+
+                {"title":"Broken",
+                {"title":"Orphan","description":"No such user","createdBy":"nobody@example.com"}
+                """.formatted(email.toUpperCase(), creator);
+
+        List<JsonNode> progress = importTasks(MediaType.APPLICATION_NDJSON, body);
+
+        JsonNode last = progress.getLast();
+        assertTrue(last.get("done").asBoolean());
+        assertEquals(3, last.get("processed").asLong());
+        assertEquals(1, last.get("imported").asLong());
+        assertEquals(2, last.get("failed").asLong());
+        assertEquals(List.of(3L, 4L), last.get("errors").valueStream().map(error -> error.get("row").asLong()).toList());
+        assertEquals(1, taskCounterService.countAssignedTo(creator));
+
+        MvcResult page = mockMvc.perform(get("/api/tasks/search/created-by/{userId}", creator))
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].priority").value("HIGH"))
+                .andExpect(jsonPath("$.items[0].tags.length()").value(2))
+                .andReturn();
+        String taskId = objectMapper.readTree(page.getResponse().getContentAsString())
+                .at("/items/0/id").asString();
+        mockMvc.perform(get("/api/tasks/{id}/history", taskId))
+                .andExpect(jsonPath("$[0].version").value(1))
+                .andExpect(jsonPath("$[0].tags.length()").value(2));
+        mockMvc.perform(get("/api/tasks/{id}/activity", taskId))
+                .andExpect(jsonPath("$.items[0].activityType").value("TASK_CREATED"));
+    }
+
+    @Test
+    void csvIsWrittenInChunksWithAProgressLineEach() throws Exception {
+        UUID creator = userService.createUser(new CreateUserRequestDto(
+                "csv", "csv-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+        long completedBefore = taskCounterService.countByStatus(TaskStatus.COMPLETED);
+        StringBuilder body = new StringBuilder("title,description,createdBy,status,dueDate,tags\n");
+        for (int i = 0; i < 5; i++) {
+            body.append("Task ").append(i).append(",\"Row, ").append(i).append("\",").append(creator)
+                    .append(",completed,2030-01-0").append(i + 1).append(",csv;bulk\n");
+        }
+        body.append("Late,Bad date,").append(creator).append(",open,tomorrow,\n");
+
+        int chunkSize = properties.getChunkSize();
+        properties.setChunkSize(2);
+        List<JsonNode> progress;
+        try {
+            progress = importTasks(MediaType.parseMediaType("text/csv"), body.toString());
+        } finally {
+            properties.setChunkSize(chunkSize);
+        }
+
+        assertEquals(4, progress.size());
+        assertFalse(progress.getFirst().get("done").asBoolean());
+        assertEquals(2, progress.getFirst().get("imported").asLong());
+        JsonNode last = progress.getLast();
+        assertTrue(last.get("done").asBoolean());
+        assertEquals(5, last.get("imported").asLong());
+        assertEquals(List.of("Invalid dueDate: tomorrow"), progress.stream()
+                .flatMap(line -> line.get("errors").valueStream())
+                .map(error -> error.get("error").asString())
+                .toList());
+        assertEquals(completedBefore + 5, taskCounterService.countByStatus(TaskStatus.COMPLETED));
+    }
+
+    private List<JsonNode> importTasks(MediaType contentType, String body) throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/tasks/import").contentType(contentType).content(body))
+                .andReturn();
+        String lines = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return lines.lines().map(objectMapper::readTree).toList();
+    }
+}
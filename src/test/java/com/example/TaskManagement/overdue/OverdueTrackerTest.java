@@ -0,0 +1,261 @@
+package com.example.TaskManagement.overdue;
+
+import com.example.TaskManagement.audit.AuditSink;
+import com.example.TaskManagement.cache.TaskQuery;
+import com.example.TaskManagement.cache.TaskQueryCache;
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.dto.UpdateTaskDueDateRequestDto;
+import com.example.TaskManagement.dto.UpdateTaskStatusRequestDto;
+import com.example.TaskManagement.enums.ActivityType;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.pagination.KeysetPage;
+import com.example.TaskManagement.repository.ActivityEventRepository;
+import com.example.TaskManagement.repository.TaskRepository;
+import com.example.TaskManagement.search.TagIndex;
+import com.example.TaskManagement.search.TextIndex;
+import com.example.TaskManagement.service.TaskCounterService;
+import com.example.TaskManagement.service.TaskReader;
+import com.example.TaskManagement.service.TaskSearchService;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives private trackers, so ticks on made-up days never reach the shared one. A
+ * private tracker hears nothing of changes made through {@link TaskService}, which is
+ * how it sees changes made by another instance.
+ */
+@SpringBootTest
+class OverdueTrackerTest {
+
+    private static final LocalDate DUE = LocalDate.of(2090, 3, 10);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private AuditSink auditSink;
+
+    @Autowired
+    private TaskQueryCache taskQueryCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OverdueProperties properties;
+
+    @Autowired
+    private ActivityEventRepository activityEventRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TagIndex tagIndex;
+
+    @Autowired
+    private TextIndex textIndex;
+
+    @Autowired
+    private TaskCounterService taskCounterService;
+
+    private UUID user;
+
+    @BeforeEach
+    void createUser() {
+        user = userService.createUser(new CreateUserRequestDto(
+                "Late", "late-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+    }
+
+    @Test
+    void bucketsDrainOnTheDayAfterTheDueDate() {
+        UUID first = createTask(DUE);
+        UUID second = createTask(DUE.plusDays(1));
+        OverdueTracker tracker = tracker(properties);
+        tracker.reload();
+
+        tracker.tick(DUE);
+        assertEquals(List.of(), overdue(tracker, first, second));
+
+        tracker.tick(DUE.plusDays(1));
+        assertEquals(List.of(first), overdue(tracker, first, second));
+        assertNotNull(taskRepository.findById(first).orElseThrow().getOverdueSince());
+        assertNull(taskRepository.findById(second).orElseThrow().getOverdueSince());
+
+        tracker.tick(DUE.plusDays(2));
+        assertEquals(List.of(first, second), overdue(tracker, first, second));
+        assertEquals(1, overdueEvents(first));
+        assertEquals(1, overdueEvents(second));
+    }
+
+    @Test
+    void eachTaskGetsOneEventHoweverManyInstancesNotice() {
+        UUID task = createTask(DUE);
+        OverdueTracker one = tracker(properties);
+        OverdueTracker other = tracker(properties);
+        one.reload();
+        other.reload();
+
+        one.tick(DUE.plusDays(1));
+        other.tick(DUE.plusDays(1));
+        one.tick(DUE.plusDays(2));
+
+        assertEquals(List.of(task), overdue(one, task));
+        assertEquals(List.of(task), overdue(other, task));
+        assertEquals(1, overdueEvents(task));
+    }
+
+    @Test
+    void reloadAndRefreshPickUpChangesFromOtherInstances() {
+        UUID closed = createTask(DUE);
+        UUID refreshed = createTask(DUE);
+        OverdueTracker tracker = tracker(properties);
+        tracker.reload();
+        tracker.tick(DUE.plusDays(1));
+
+        close(closed);
+        close(refreshed);
+        assertEquals(Set.of(closed, refreshed), Set.copyOf(overdue(tracker, closed, refreshed)));
+
+        tracker.refresh(List.of(refreshed));
+        assertEquals(List.of(closed), overdue(tracker, closed, refreshed));
+
+        tracker.reload();
+        tracker.tick(DUE.plusDays(1));
+        assertEquals(List.of(), overdue(tracker, closed, refreshed));
+    }
+
+    @Test
+    void drainingEvictsCachedOverduePages() {
+        createTask(DUE);
+        OverdueTracker tracker = tracker(properties);
+        tracker.reload();
+        AtomicInteger loads = new AtomicInteger();
+        TaskQuery overdue = TaskQuery.overdue(LocalDate.now());
+        String cursor = "rollover-" + UUID.randomUUID();
+
+        cachedOverduePage(overdue, cursor, loads);
+        cachedOverduePage(overdue, cursor, loads);
+        assertEquals(1, loads.get());
+
+        tracker.tick(DUE.plusDays(1));
+        cachedOverduePage(overdue, cursor, loads);
+        assertEquals(2, loads.get());
+
+        // Nothing left to drain on the same day.
+        tracker.tick(DUE.plusDays(1));
+        cachedOverduePage(overdue, cursor, loads);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void nothingIsFoundUntilLoadedOrWhileDisabled() {
+        createTask(DUE);
+        OverdueProperties disabled = new OverdueProperties();
+        disabled.setEnabled(false);
+        OverdueTracker off = tracker(disabled);
+        off.reload();
+
+        assertNull(tracker(properties).find(null, 10));
+        assertNull(off.find(null, 10));
+    }
+
+    @Test
+    void listingDropsTasksClosedOrRescheduledElsewhere() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        UUID closed = createTask(yesterday);
+        UUID rescheduled = createTask(yesterday.minusDays(1));
+        UUID stillOverdue = createTask(yesterday);
+        OverdueTracker tracker = tracker(properties);
+        TaskSearchService search = new TaskSearchService(taskRepository, tagIndex, taskCounterService, tracker, textIndex);
+        tracker.reload();
+        assertEquals(3, overdue(tracker, closed, rescheduled, stillOverdue).size());
+        long counted = search.countOverdueTasks();
+
+        close(closed);
+        taskService.updateTaskDueDate(rescheduled, new UpdateTaskDueDateRequestDto(LocalDate.now().plusDays(3)), user, null);
+
+        assertEquals(counted - 2, search.countOverdueTasks());
+        List<UUID> listed = transactionTemplate.execute(status ->
+                search.getAllOverdueTasks(TaskReader.entities(), null, 500).getItems().stream()
+                        .map(Task::getId)
+                        .toList());
+        assertTrue(listed.contains(stillOverdue));
+        assertFalse(listed.contains(closed));
+        assertFalse(listed.contains(rescheduled));
+        assertEquals(List.of(stillOverdue), overdue(tracker, closed, rescheduled, stillOverdue));
+
+        List<UUID> fallback = transactionTemplate.execute(status ->
+                new TaskSearchService(taskRepository, tagIndex, taskCounterService, tracker(properties), textIndex)
+                        .getAllOverdueTasks(TaskReader.entities(), null, 500).getItems().stream()
+                        .map(Task::getId)
+                        .toList());
+        assertEquals(Set.copyOf(listed), Set.copyOf(fallback));
+    }
+
+    private OverdueTracker tracker(OverdueProperties properties) {
+        return new OverdueTracker(taskRepository, auditSink, taskQueryCache, transactionTemplate, properties,
+                new SimpleMeterRegistry());
+    }
+
+    /**
+     * The page is keyed by a cursor of this test's own, so no other listing shares it.
+     */
+    private void cachedOverduePage(TaskQuery overdue, String cursor, AtomicInteger loads) {
+        taskQueryCache.page(overdue, cursor, 10, () -> {
+            loads.incrementAndGet();
+            return new KeysetPage<>(List.of(), 10, null);
+        });
+    }
+
+    /**
+     * The tracker's overdue ids among {@code ours}, in its order.
+     */
+    private static List<UUID> overdue(OverdueTracker tracker, UUID... ours) {
+        Collection<UUID> wanted = List.of(ours);
+        return tracker.find(null, 100_000).stream()
+                .filter(wanted::contains)
+                .toList();
+    }
+
+    private long overdueEvents(UUID task) {
+        return activityEventRepository.findByTaskIdOrderByTimestampDesc(task).stream()
+                .filter(event -> event.getActivityType() == ActivityType.OVERDUE)
+                .count();
+    }
+
+    private UUID createTask(LocalDate dueDate) {
+        return taskService.createTask(new CreateTaskRequestDto(
+                "Due", "Due task", user, null, Priority.MEDIUM, dueDate, List.of())).getId();
+    }
+
+    private void close(UUID task) {
+        taskService.updateTaskStatus(task, new UpdateTaskStatusRequestDto(TaskStatus.CANCELLED), user, null);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.TaskManagement.pagination;
+
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.dto.UpdateTaskStatusRequestDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pages through one creator's tasks under every ordering, with ties on each sort key,
+ * missing due dates and the enum columns, and checks the pages add up to the listing.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class KeysetPagingTest {
+
+    private static final LocalDate DUE = LocalDate.of(2031, 5, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UUID creator;
+    private Set<UUID> created;
+
+    @BeforeEach
+    void createTasks() {
+        creator = userService.createUser(new CreateUserRequestDto(
+                "Pager", "pager-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+        created = new HashSet<>();
+        Priority[] priorities = {Priority.HIGH, Priority.LOW, Priority.HIGH, Priority.CRITICAL, Priority.MEDIUM, Priority.HIGH};
+        LocalDate[] dueDates = {DUE, null, DUE, DUE.plusDays(1), null, DUE};
+        for (int i = 0; i < 12; i++) {
+            UUID id = taskService.createTask(new CreateTaskRequestDto(
+                    "Paged " + i, "Paged task", creator, null,
+                    priorities[i % priorities.length], dueDates[i % dueDates.length], List.of())).getId();
+            if (i % 3 == 1) {
+                taskService.updateTaskStatus(id, new UpdateTaskStatusRequestDto(TaskStatus.IN_PROGRESS), creator, null);
+            } else if (i % 3 == 2) {
+                taskService.updateTaskStatus(id, new UpdateTaskStatusRequestDto(TaskStatus.CANCELLED), creator, null);
+            }
+            created.add(id);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(TaskSort.class)
+    void pagesHaveNoGapsOrDuplicates(TaskSort sort) throws Exception {
+        List<UUID> listing = pageThrough(sort, 100);
+        assertEquals(created, new HashSet<>(listing));
+        assertEquals(created.size(), listing.size());
+
+        for (int limit : new int[]{1, 2, 5}) {
+            assertEquals(listing, pageThrough(sort, limit), sort + " in pages of " + limit);
+        }
+    }
+
+    @Test
+    void malformedCursorsAreRejected() throws Exception {
+        for (String cursor : List.of("not-a-cursor!", "bm9wZQ", new ActivityCursor(LocalDateTime.now(), UUID.randomUUID()).encode())) {
+            mockMvc.perform(search(TaskSort.DUE_DATE_ASC, 2).param("cursor", cursor))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400));
+        }
+    }
+
+    @Test
+    void cursorsOfAnotherOrderingAreRejected() throws Exception {
+        String cursor = page(search(TaskSort.PRIORITY_DESC, 2)).get("nextCursor").asString();
+
+        mockMvc.perform(search(TaskSort.DUE_DATE_ASC, 2).param("cursor", cursor))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(search(TaskSort.PRIORITY_DESC, 2).param("cursor", cursor))
+                .andExpect(status().isOk());
+    }
+
+    private List<UUID> pageThrough(TaskSort sort, int limit) throws Exception {
+        List<UUID> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = search(sort, limit);
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = page(request);
+            page.get("items").forEach(item -> ids.add(UUID.fromString(item.get("id").asString())));
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asString() : null;
+        } while (cursor != null);
+        return ids;
+    }
+
+    private MockHttpServletRequestBuilder search(TaskSort sort, int limit) {
+        return get("/api/tasks/search")
+                .param("createdBy", creator.toString())
+                .param("sort", sort.name())
+                .param("limit", String.valueOf(limit));
+    }
+
+    private JsonNode page(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
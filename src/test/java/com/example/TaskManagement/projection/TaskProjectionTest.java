@@ -0,0 +1,99 @@
+package com.example.TaskManagement.projection;
+
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskProjectionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void summaryViewAndSparseFieldsReturnOnlyTheirFields() throws Exception {
+        UUID user = createUser("board");
+        UUID taskId = createTask(user, "Board card");
+        String url = "/api/tasks/search/assigned-to/" + user;
+
+        mockMvc.perform(get(url).param("view", "summary"))
+                .andExpect(jsonPath("$.items[0].id").value(taskId.toString()))
+                .andExpect(jsonPath("$.items[0].title").value("Board card"))
+                .andExpect(jsonPath("$.items[0].assignedTo.id").value(user.toString()))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.items[0].tags").doesNotExist());
+
+        mockMvc.perform(get(url).param("fields", "title,tags,createdBy"))
+                .andExpect(jsonPath("$.items[0].keys()", contains("id", "title", "createdBy", "tags")))
+                .andExpect(jsonPath("$.items[0].tags", containsInAnyOrder("board", "frontend")))
+                .andExpect(jsonPath("$.items[0].createdBy.role").value("DEVELOPER"));
+
+        mockMvc.perform(get(url))
+                .andExpect(jsonPath("$.items[0].description").value("Shown on the board"));
+
+        mockMvc.perform(get(url).param("fields", "title,secret"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void projectedPagesFollowTheCursor() throws Exception {
+        UUID user = createUser("pager");
+        for (int i = 0; i < 3; i++) {
+            createTask(user, "Card " + i);
+        }
+        String url = "/api/tasks/search/assigned-to/" + user;
+
+        String first = mockMvc.perform(get(url).param("view", "summary").param("limit", "2"))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = JsonPath.read(first, "$.nextCursor");
+        String second = mockMvc.perform(get(url).param("view", "summary").param("limit", "2")
+                        .param("cursor", cursor))
+                .andReturn().getResponse().getContentAsString();
+
+        List<Map<String, Object>> firstItems = JsonPath.read(first, "$.items");
+        List<Map<String, Object>> secondItems = JsonPath.read(second, "$.items");
+        assertEquals(2, firstItems.size());
+        assertEquals(1, secondItems.size());
+        assertNotEquals(firstItems.get(1).get("id"), secondItems.get(0).get("id"));
+        assertNull(JsonPath.read(second, "$.nextCursor"));
+    }
+
+    private UUID createUser(String name) {
+        return userService.createUser(new CreateUserRequestDto(
+                name, name + "-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+    }
+
+    private UUID createTask(UUID user, String title) {
+        return taskService.createTask(new CreateTaskRequestDto(
+                title, "Shown on the board", user, user, Priority.HIGH, null, List.of("board", "frontend"))).getId();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.TaskManagement.repository;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs EXPLAIN on the SQL shape of each hot listing against the schema built by the
+ * Flyway migrations, and fails when H2 no longer picks the index meant for it.
+ */
+@SpringBootTest
+class TaskQueryIndexTest {
+
+    private static final String USER_ID = "X'0123456789abcdef0123456789abcdef'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("idx_tasks_status_created",
+                        "SELECT id FROM tasks WHERE status = 'OPEN' ORDER BY created_at DESC, id LIMIT 51"),
+                Arguments.of("idx_tasks_priority_created",
+                        "SELECT id FROM tasks WHERE priority = 'HIGH' ORDER BY created_at DESC, id LIMIT 51"),
+                Arguments.of("idx_tasks_assignee_created",
+                        "SELECT id FROM tasks WHERE assigned_to = " + USER_ID +
+                        " ORDER BY created_at DESC, id LIMIT 51"),
+                Arguments.of("idx_tasks_assignee_status_created",
+                        "SELECT id FROM tasks WHERE assigned_to = " + USER_ID + " AND status = 'IN_PROGRESS'" +
+                        " ORDER BY created_at DESC, id LIMIT 51"),
+                Arguments.of("idx_tasks_creator_created",
+                        "SELECT id FROM tasks WHERE created_by = " + USER_ID +
+                        " ORDER BY created_at DESC, id LIMIT 51"),
+                Arguments.of("idx_tasks_created",
+                        "SELECT id FROM tasks WHERE created_at >= TIMESTAMP '2024-01-01 00:00:00'" +
+                        " AND created_at < TIMESTAMP '2025-01-01 00:00:00' ORDER BY created_at DESC, id LIMIT 51"),
+                Arguments.of("idx_tasks_updated",
+                        "SELECT id FROM tasks WHERE updated_at >= TIMESTAMP '2024-01-01 00:00:00'" +
+                        " ORDER BY updated_at DESC, id LIMIT 51"),
+                Arguments.of("idx_tasks_due",
+                        "SELECT id FROM tasks WHERE due_date < DATE '2024-06-01'" +
+                        " AND status NOT IN ('COMPLETED', 'CANCELLED') ORDER BY due_date, priority DESC, id LIMIT 51"),
+                Arguments.of("idx_tasks_status_priority_due",
+                        "SELECT id FROM tasks WHERE status = 'OPEN' AND priority IN ('HIGH', 'CRITICAL')" +
+                        " ORDER BY due_date, priority DESC, id LIMIT 51"),
+                Arguments.of("idx_task_tags_tag",
+                        "SELECT task_id FROM task_tags WHERE tag IN ('backend', 'urgent')"),
+                Arguments.of("idx_task_versions_task_version",
+                        "SELECT id FROM task_versions WHERE task_id = " + USER_ID + " ORDER BY version"),
+                Arguments.of("idx_activity_events_task_time",
+                        "SELECT id FROM activity_events WHERE task_id = " + USER_ID +
+                        " ORDER BY timestamp DESC, id DESC LIMIT 51"),
+                Arguments.of("idx_comments_task_time",
+                        "SELECT id FROM comments WHERE task_id = " + USER_ID +
+                        " ORDER BY timestamp DESC, id DESC LIMIT 51")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesItsIndex(String index, String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertTrue(plan.contains("public." + index),
+                "Expected " + index + " for: " + sql + "\nPlan: " + plan);
+    }
+}
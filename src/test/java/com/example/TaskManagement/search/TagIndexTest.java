@@ -0,0 +1,138 @@
+package com.example.TaskManagement.search;
+
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.enums.TagMatch;
+import com.example.TaskManagement.repository.TaskRepository;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TagIndexTest {
+
+    @Autowired
+    private TagIndex tagIndex;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TagIndexProperties properties;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void waitForBuild() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!tagIndex.isReady()) {
+            assertTrue(System.currentTimeMillis() < deadline, "tag index was not built");
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void allAndAnyMatchesPageNewestFirst() throws Exception {
+        String red = "red-" + UUID.randomUUID();
+        String blue = "blue-" + UUID.randomUUID();
+        UUID user = userService.createUser(new CreateUserRequestDto(
+                "Tagger", "tagger-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+        UUID redOnly = createTask(user, List.of(red));
+        UUID both = createTask(user, List.of(red, blue));
+        UUID blueOnly = createTask(user, List.of(blue));
+        UUID bothAgain = createTask(user, List.of(blue, red));
+        createTask(user, List.of());
+
+        assertEquals(List.of(bothAgain, both), pageThrough(red + "," + blue, TagMatch.ALL, 1));
+        assertEquals(List.of(bothAgain, blueOnly, both, redOnly), pageThrough(red + "," + blue, TagMatch.ANY, 3));
+        assertEquals(List.of(bothAgain, blueOnly, both, redOnly), pageThrough(red + "," + blue, TagMatch.ANY, 1));
+        assertEquals(List.of(), pageThrough(red + ",missing-" + UUID.randomUUID(), TagMatch.ALL, 2));
+    }
+
+    @Test
+    void ordinalsFollowCreatedAtThenStoredIdOrder() {
+        // A private index, so the made-up tasks below never reach the shared one.
+        TagIndex index = new TagIndex(taskRepository, transactionTemplate, properties);
+        index.build();
+        String tag = "ordered-" + UUID.randomUUID();
+        LocalDateTime older = LocalDateTime.now().plusYears(100);
+        LocalDateTime newer = older.plusMinutes(1);
+        // Signed UUID comparison would put the 0x80... id first.
+        UUID low = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+        UUID high = UUID.fromString("80000000-0000-0000-0000-000000000000");
+
+        index.indexAfterCommit(low, newer, List.of(tag));
+        index.indexAfterCommit(high, newer, List.of(tag));
+        assertEquals(List.of(high, low), index.find(List.of(tag), TagMatch.ALL, null, 10));
+
+        UUID late = UUID.randomUUID();
+        index.indexAfterCommit(late, older, List.of(tag));
+        assertNull(index.find(List.of(tag), TagMatch.ALL, null, 10), "out of order until renumbered");
+
+        index.refresh();
+        assertEquals(List.of(high, low, late), index.find(List.of(tag), TagMatch.ALL, null, 10));
+        assertEquals(List.of(low, late), index.find(List.of(tag), TagMatch.ALL, high, 10));
+        assertEquals(List.of(late), index.find(List.of(tag), TagMatch.ANY, low, 10));
+    }
+
+    private List<UUID> pageThrough(String tags, TagMatch match, int limit) throws Exception {
+        List<UUID> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/api/tasks/search/by-tags")
+                    .param("tags", tags)
+                    .param("match", match.name())
+                    .param("limit", String.valueOf(limit));
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode page = objectMapper.readTree(body);
+            page.get("items").forEach(item -> ids.add(UUID.fromString(item.get("id").asString())));
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asString() : null;
+        } while (cursor != null);
+        return ids;
+    }
+
+    private UUID createTask(UUID user, List<String> tags) {
+        return taskService.createTask(new CreateTaskRequestDto(
+                "Tagged", "Tagged task", user, null, Priority.MEDIUM, null, tags)).getId();
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.TaskManagement.search;
+
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.dto.UpdateTaskStatusRequestDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.pagination.TextCursor;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class TextIndexTest {
+
+    @Autowired
+    private TextIndex textIndex;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    private UUID user;
+
+    @BeforeEach
+    void waitForIndex() throws InterruptedException {
+        await(textIndex::isReady);
+        user = userService.createUser(new CreateUserRequestDto(
+                "Searcher", "searcher-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+    }
+
+    @Test
+    void titleMatchesRankAboveDescriptionMatches() throws InterruptedException {
+        String word = word();
+        UUID inDescription = createTask("Unrelated", "Mentions " + word + " in passing", Priority.LOW);
+        UUID inTitle = createTask("About " + word, "Nothing else", Priority.LOW);
+
+        await(() -> find(word, List.of(), List.of()).size() == 2);
+
+        assertEquals(List.of(inTitle, inDescription), find(word, List.of(), List.of()));
+    }
+
+    @Test
+    void everyWordMustMatchAndFiltersApply() throws InterruptedException {
+        String word = word();
+        String other = word();
+        UUID high = createTask(word + " " + other, "Both words", Priority.HIGH);
+        UUID low = createTask(word, "One word", Priority.LOW);
+        UUID started = createTask(word, "Started", Priority.LOW);
+        taskService.updateTaskStatus(started, new UpdateTaskStatusRequestDto(TaskStatus.IN_PROGRESS), user, null);
+
+        await(() -> find(word, List.of(TaskStatus.IN_PROGRESS), List.of()).equals(List.of(started)));
+
+        assertEquals(List.of(high), find(word + " " + other, List.of(), List.of()));
+        assertEquals(List.of(high), find(word, List.of(), List.of(Priority.HIGH)));
+        assertEquals(Set.of(high, low), Set.copyOf(find(word, List.of(TaskStatus.OPEN), List.of())));
+        assertEquals(List.of(low), find(word, List.of(TaskStatus.OPEN), List.of(Priority.LOW)));
+    }
+
+    @Test
+    void pagesContinueFromTheCursorWithoutGapsOrDuplicates() throws InterruptedException {
+        String word = word();
+        Set<UUID> created = new HashSet<>();
+        for (int i = 0; i < 7; i++) {
+            // Varying lengths spread the scores, while equal ones tie.
+            created.add(createTask(i % 2 == 0 ? word : word + " and more", "Paged " + i, Priority.MEDIUM));
+        }
+        await(() -> find(word, List.of(), List.of()).size() == created.size());
+        List<UUID> single = find(word, List.of(), List.of());
+
+        for (int limit : new int[]{1, 2, 3}) {
+            List<UUID> paged = new ArrayList<>();
+            TextCursor after = null;
+            List<TextIndex.Hit> page;
+            do {
+                page = textIndex.find(word, List.of(), List.of(), after, limit);
+                page.forEach(hit -> paged.add(hit.taskId()));
+                if (!page.isEmpty()) {
+                    TextIndex.Hit last = page.getLast();
+                    after = new TextCursor(last.score(), last.taskId());
+                }
+            } while (page.size() == limit);
+            assertEquals(single, paged, "pages of " + limit);
+        }
+        assertEquals(created, Set.copyOf(single));
+    }
+
+    @Test
+    void tasksChangedDuringARebuildAreIndexed() throws Exception {
+        String word = word();
+        Set<UUID> created = new HashSet<>();
+        created.add(createTask(word, "Before the rebuild", Priority.MEDIUM));
+
+        Thread rebuild = Thread.ofPlatform().start(textIndex::rebuild);
+        for (int i = 0; i < 10; i++) {
+            created.add(createTask(word, "During the rebuild " + i, Priority.MEDIUM));
+        }
+        rebuild.join();
+
+        await(() -> Set.copyOf(find(word, List.of(), List.of())).equals(created));
+    }
+
+    private List<UUID> find(String text, List<TaskStatus> statuses, List<Priority> priorities) {
+        return textIndex.find(text, statuses, priorities, null, 100).stream()
+                .map(TextIndex.Hit::taskId)
+                .toList();
+    }
+
+    private UUID createTask(String title, String description, Priority priority) {
+        return taskService.createTask(new CreateTaskRequestDto(
+                title, description, user, null, priority, null, List.of())).getId();
+    }
+
+    /**
+     * A word no other test uses, which the analyzer keeps whole.
+     */
+    private static String word() {
+        return "w" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out waiting for the text index");
+            Thread.sleep(20);
+        }
+    }
+}
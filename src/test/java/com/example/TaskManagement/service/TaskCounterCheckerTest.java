@@ -0,0 +1,64 @@
+package com.example.TaskManagement.service;
+
+import com.example.TaskManagement.dto.CounterDriftDto;
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class TaskCounterCheckerTest {
+
+    @Autowired
+    private TaskCounterChecker taskCounterChecker;
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void countersFollowTaskChangesAndDriftIsReported() {
+        UUID assignee = userService.createUser(new CreateUserRequestDto(
+                "Counted", "counted-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+        for (int i = 0; i < 2; i++) {
+            taskService.createTask(new CreateTaskRequestDto(
+                    "Counted " + i, "Counted task", assignee, assignee, Priority.LOW, null, List.of()));
+        }
+        String key = TaskCounterDeltas.assigneeKey(assignee);
+
+        assertEquals(2, taskSearchService.countTasksAssignedTo(assignee));
+        assertTrue(driftOf(key).isEmpty());
+
+        jdbcTemplate.update("UPDATE task_counters SET task_count = 5 WHERE counter_key = ?", key);
+        try {
+            assertEquals(List.of(new CounterDriftDto(key, 5, 2)), driftOf(key));
+        } finally {
+            jdbcTemplate.update("UPDATE task_counters SET task_count = 2 WHERE counter_key = ?", key);
+        }
+        assertTrue(driftOf(key).isEmpty());
+    }
+
+    private List<CounterDriftDto> driftOf(String key) {
+        return taskCounterChecker.findDrift().stream()
+                .filter(drift -> drift.getCounterKey().equals(key))
+                .toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.TaskManagement.service;
+
+import com.example.TaskManagement.enums.TaskStatus;
+import com.example.TaskManagement.model.Task;
+import com.example.TaskManagement.model.User;
+import com.example.TaskManagement.service.TaskCounterDeltas.CountedState;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskCounterDeltasTest {
+
+    private static final LocalDate DUE = LocalDate.of(2030, 1, 15);
+
+    @Test
+    void createdTaskCountsInEveryDimension() {
+        UUID assignee = UUID.randomUUID();
+
+        Map<String, Long> deltas = new TaskCounterDeltas()
+                .created(new CountedState(TaskStatus.OPEN, assignee, DUE))
+                .nonZero();
+
+        assertEquals(Map.of(
+                "status:OPEN", 1L,
+                "assignee:" + assignee, 1L,
+                "open-due:2030-01-15", 1L), deltas);
+    }
+
+    @Test
+    void closedAndUnassignedTasksOnlyCountByStatus() {
+        Map<String, Long> deltas = new TaskCounterDeltas()
+                .created(new CountedState(TaskStatus.COMPLETED, null, DUE))
+                .nonZero();
+
+        assertEquals(Map.of("status:COMPLETED", 1L), deltas);
+    }
+
+    @Test
+    void completingATaskMovesItsStatusAndLeavesTheOpenDueCount() {
+        UUID assignee = UUID.randomUUID();
+        Task after = task(TaskStatus.COMPLETED, assignee, DUE);
+
+        Map<String, Long> deltas = new TaskCounterDeltas()
+                .changed(new CountedState(TaskStatus.IN_PROGRESS, assignee, DUE), after)
+                .nonZero();
+
+        assertEquals(Map.of(
+                "status:IN_PROGRESS", -1L,
+                "status:COMPLETED", 1L,
+                "open-due:2030-01-15", -1L), deltas);
+    }
+
+    @Test
+    void changesThatCancelOutAreDroppedAndKeysStaySorted() {
+        UUID first = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID second = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+        Map<String, Long> deltas = new TaskCounterDeltas()
+                .changed(new CountedState(TaskStatus.OPEN, first, null), task(TaskStatus.OPEN, second, null))
+                .changed(new CountedState(TaskStatus.OPEN, second, null), task(TaskStatus.OPEN, first, null))
+                .changed(new CountedState(TaskStatus.OPEN, second, null), task(TaskStatus.OPEN, first, null))
+                .nonZero();
+
+        assertEquals(List.of("assignee:" + first, "assignee:" + second), List.copyOf(deltas.keySet()));
+        assertEquals(1L, deltas.get("assignee:" + first));
+        assertEquals(-1L, deltas.get("assignee:" + second));
+    }
+
+    private static Task task(TaskStatus status, UUID assigneeId, LocalDate dueDate) {
+        Task task = new Task();
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+        if (assigneeId != null) {
+            User assignee = new User();
+            assignee.setId(assigneeId);
+            task.setAssignedTo(assignee);
+        }
+        return task;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.TaskManagement.service;
+
+import com.example.TaskManagement.converter.TaskConverter;
+import com.example.TaskManagement.dto.AddCommentRequestDto;
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.dto.TaskResponseDto;
+import com.example.TaskManagement.enums.Priority;
+import com.example.TaskManagement.enums.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Statistics are global, so keep the text index's background writer from adding to them.
+@SpringBootTest(properties = "task.text-index.enabled=false")
+class TaskSearchQueryCountTest {
+
+    private static final int MAX_STATEMENTS_PER_PAGE = 6;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void searchPageCostsFixedNumberOfQueries() {
+        long smallPage = statementsToLoadPageOf(5);
+        long largePage = statementsToLoadPageOf(40);
+
+        assertTrue(largePage <= MAX_STATEMENTS_PER_PAGE,
+                "Loading a page issued " + largePage + " statements");
+        assertEquals(smallPage, largePage);
+    }
+
+    private long statementsToLoadPageOf(int taskCount) {
+        UUID creator = createUser("creator");
+        for (int i = 0; i < taskCount; i++) {
+            UUID assignee = createUser("assignee-" + i);
+            UUID taskId = taskService.createTask(new CreateTaskRequestDto(
+                    "Task " + i, "Description " + i, creator, assignee,
+                    Priority.HIGH, null, List.of("backend", "tag-" + i))).getId();
+            taskService.addComment(taskId, new AddCommentRequestDto(createUser("commenter-" + i), "First"));
+            taskService.addComment(taskId, new AddCommentRequestDto(assignee, "Second"));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<TaskResponseDto> page = transactionTemplate.execute(status ->
+                taskSearchService.getAllTasksCreatedBy(creator, TaskReader.entities(), null, 50).getItems().stream()
+                        .map(TaskConverter::toTaskRespone)
+                        .toList());
+
+        assertEquals(taskCount, page.size());
+        page.forEach(task -> {
+            assertEquals(2, task.getTags().size());
+            assertEquals(2, task.getCommentCount());
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private UUID createUser(String name) {
+        String email = name + "-" + UUID.randomUUID() + "@example.com";
+        return userService.createUser(new CreateUserRequestDto(name, email, Role.DEVELOPER)).getId();
+    }
+}
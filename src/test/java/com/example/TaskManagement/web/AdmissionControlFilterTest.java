@@ -0,0 +1,40 @@
+package com.example.TaskManagement.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withBean(AdmissionProperties.class)
+            .withBean(ObjectMapper.class, () -> JsonMapper.builder().build())
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withUserConfiguration(AdmissionControlFilter.class);
+
+    @Test
+    void offByDefaultOnPlatformThreads() {
+        runner.run(context -> assertThat(context).doesNotHaveBean(AdmissionControlFilter.class));
+        runner.withPropertyValues("spring.threads.virtual.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(AdmissionControlFilter.class));
+    }
+
+    @Test
+    void onByDefaultWithVirtualThreads() {
+        runner.withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> assertThat(context).hasSingleBean(AdmissionControlFilter.class));
+    }
+
+    @Test
+    void explicitSettingWins() {
+        runner.withPropertyValues("task.admission.enabled=true")
+                .run(context -> assertThat(context).hasSingleBean(AdmissionControlFilter.class));
+        runner.withPropertyValues("spring.threads.virtual.enabled=true", "task.admission.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(AdmissionControlFilter.class));
+    }
+}
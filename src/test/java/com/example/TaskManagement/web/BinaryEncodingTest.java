@@ -0,0 +1,78 @@
+package com.example.TaskManagement.web;
+
+import com.example.TaskManagement.dto.CreateTaskRequestDto;
+import com.example.TaskManagement.dto.CreateUserRequestDto;
+import com.example.TaskManagement.dto.TaskResponseDto;
+import com.example.TaskManagement.enums.Role;
+import com.example.TaskManagement.service.TaskService;
+import com.example.TaskManagement.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BinaryEncodingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private CBORMapper cborMapper;
+
+    @Autowired
+    private SmileMapper smileMapper;
+
+    @Test
+    void tasksAreServedInTheEncodingTheClientAccepts() throws Exception {
+        UUID user = userService.createUser(new CreateUserRequestDto(
+                "encoder", "encoder-" + UUID.randomUUID() + "@example.com", Role.DEVELOPER)).getId();
+        UUID taskId = taskService.createTask(new CreateTaskRequestDto(
+                "Encoded", "Sent as CBOR or Smile", user, user, null, LocalDate.now(), List.of("binary"))).getId();
+
+        MockHttpServletResponse json = fetch(taskId, "application/json");
+        MockHttpServletResponse cbor = fetch(taskId, "application/cbor");
+        MockHttpServletResponse smile = fetch(taskId, "application/x-jackson-smile");
+
+        assertEquals("application/cbor", cbor.getContentType());
+        assertEquals("application/x-jackson-smile", smile.getContentType());
+        TaskResponseDto expected = decode(jsonMapper, json);
+        assertEquals(expected, decode(cborMapper, cbor));
+        assertEquals(expected, decode(smileMapper, smile));
+        assertTrue(cbor.getContentAsByteArray().length < json.getContentAsByteArray().length);
+        assertTrue(smile.getContentAsByteArray().length < json.getContentAsByteArray().length);
+    }
+
+    private MockHttpServletResponse fetch(UUID taskId, String accept) throws Exception {
+        return mockMvc.perform(get("/api/tasks/{id}", taskId).header("Accept", accept))
+                .andReturn().getResponse();
+    }
+
+    private static TaskResponseDto decode(ObjectMapper mapper, MockHttpServletResponse response) throws Exception {
+        return mapper.readValue(response.getContentAsByteArray(), TaskResponseDto.class);
+    }
+}